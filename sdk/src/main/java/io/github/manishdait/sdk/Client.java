@@ -2,46 +2,94 @@ package io.github.manishdait.sdk;
 
 import io.github.manishdait.sdk.account.Account;
 import io.github.manishdait.sdk.account.AccountId;
+import io.github.manishdait.sdk.address_book.AddressBookCache;
+import io.github.manishdait.sdk.address_book.AddressBookQuery;
+import io.github.manishdait.sdk.address_book.NodeAddress;
 import io.github.manishdait.sdk.internal.Config;
+import io.github.manishdait.sdk.internal.ExecutionTracker;
+import io.github.manishdait.sdk.internal.Futures;
 import io.github.manishdait.sdk.internal.network.NetworkConstant;
 import io.github.manishdait.sdk.key.PrivateKey;
+import io.github.manishdait.sdk.network.ChannelFactory;
 import io.github.manishdait.sdk.network.Network;
 import io.github.manishdait.sdk.network.NetworkType;
 import io.github.manishdait.sdk.network.Node;
+import io.github.manishdait.sdk.query.AccountQueryCache;
 import io.grpc.ManagedChannel;
-import io.grpc.ManagedChannelBuilder;
+import java.io.UncheckedIOException;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
 
 /** Client for Hiero network containing the operator account and network information. */
-public class Client {
+public class Client implements AutoCloseable {
   private int maxAttempts = Config.DEFAULT_MAX_ATTEMPTS;
   private Duration minBackoff = Config.DEFAULT_MIN_BACKOFF;
   private Duration maxBackoff = Config.DEFAULT_MAX_BACKOFF;
   private Duration grpcTimeout = Config.DEFAULT_GRPC_TIMEOUT;
   private Duration requestTimeout = Config.DEFAULT_REQUEST_TIMEOUT;
+  private Duration networkUpdatePeriod = Config.DEFAULT_NETWORK_UPDATE_PERIOD;
 
   private Account operatorAccount;
+  private AccountQueryCache accountQueryCache;
+  private volatile AddressBookCache addressBookCache;
   private final Network network;
 
+  private final ChannelFactory channelFactory;
+  private final boolean ownsChannelFactory;
   private final ManagedChannel mirrorChannel;
+  private final ExecutionTracker executionTracker = new ExecutionTracker();
+
+  private ScheduledExecutorService networkUpdater;
+  private ScheduledFuture<?> networkUpdate;
+  private volatile Consumer<RuntimeException> networkUpdateErrorHandler =
+      Client::logNetworkUpdateError;
 
   /**
    * Constructor.
    *
    * @param network type of {@code Network} for which the client must create
+   * @param channelFactory the factory used to create every node and mirror channel
+   * @param ownsChannelFactory whether closing the client also closes the factory
+   * @param addressBookCache the cache to start from and store fetched address books in, or {@code
+   *     null} to always fetch the address book from the mirror node
    */
-  private Client(@NonNull final Network network) {
+  private Client(
+      @NonNull final Network network,
+      @NonNull final ChannelFactory channelFactory,
+      final boolean ownsChannelFactory,
+      @Nullable final AddressBookCache addressBookCache) {
     Objects.requireNonNull(network, "network must not be null");
+    Objects.requireNonNull(channelFactory, "channelFactory must not be null");
 
     this.network = network;
+    this.channelFactory = channelFactory;
+    this.ownsChannelFactory = ownsChannelFactory;
     this.mirrorChannel =
-        ManagedChannelBuilder.forTarget(Config.MIRROR_NODE_ADDRESS.get(network.getNetworkType()))
-            .build();
+        channelFactory.createChannel(
+            Config.MIRROR_NODE_ADDRESS.get(network.getNetworkType()), false);
 
     if (network.getNetworkType() != NetworkType.SOLO) {
-      this.network.setNodes(this);
+      this.addressBookCache = addressBookCache;
+      this.loadNetwork();
+      this.scheduleNetworkUpdate();
+    } else {
+      this.network.setNodes(defaultNodes(NetworkType.SOLO));
+    }
+
+    if (channelFactory.isEagerConnect()) {
+      this.warmUpAsync(Config.DEFAULT_WARM_UP_TIMEOUT);
     }
   }
 
@@ -107,13 +155,255 @@ public class Client {
     return this;
   }
 
+  public @Nullable Duration getNetworkUpdatePeriod() {
+    return networkUpdatePeriod;
+  }
+
+  /**
+   * Set how often the address book is fetched from the mirror node in the background to pick up
+   * node changes, or disable the background update with {@code null}.
+   *
+   * @param networkUpdatePeriod the delay between two updates
+   * @return this {@code Client}
+   */
+  public Client withNetworkUpdatePeriod(@Nullable final Duration networkUpdatePeriod) {
+    if (networkUpdatePeriod != null
+        && (networkUpdatePeriod.isNegative() || networkUpdatePeriod.isZero())) {
+      throw new IllegalArgumentException("networkUpdatePeriod must be greater than 0");
+    }
+
+    this.networkUpdatePeriod = networkUpdatePeriod;
+    this.scheduleNetworkUpdate();
+    return this;
+  }
+
+  /**
+   * Set what happens when a background address book update fails. The current node set is kept
+   * either way and the next update tries again. By default the failure is logged as a warning.
+   *
+   * @param networkUpdateErrorHandler called with the failure of each background update
+   * @return this {@code Client}
+   */
+  public Client withNetworkUpdateErrorHandler(
+      @NonNull final Consumer<RuntimeException> networkUpdateErrorHandler) {
+    Objects.requireNonNull(networkUpdateErrorHandler, "networkUpdateErrorHandler must not be null");
+    this.networkUpdateErrorHandler = networkUpdateErrorHandler;
+    return this;
+  }
+
+  /**
+   * Get the cache the address book is stored in after every fetch from the mirror node.
+   *
+   * @return the {@code AddressBookCache}, or {@code null} if the address book is not cached
+   */
+  public @Nullable AddressBookCache getAddressBookCache() {
+    return addressBookCache;
+  }
+
+  /**
+   * Store every address book fetched from now on in the given cache, or stop caching with {@code
+   * null}. Clients do not touch the disk unless a cache is set. To also start from the cache, pass
+   * it to {@link #forNetwork(NetworkType, ChannelFactory, AddressBookCache)} instead.
+   *
+   * @param addressBookCache the cache to store address books in
+   * @return this {@code Client}
+   */
+  public Client withAddressBookCache(@Nullable final AddressBookCache addressBookCache) {
+    this.addressBookCache = addressBookCache;
+    return this;
+  }
+
+  /**
+   * Fetch the address book from the mirror node and swap in the updated node set, blocking until
+   * the stream completes.
+   *
+   * @see #updateNetworkAsync()
+   */
+  public void updateNetwork() {
+    Futures.join(updateNetworkAsync());
+  }
+
+  /**
+   * Stream the address book from the mirror node, admitting each node account into the network as
+   * soon as it arrives.
+   *
+   * <p>Once the stream completes, nodes missing from the address book are removed and the address
+   * book replaces the cached one. Nodes whose endpoint did not change keep their open channels. If
+   * the stream ends early, the nodes admitted so far stay and nothing is removed.
+   *
+   * @return a future completing once the whole address book has been applied
+   */
+  public @NonNull CompletableFuture<Void> updateNetworkAsync() {
+    return updateNetworkAsync(address -> {});
+  }
+
+  private CompletableFuture<Void> updateNetworkAsync(final Consumer<NodeAddress> onAdmitted) {
+    final var transportSecurity = this.channelFactory.isTransportSecurity();
+
+    return new AddressBookQuery()
+        .executeAsync(
+            this,
+            address -> {
+              if (this.network.admit(address, transportSecurity)) {
+                onAdmitted.accept(address);
+              }
+            })
+        .thenAccept(
+            addressBook -> {
+              this.network.setAddressBook(addressBook, transportSecurity);
+
+              final var cache = this.addressBookCache;
+              if (cache != null) {
+                try {
+                  cache.store(addressBook);
+                } catch (UncheckedIOException e) {
+                  // The cache only speeds up the next start, the client works without it
+                }
+              }
+            });
+  }
+
+  private void updateNetworkQuietly() {
+    try {
+      updateNetwork();
+    } catch (RuntimeException e) {
+      // Keep the current node set, the next update tries again
+      try {
+        this.networkUpdateErrorHandler.accept(e);
+      } catch (RuntimeException ignored) {
+        // A failing handler must not cancel the scheduled updates
+      }
+    }
+  }
+
+  private static void logNetworkUpdateError(final RuntimeException error) {
+    System.getLogger(Client.class.getName())
+        .log(System.Logger.Level.WARNING, "Address book update failed", error);
+  }
+
+  /**
+   * Load the initial node set without depending on the mirror node being reachable.
+   *
+   * <p>A cached address book, if the client has a cache, is used right away and refreshed in the
+   * background. Without one, the address book is streamed from the mirror node and the client
+   * starts once the first few node accounts are admitted. If no node arrives, the client starts
+   * from the built-in nodes of the network.
+   */
+  private void loadNetwork() {
+    final var cache = this.addressBookCache;
+    final var cached = cache != null ? cache.load() : List.<NodeAddress>of();
+
+    if (!cached.isEmpty()) {
+      try {
+        this.network.setAddressBook(cached, this.channelFactory.isTransportSecurity());
+        getNetworkUpdater().execute(this::updateNetworkQuietly);
+        return;
+      } catch (RuntimeException e) {
+        // The cached address book has no usable endpoint, fetch a fresh one
+      }
+    }
+
+    // Start as soon as a few node accounts are admitted, the rest keep streaming in
+    final var admitted = new AtomicInteger();
+    final var startupNodes = new CompletableFuture<Void>();
+    final var update =
+        updateNetworkAsync(
+            address -> {
+              if (admitted.incrementAndGet() >= Config.DEFAULT_MIN_STARTUP_NODES) {
+                startupNodes.complete(null);
+              }
+            });
+
+    try {
+      CompletableFuture.anyOf(startupNodes, update).join();
+    } catch (CompletionException e) {
+      // Nodes admitted before the stream failed are kept
+    }
+
+    if (this.network.getNodes().isEmpty()) {
+      this.network.setNodes(defaultNodes(this.network.getNetworkType()));
+    }
+  }
+
+  /**
+   * Copy the built-in nodes of a network. A node keeps the channel of the first client that used
+   * it, so every client needs its own nodes.
+   */
+  private static List<Node> defaultNodes(final NetworkType networkType) {
+    return NetworkConstant.DEFAULT_NODES.get(networkType).stream()
+        .map(node -> new Node(node.getAddress(), node.getPort(), node.getAccountId()))
+        .toList();
+  }
+
+  private synchronized ScheduledExecutorService getNetworkUpdater() {
+    if (this.networkUpdater == null) {
+      this.networkUpdater =
+          Executors.newSingleThreadScheduledExecutor(
+              Thread.ofPlatform().name("hiero-network-update").daemon().factory());
+    }
+    return this.networkUpdater;
+  }
+
+  private synchronized void scheduleNetworkUpdate() {
+    if (this.networkUpdate != null) {
+      this.networkUpdate.cancel(false);
+      this.networkUpdate = null;
+    }
+
+    if (this.networkUpdatePeriod == null
+        || this.network.getNetworkType() == NetworkType.SOLO
+        || this.executionTracker.isClosed()
+        || (this.networkUpdater != null && this.networkUpdater.isShutdown())) {
+      return;
+    }
+
+    final long period = this.networkUpdatePeriod.toNanos();
+    this.networkUpdate =
+        getNetworkUpdater()
+            .scheduleWithFixedDelay(
+                this::updateNetworkQuietly, period, period, TimeUnit.NANOSECONDS);
+  }
+
+  public @Nullable AccountQueryCache getAccountQueryCache() {
+    return accountQueryCache;
+  }
+
+  /**
+   * Enable read-through caching of account balance and info queries, or disable it with {@code
+   * null}.
+   *
+   * <p>Accounts touched by a transfer, update or delete are invalidated when {@link
+   * io.github.manishdait.sdk.transaction.TransactionResponse#queryReceipt()} returns a successful
+   * receipt, since only then has the change reached consensus. A transaction whose receipt is never
+   * fetched invalidates nothing, so callers that send without fetching receipts must call {@link
+   * AccountQueryCache#invalidate(AccountId)} themselves or read stale state for up to the TTL.
+   *
+   * @param accountQueryCache the cache to use
+   * @return this {@code Client}
+   */
+  public Client withAccountQueryCache(@Nullable final AccountQueryCache accountQueryCache) {
+    this.accountQueryCache = accountQueryCache;
+    return this;
+  }
+
   /**
    * Create a client for testnet.
    *
    * @return the new instance of {@code Client}
    */
   public @NonNull static Client forTestnet() {
-    return new Client(new Network(NetworkType.TESTNET));
+    return new Client(new Network(NetworkType.TESTNET), new ChannelFactory(), true, null);
+  }
+
+  /**
+   * Create a client for testnet whose channels are created by the given factory. The factory is not
+   * closed with the client, so it can be shared by several clients.
+   *
+   * @param channelFactory the factory used to create every node and mirror channel
+   * @return the new instance of {@code Client}
+   */
+  public @NonNull static Client forTestnet(@NonNull final ChannelFactory channelFactory) {
+    return new Client(new Network(NetworkType.TESTNET), channelFactory, false, null);
   }
 
   /**
@@ -122,7 +412,18 @@ public class Client {
    * @return the new instance of {@code Client}
    */
   public @NonNull static Client forMainnet() {
-    return new Client(new Network(NetworkType.MAINNET));
+    return new Client(new Network(NetworkType.MAINNET), new ChannelFactory(), true, null);
+  }
+
+  /**
+   * Create a client for mainnet whose channels are created by the given factory. The factory is not
+   * closed with the client, so it can be shared by several clients.
+   *
+   * @param channelFactory the factory used to create every node and mirror channel
+   * @return the new instance of {@code Client}
+   */
+  public @NonNull static Client forMainnet(@NonNull final ChannelFactory channelFactory) {
+    return new Client(new Network(NetworkType.MAINNET), channelFactory, false, null);
   }
 
   /**
@@ -131,7 +432,40 @@ public class Client {
    * @return the new instance of {@code Client}
    */
   public @NonNull static Client forPreviewnet() {
-    return new Client(new Network(NetworkType.PREVIEWNET));
+    return new Client(new Network(NetworkType.PREVIEWNET), new ChannelFactory(), true, null);
+  }
+
+  /**
+   * Create a client for previewnet whose channels are created by the given factory. The factory is
+   * not closed with the client, so it can be shared by several clients.
+   *
+   * @param channelFactory the factory used to create every node and mirror channel
+   * @return the new instance of {@code Client}
+   */
+  public @NonNull static Client forPreviewnet(@NonNull final ChannelFactory channelFactory) {
+    return new Client(new Network(NetworkType.PREVIEWNET), channelFactory, false, null);
+  }
+
+  /**
+   * Create a client whose channels are created by the given factory and that starts from a cached
+   * address book. The factory is not closed with the client, so it can be shared by several
+   * clients.
+   *
+   * <p>With a cache, the client starts from the last stored address book without waiting for the
+   * mirror node, and stores every address book it fetches. {@link
+   * AddressBookCache#forNetwork(NetworkType)} keeps it under the user's home directory.
+   *
+   * @param networkType the network to connect to
+   * @param channelFactory the factory used to create every node and mirror channel
+   * @param addressBookCache the cache to start from and store address books in, or {@code null}
+   * @return the new instance of {@code Client}
+   */
+  public @NonNull static Client forNetwork(
+      @NonNull final NetworkType networkType,
+      @NonNull final ChannelFactory channelFactory,
+      @Nullable final AddressBookCache addressBookCache) {
+    Objects.requireNonNull(networkType, "networkType must not be null");
+    return new Client(new Network(networkType), channelFactory, false, addressBookCache);
   }
 
   /**
@@ -143,9 +477,8 @@ public class Client {
     String accountId = System.getenv("HIERO_ACCOUNT_ID");
     String privateKey = System.getenv("HIERO_PRIVATE_KEY");
 
-    Client client = new Client(new Network(NetworkType.SOLO));
+    Client client = new Client(new Network(NetworkType.SOLO), new ChannelFactory(), true, null);
     client.setOperatorAccount(AccountId.fromString(accountId), PrivateKey.fromString(privateKey));
-    client.network.setNodes(NetworkConstant.DEFAULT_NODES.get(NetworkType.SOLO));
     return client;
   }
 
@@ -190,6 +523,57 @@ public class Client {
     return this.network.getNode();
   }
 
+  /**
+   * Connect to every node of the network in parallel and wait until they are ready, so the first
+   * request does not pay for DNS, TCP, TLS and HTTP/2 setup.
+   *
+   * @param timeout how long to wait for the nodes to become ready
+   * @return the nodes that did not become ready within the timeout
+   */
+  public @NonNull List<Node> warmUp(@NonNull final Duration timeout) {
+    return warmUpAsync(timeout).join();
+  }
+
+  /**
+   * Connect to every node of the network in parallel without blocking.
+   *
+   * @param timeout how long to wait for the nodes to become ready
+   * @return a future of the nodes that did not become ready within the timeout
+   */
+  public @NonNull CompletableFuture<List<Node>> warmUpAsync(@NonNull final Duration timeout) {
+    Objects.requireNonNull(timeout, "timeout must not be null");
+
+    final var nodes = this.network.getNodes();
+    final var connections = new ArrayList<CompletableFuture<Boolean>>(nodes.size());
+
+    for (var node : nodes) {
+      CompletableFuture<Void> connection;
+      try {
+        connection = node.connect(this.channelFactory);
+      } catch (RuntimeException e) {
+        // A node that cannot be connected, e.g. closed or lacking a certificate hash, failed
+        connection = CompletableFuture.failedFuture(e);
+      }
+
+      connections.add(
+          connection
+              .orTimeout(timeout.toNanos(), TimeUnit.NANOSECONDS)
+              .handle((ignored, error) -> error == null));
+    }
+
+    return CompletableFuture.allOf(connections.toArray(CompletableFuture[]::new))
+        .thenApply(
+            ignored -> {
+              final var failed = new ArrayList<Node>();
+              for (int i = 0; i < nodes.size(); i++) {
+                if (!connections.get(i).join()) {
+                  failed.add(nodes.get(i));
+                }
+              }
+              return List.copyOf(failed);
+            });
+  }
+
   /**
    * Get operator account id for the client.
    *
@@ -217,6 +601,15 @@ public class Client {
     return this.network;
   }
 
+  /**
+   * Get the factory that creates the channels of this client.
+   *
+   * @return {@code ChannelFactory}
+   */
+  public @NonNull ChannelFactory getChannelFactory() {
+    return this.channelFactory;
+  }
+
   /**
    * Get mirror channel for the client.
    *
@@ -225,4 +618,72 @@ public class Client {
   public @NonNull ManagedChannel getMirrorChannel() {
     return this.mirrorChannel;
   }
+
+  /**
+   * Get the tracker that executions register with while they are in flight.
+   *
+   * @return {@code ExecutionTracker}
+   */
+  public @NonNull ExecutionTracker getExecutionTracker() {
+    return this.executionTracker;
+  }
+
+  /**
+   * Close the client, waiting up to {@link Config#DEFAULT_CLOSE_TIMEOUT} for in-flight requests.
+   *
+   * @see #close(Duration)
+   */
+  @Override
+  public void close() {
+    close(Config.DEFAULT_CLOSE_TIMEOUT);
+  }
+
+  /**
+   * Close the client.
+   *
+   * <p>New requests are rejected immediately and the background network update stops. Requests
+   * already in flight are given until the deadline to finish, then every node of this client's
+   * network and the mirror channel are shut down and awaited with whatever time remains, and forced
+   * closed if they do not terminate. Closed nodes never reconnect. Finally the event loop and
+   * executor of the channel factory are released, unless the factory was supplied by the caller.
+   *
+   * @param timeout the deadline for draining requests and terminating channels
+   */
+  public void close(@NonNull final Duration timeout) {
+    Objects.requireNonNull(timeout, "timeout must not be null");
+
+    final long deadline = System.nanoTime() + timeout.toNanos();
+    final var nodes = this.network.getNodes();
+
+    synchronized (this) {
+      if (this.networkUpdater != null) {
+        this.networkUpdater.shutdownNow();
+      }
+    }
+
+    try {
+      this.executionTracker.close(timeout);
+
+      for (var node : nodes) {
+        node.close();
+      }
+      this.mirrorChannel.shutdown();
+
+      for (var node : nodes) {
+        node.awaitTermination(Duration.ofNanos(deadline - System.nanoTime()));
+      }
+
+      if (!this.mirrorChannel.awaitTermination(
+          Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS)) {
+        this.mirrorChannel.shutdownNow();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      this.mirrorChannel.shutdownNow();
+    } finally {
+      if (this.ownsChannelFactory) {
+        this.channelFactory.close();
+      }
+    }
+  }
 }
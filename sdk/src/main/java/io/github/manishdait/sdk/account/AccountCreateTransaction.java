@@ -102,7 +102,6 @@ public class AccountCreateTransaction extends Transaction<AccountCreateTransacti
 
   @Override
   protected void buildTransaction(Client client) {
-    this.buildBaseTransaction(client);
     this.transactionBodyBuilder.setCryptoCreateAccount(this.toProto());
   }
 
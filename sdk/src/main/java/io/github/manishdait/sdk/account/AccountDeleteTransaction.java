@@ -54,7 +54,6 @@ public class AccountDeleteTransaction extends Transaction<AccountDeleteTransacti
   @Override
   protected void buildTransaction(@NonNull final Client client) {
     Objects.requireNonNull(client, "client must not be null");
-    this.buildBaseTransaction(client);
     this.transactionBodyBuilder.setCryptoDelete(this.toProto());
   }
 
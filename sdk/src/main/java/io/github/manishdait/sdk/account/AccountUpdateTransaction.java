@@ -113,7 +113,6 @@ public class AccountUpdateTransaction extends Transaction<AccountUpdateTransacti
 
   @Override
   protected void buildTransaction(@NonNull final Client client) {
-    this.buildBaseTransaction(client);
     this.transactionBodyBuilder.setCryptoUpdateAccount(this.toProto());
   }
 
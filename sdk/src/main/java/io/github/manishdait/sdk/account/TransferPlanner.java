@@ -0,0 +1,266 @@
+package io.github.manishdait.sdk.account;
+
+import io.github.manishdait.sdk.Client;
+import io.github.manishdait.sdk.Hbar;
+import io.github.manishdait.sdk.internal.Config;
+import io.github.manishdait.sdk.internal.Futures;
+import io.github.manishdait.sdk.key.PrivateKey;
+import io.github.manishdait.sdk.key.PublicKey;
+import io.github.manishdait.sdk.transaction.PackedTransaction;
+import io.github.manishdait.sdk.transaction.TransactionId;
+import io.github.manishdait.sdk.transaction.TransactionResponse;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Packs any number of hbar transfers into as few {@link TransferTransaction}s as the network's
+ * transfer list limit allows.
+ *
+ * <p>Transfers are first netted per account. Debits are then matched against credits in the order
+ * they were added, splitting an amount across transactions where needed, and a transaction is
+ * closed once the next match would take it over {@link #getMaxTransfersPerTransaction()} accounts.
+ * With a single payer, as in a payroll run, every transaction carries the payer and {@code
+ * maxTransfersPerTransaction - 1} payees, which is the fewest transactions possible.
+ */
+public final class TransferPlanner {
+  private final Map<AccountId, Long> transfers = new LinkedHashMap<>();
+  private int maxTransfersPerTransaction = Config.DEFAULT_MAX_TRANSFERS_PER_TRANSACTION;
+  private int maxInFlight = Config.DEFAULT_MAX_IN_FLIGHT_TRANSACTIONS;
+  private String memo;
+
+  public int getMaxTransfersPerTransaction() {
+    return maxTransfersPerTransaction;
+  }
+
+  /**
+   * Set the maximum number of accounts in the transfer list of one transaction.
+   *
+   * @param maxTransfersPerTransaction the network's transfer list limit
+   * @return this {@code TransferPlanner}
+   */
+  public TransferPlanner withMaxTransfersPerTransaction(final int maxTransfersPerTransaction) {
+    if (maxTransfersPerTransaction < 2) {
+      throw new IllegalArgumentException("maxTransfersPerTransaction must be at least 2");
+    }
+    this.maxTransfersPerTransaction = maxTransfersPerTransaction;
+    return this;
+  }
+
+  public int getMaxInFlight() {
+    return maxInFlight;
+  }
+
+  /**
+   * Set how many planned transactions {@link #send(Client, PrivateKey...)} submits before waiting
+   * for a response.
+   *
+   * @param maxInFlight the maximum number of transactions in flight
+   * @return this {@code TransferPlanner}
+   */
+  public TransferPlanner withMaxInFlight(final int maxInFlight) {
+    if (maxInFlight <= 0) {
+      throw new IllegalArgumentException("maxInFlight must be greater than 0");
+    }
+    this.maxInFlight = maxInFlight;
+    return this;
+  }
+
+  public String getMemo() {
+    return memo;
+  }
+
+  /**
+   * Set the memo of every planned transaction.
+   *
+   * @param memo the memo
+   * @return this {@code TransferPlanner}
+   */
+  public TransferPlanner withMemo(final String memo) {
+    this.memo = memo;
+    return this;
+  }
+
+  public TransferPlanner addTransfer(
+      @NonNull final AccountId accountId, @NonNull final Hbar amount) {
+    Objects.requireNonNull(amount, "amount must not be null");
+    return addTransfer(accountId, amount.getValueInTinybar());
+  }
+
+  /**
+   * Add an amount to an account's net transfer, debiting it when negative.
+   *
+   * @param accountId the account
+   * @param tinybar the amount in tinybar
+   * @return this {@code TransferPlanner}
+   */
+  public TransferPlanner addTransfer(@NonNull final AccountId accountId, final long tinybar) {
+    Objects.requireNonNull(accountId, "accountId must not be null");
+    transfers.merge(accountId, tinybar, Math::addExact);
+    return this;
+  }
+
+  /**
+   * Pay {@code tinybar} from {@code payer} to {@code payee}.
+   *
+   * @param payer the account debited
+   * @param payee the account credited
+   * @param tinybar the positive amount in tinybar
+   * @return this {@code TransferPlanner}
+   */
+  public TransferPlanner addPayout(
+      @NonNull final AccountId payer, @NonNull final AccountId payee, final long tinybar) {
+    if (tinybar <= 0) {
+      throw new IllegalArgumentException("tinybar must be greater than 0");
+    }
+    addTransfer(payer, Math.negateExact(tinybar));
+    return addTransfer(payee, tinybar);
+  }
+
+  /**
+   * Split the transfers added so far into transactions.
+   *
+   * @return the planned transactions, each balanced and within the transfer list limit
+   * @throws IllegalStateException if the transfers do not add up to zero
+   */
+  public List<TransferTransaction> plan() {
+    long sum = 0;
+    final var debits = new ArrayDeque<Remaining>();
+    final var credits = new ArrayDeque<Remaining>();
+
+    for (var transfer : transfers.entrySet()) {
+      final long amount = transfer.getValue();
+      sum = Math.addExact(sum, amount);
+
+      if (amount < 0) {
+        debits.add(new Remaining(transfer.getKey(), -amount));
+      } else if (amount > 0) {
+        credits.add(new Remaining(transfer.getKey(), amount));
+      }
+    }
+
+    if (sum != 0) {
+      throw new IllegalStateException("transfers must add up to 0, but add up to " + sum);
+    }
+
+    final var plan = new ArrayList<TransferTransaction>();
+    TransferTransaction current = null;
+
+    while (!debits.isEmpty()) {
+      final var debit = debits.peek();
+      final var credit = credits.peek();
+
+      if (current == null) {
+        current = newTransaction();
+      }
+
+      final var accounts = current.getHbarTransfers();
+      final var added =
+          (accounts.containsKey(debit.accountId) ? 0 : 1)
+              + (accounts.containsKey(credit.accountId) ? 0 : 1);
+
+      if (accounts.size() + added > maxTransfersPerTransaction) {
+        plan.add(current);
+        current = null;
+        continue;
+      }
+
+      final var amount = Math.min(debit.amount, credit.amount);
+      current.addHbarTransfer(debit.accountId, -amount);
+      current.addHbarTransfer(credit.accountId, amount);
+
+      debit.amount -= amount;
+      credit.amount -= amount;
+
+      if (debit.amount == 0) {
+        debits.poll();
+      }
+      if (credit.amount == 0) {
+        credits.poll();
+      }
+    }
+
+    if (current != null) {
+      plan.add(current);
+    }
+
+    return plan;
+  }
+
+  /**
+   * Plan and submit the transfers, blocking until the nodes have answered every transaction.
+   * Receipts are not awaited.
+   *
+   * @param client the client to send with
+   * @param signers the keys of debited accounts other than the operator
+   * @return the responses in plan order
+   */
+  public List<TransactionResponse> send(
+      @NonNull final Client client, @NonNull final PrivateKey... signers) {
+    return Futures.join(sendAsync(client, signers));
+  }
+
+  /**
+   * Plan the transfers and submit them with up to {@link #getMaxInFlight()} transactions in flight
+   * at once.
+   *
+   * <p>Each transaction is packed and signed only when its turn comes, so the last transactions of
+   * a large plan do not age while the first ones are submitted. A transaction whose node does not
+   * take it is packed again, with the same transaction id, for another node.
+   *
+   * @param client the client to send with
+   * @param signers the keys of debited accounts other than the operator
+   * @return a future of the responses in plan order, failing as soon as a transaction fails;
+   *     transactions not yet submitted by then are not sent
+   */
+  public CompletableFuture<List<TransactionResponse>> sendAsync(
+      @NonNull final Client client, @NonNull final PrivateKey... signers) {
+    Objects.requireNonNull(client, "client must not be null");
+    Objects.requireNonNull(signers, "signers must not be null");
+
+    final var publicKeys = new PublicKey[signers.length];
+    for (int i = 0; i < signers.length; i++) {
+      publicKeys[i] = signers[i].getPublicKey();
+    }
+
+    return Futures.all(
+        maxInFlight,
+        plan(),
+        transaction -> {
+          final var transactionId = TransactionId.fromAccountId(client.getOperatorAccountId());
+          return PackedTransaction.sendWithFailoverAsync(
+              client,
+              null,
+              node -> {
+                final var packed = transaction.pack(client, transactionId, node).signWithOperator();
+                for (int i = 0; i < signers.length; i++) {
+                  packed.signWith(signers[i], publicKeys[i]);
+                }
+                return packed;
+              });
+        });
+  }
+
+  private TransferTransaction newTransaction() {
+    final var transaction = new TransferTransaction();
+    if (memo != null) {
+      transaction.withMemo(memo);
+    }
+    return transaction;
+  }
+
+  private static final class Remaining {
+    private final AccountId accountId;
+    private long amount;
+
+    Remaining(final AccountId accountId, final long amount) {
+      this.accountId = accountId;
+      this.amount = amount;
+    }
+  }
+}
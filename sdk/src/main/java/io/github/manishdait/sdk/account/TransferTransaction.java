@@ -0,0 +1,109 @@
+package io.github.manishdait.sdk.account;
+
+import com.hedera.hashgraph.sdk.proto.AccountAmount;
+import com.hedera.hashgraph.sdk.proto.CryptoServiceGrpc;
+import com.hedera.hashgraph.sdk.proto.CryptoTransferTransactionBody;
+import com.hedera.hashgraph.sdk.proto.TransactionBody;
+import com.hedera.hashgraph.sdk.proto.TransactionResponse;
+import com.hedera.hashgraph.sdk.proto.TransferList;
+import io.github.manishdait.sdk.Client;
+import io.github.manishdait.sdk.Hbar;
+import io.github.manishdait.sdk.transaction.Transaction;
+import io.grpc.MethodDescriptor;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Moves hbar between any number of accounts in a single transaction.
+ *
+ * <p>Transfers to the same account are netted into one amount, since the network rejects a transfer
+ * list that repeats an account. The amounts must add up to zero when the transaction is packed. Use
+ * {@link TransferPlanner} to split more transfers than fit in one transaction.
+ */
+public class TransferTransaction extends Transaction<TransferTransaction> {
+  private final Map<AccountId, Long> hbarTransfers = new LinkedHashMap<>();
+
+  public TransferTransaction() {}
+
+  public Map<AccountId, Long> getHbarTransfers() {
+    return Collections.unmodifiableMap(hbarTransfers);
+  }
+
+  public TransferTransaction addHbarTransfer(
+      @NonNull final AccountId accountId, @NonNull final Hbar amount) {
+    Objects.requireNonNull(amount, "amount must not be null");
+    return addHbarTransfer(accountId, amount.getValueInTinybar());
+  }
+
+  /**
+   * Add an amount to an account's transfer, debiting it when negative.
+   *
+   * @param accountId the account
+   * @param tinybar the amount in tinybar
+   * @return this {@code TransferTransaction}
+   */
+  public TransferTransaction addHbarTransfer(
+      @NonNull final AccountId accountId, final long tinybar) {
+    Objects.requireNonNull(accountId, "accountId must not be null");
+
+    final var total = Math.addExact(hbarTransfers.getOrDefault(accountId, 0L), tinybar);
+    if (total == 0) {
+      hbarTransfers.remove(accountId);
+    } else {
+      hbarTransfers.put(accountId, total);
+    }
+    return this;
+  }
+
+  public CryptoTransferTransactionBody toProto() {
+    final var transfers = TransferList.newBuilder();
+    for (var transfer : hbarTransfers.entrySet()) {
+      transfers.addAccountAmounts(
+          AccountAmount.newBuilder()
+              .setAccountID(transfer.getKey().toProto())
+              .setAmount(transfer.getValue()));
+    }
+
+    return CryptoTransferTransactionBody.newBuilder().setTransfers(transfers).build();
+  }
+
+  @Override
+  public TransferTransaction fromProto(@NonNull final TransactionBody transactionBodyProto) {
+    Objects.requireNonNull(transactionBodyProto, "transactionBodyProto must not be null");
+
+    CryptoTransferTransactionBody proto = transactionBodyProto.getCryptoTransfer();
+    TransferTransaction transaction = new TransferTransaction();
+
+    for (var transfer : proto.getTransfers().getAccountAmountsList()) {
+      transaction.addHbarTransfer(
+          AccountId.fromProto(transfer.getAccountID()), transfer.getAmount());
+    }
+
+    return transaction;
+  }
+
+  @Override
+  protected void buildTransaction(@NonNull final Client client) {
+    Objects.requireNonNull(client, "client must not be null");
+
+    long sum = 0;
+    for (var amount : hbarTransfers.values()) {
+      sum = Math.addExact(sum, amount);
+    }
+
+    if (sum != 0) {
+      throw new IllegalStateException("hbar transfers must add up to 0, but add up to " + sum);
+    }
+
+    this.transactionBodyBuilder.setCryptoTransfer(this.toProto());
+  }
+
+  @Override
+  protected MethodDescriptor<com.hedera.hashgraph.sdk.proto.Transaction, TransactionResponse>
+      getMethodDescriptor() {
+    return CryptoServiceGrpc.getCryptoTransferMethod();
+  }
+}
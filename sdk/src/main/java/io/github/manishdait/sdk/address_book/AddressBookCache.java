@@ -0,0 +1,115 @@
+package io.github.manishdait.sdk.address_book;
+
+import io.github.manishdait.sdk.internal.Config;
+import io.github.manishdait.sdk.network.NetworkType;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Keeps the last address book fetched from the mirror node in a local file, so a client can start
+ * from it without waiting for the mirror node.
+ *
+ * <p>The file holds the {@code NodeAddress} protobuf messages, each prefixed with its length. It is
+ * written to a temporary file first and moved into place, so a reader never sees a partial file.
+ */
+public final class AddressBookCache {
+  private final Path file;
+
+  /**
+   * Constructor.
+   *
+   * @param file the file the address book is stored in
+   */
+  public AddressBookCache(@NonNull final Path file) {
+    Objects.requireNonNull(file, "file must not be null");
+    this.file = file;
+  }
+
+  /**
+   * Get the cache for a network in {@link Config#DEFAULT_ADDRESS_BOOK_CACHE_DIR}.
+   *
+   * @param networkType the network whose address book is cached
+   * @return the {@code AddressBookCache}
+   */
+  public static @NonNull AddressBookCache forNetwork(@NonNull final NetworkType networkType) {
+    Objects.requireNonNull(networkType, "networkType must not be null");
+
+    return new AddressBookCache(
+        Config.DEFAULT_ADDRESS_BOOK_CACHE_DIR.resolve(
+            networkType.name().toLowerCase(Locale.ROOT) + ".pb"));
+  }
+
+  public Path getFile() {
+    return file;
+  }
+
+  /**
+   * Read the cached address book.
+   *
+   * @return the cached {@code NodeAddress}es, empty if nothing is cached or the file is unreadable
+   */
+  public @NonNull List<NodeAddress> load() {
+    final var addressBook = new ArrayList<NodeAddress>();
+
+    try (var in = new BufferedInputStream(Files.newInputStream(file))) {
+      com.hedera.hashgraph.sdk.proto.NodeAddress proto;
+      while ((proto = com.hedera.hashgraph.sdk.proto.NodeAddress.parseDelimitedFrom(in)) != null) {
+        addressBook.add(NodeAddress.fromProto(proto));
+      }
+    } catch (NoSuchFileException e) {
+      return List.of();
+    } catch (IOException e) {
+      // A truncated or corrupt cache is as good as none, the next fetch overwrites it
+      return List.of();
+    }
+
+    return List.copyOf(addressBook);
+  }
+
+  /**
+   * Replace the cached address book.
+   *
+   * @param addressBook the address book fetched from the mirror node
+   * @throws UncheckedIOException if the file cannot be written
+   */
+  public void store(@NonNull final List<NodeAddress> addressBook) {
+    Objects.requireNonNull(addressBook, "addressBook must not be null");
+
+    try {
+      final var dir = file.toAbsolutePath().getParent();
+      Files.createDirectories(dir);
+
+      final var tmp = Files.createTempFile(dir, file.getFileName().toString(), ".tmp");
+      try {
+        try (var out = new BufferedOutputStream(Files.newOutputStream(tmp))) {
+          for (var address : addressBook) {
+            address.toProto().writeDelimitedTo(out);
+          }
+        }
+
+        try {
+          Files.move(
+              tmp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+          Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+      } finally {
+        Files.deleteIfExists(tmp);
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("Unable to store address book in " + file, e);
+    }
+  }
+}
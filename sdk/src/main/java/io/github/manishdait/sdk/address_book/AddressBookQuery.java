@@ -2,30 +2,158 @@ package io.github.manishdait.sdk.address_book;
 
 import com.hedera.hashgraph.sdk.proto.mirror.NetworkServiceGrpc;
 import io.github.manishdait.sdk.Client;
+import io.github.manishdait.sdk.exception.AddressBookException;
+import io.github.manishdait.sdk.internal.Config;
+import io.github.manishdait.sdk.internal.Futures;
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.ClientResponseObserver;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.jspecify.annotations.NonNull;
 
+/**
+ * Streams the address book of the network from the mirror node.
+ *
+ * <p>The stream is bounded by {@link #getTimeout()}. If it ends early, the addresses received so
+ * far are reported through {@link AddressBookException#getPartialAddressBook()}.
+ */
 public class AddressBookQuery {
+  private static final long ADDRESS_BOOK_FILE_NUM = 102;
+
+  private int limit = 0;
+  private Duration timeout = Config.DEFAULT_ADDRESS_BOOK_TIMEOUT;
+
+  public int getLimit() {
+    return limit;
+  }
+
+  /**
+   * Set the maximum number of node addresses to stream.
+   *
+   * @param limit the maximum number of addresses, or {@code 0} for the whole address book
+   * @return this {@code AddressBookQuery}
+   */
+  public AddressBookQuery withLimit(final int limit) {
+    if (limit < 0) {
+      throw new IllegalArgumentException("limit must not be negative");
+    }
+    this.limit = limit;
+    return this;
+  }
+
+  public Duration getTimeout() {
+    return timeout;
+  }
+
+  public AddressBookQuery withTimeout(@NonNull final Duration timeout) {
+    Objects.requireNonNull(timeout, "timeout must not be null");
+    this.timeout = timeout;
+    return this;
+  }
+
+  /**
+   * Fetch the whole address book, blocking until the stream completes.
+   *
+   * @param client the client whose mirror node serves the address book
+   * @return the {@code NodeAddress}es of the network
+   * @throws AddressBookException if the stream fails or times out
+   */
   public List<NodeAddress> execute(final Client client) {
-    var addressBook = new ArrayList<NodeAddress>();
-    var networkStub = NetworkServiceGrpc.newBlockingStub(client.getMirrorChannel());
-    var query =
+    return Futures.join(executeAsync(client, address -> {}));
+  }
+
+  /**
+   * Stream the address book, handing each address to {@code onAddress} as soon as it arrives.
+   *
+   * <p>{@code onAddress} runs on the gRPC callback thread in stream order and must not block. If it
+   * throws, the stream is cancelled. Cancelling the returned future cancels the stream too.
+   *
+   * @param client the client whose mirror node serves the address book
+   * @param onAddress receives every address as it is streamed
+   * @return a future of the whole address book, failing with {@link AddressBookException} if the
+   *     stream ends early
+   */
+  public CompletableFuture<List<NodeAddress>> executeAsync(
+      @NonNull final Client client, @NonNull final Consumer<NodeAddress> onAddress) {
+    Objects.requireNonNull(client, "client must not be null");
+    Objects.requireNonNull(onAddress, "onAddress must not be null");
+
+    final var result = new CompletableFuture<List<NodeAddress>>();
+    final var query =
         com.hedera.hashgraph.sdk.proto.mirror.AddressBookQuery.newBuilder()
             .setFileId(
                 com.hedera.hashgraph.sdk.proto.FileID.newBuilder()
                     .setShardNum(0)
                     .setRealmNum(0)
-                    .setFileNum(102)
+                    .setFileNum(ADDRESS_BOOK_FILE_NUM)
                     .build())
+            .setLimit(limit)
             .build();
 
-    networkStub
-        .getNodes(query)
-        .forEachRemaining(
-            (nodeAddress) -> {
-              addressBook.add(NodeAddress.fromProto(nodeAddress));
+    NetworkServiceGrpc.newStub(client.getMirrorChannel())
+        .withDeadlineAfter(timeout.toNanos(), TimeUnit.NANOSECONDS)
+        .getNodes(
+            query,
+            new ClientResponseObserver<
+                com.hedera.hashgraph.sdk.proto.mirror.AddressBookQuery,
+                com.hedera.hashgraph.sdk.proto.NodeAddress>() {
+              private final List<NodeAddress> addressBook = new ArrayList<>();
+              private ClientCallStreamObserver<?> call;
+
+              @Override
+              public void beforeStart(
+                  final ClientCallStreamObserver<
+                          com.hedera.hashgraph.sdk.proto.mirror.AddressBookQuery>
+                      call) {
+                this.call = call;
+                result.whenComplete(
+                    (ignored, error) -> {
+                      if (result.isCancelled()) {
+                        call.cancel("address book query cancelled", null);
+                      }
+                    });
+              }
+
+              @Override
+              public void onNext(final com.hedera.hashgraph.sdk.proto.NodeAddress proto) {
+                if (result.isDone()) {
+                  return;
+                }
+
+                final var address = NodeAddress.fromProto(proto);
+                addressBook.add(address);
+
+                try {
+                  onAddress.accept(address);
+                } catch (RuntimeException e) {
+                  result.completeExceptionally(e);
+                  call.cancel("address book consumer failed", e);
+                }
+              }
+
+              @Override
+              public void onError(final Throwable t) {
+                result.completeExceptionally(
+                    new AddressBookException(
+                        "Address book stream ended after "
+                            + addressBook.size()
+                            + " node(s): "
+                            + t.getMessage(),
+                        addressBook,
+                        t));
+              }
+
+              @Override
+              public void onCompleted() {
+                result.complete(List.copyOf(addressBook));
+              }
             });
 
-    return addressBook;
+    return result;
   }
 }
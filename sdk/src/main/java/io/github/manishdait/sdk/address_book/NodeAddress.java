@@ -1,5 +1,6 @@
 package io.github.manishdait.sdk.address_book;
 
+import com.google.protobuf.ByteString;
 import io.github.manishdait.sdk.account.AccountId;
 import java.util.List;
 
@@ -21,4 +22,17 @@ public record NodeAddress(
         proto.getStake(),
         proto.getServiceEndpointList().stream().map(e -> ServiceEndpoint.fromProto(e)).toList());
   }
+
+  public com.hedera.hashgraph.sdk.proto.NodeAddress toProto() {
+    return com.hedera.hashgraph.sdk.proto.NodeAddress.newBuilder()
+        .setRSAPubKey(this.rsaPublicKey)
+        .setNodeId(this.nodeId)
+        .setNodeAccountId(this.nodeAccountId.toProto())
+        .setNodeCertHash(ByteString.copyFrom(this.nodeCertHash))
+        .setDescription(this.description)
+        .setStake(this.stake)
+        .addAllServiceEndpoint(
+            this.serviceEndpoints.stream().map(ServiceEndpoint::toProto).toList())
+        .build();
+  }
 }
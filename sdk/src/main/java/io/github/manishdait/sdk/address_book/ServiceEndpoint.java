@@ -1,9 +1,19 @@
 package io.github.manishdait.sdk.address_book;
 
+import com.google.protobuf.ByteString;
+
 public record ServiceEndpoint(byte[] ipAddressV4, String domainName, int port) {
   public static ServiceEndpoint fromProto(
       final com.hedera.hashgraph.sdk.proto.ServiceEndpoint proto) {
     return new ServiceEndpoint(
         proto.getIpAddressV4().toByteArray(), proto.getDomainName(), proto.getPort());
   }
+
+  public com.hedera.hashgraph.sdk.proto.ServiceEndpoint toProto() {
+    return com.hedera.hashgraph.sdk.proto.ServiceEndpoint.newBuilder()
+        .setIpAddressV4(ByteString.copyFrom(this.ipAddressV4))
+        .setDomainName(this.domainName)
+        .setPort(this.port)
+        .build();
+  }
 }
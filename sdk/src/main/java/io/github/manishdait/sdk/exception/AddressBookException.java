@@ -0,0 +1,24 @@
+package io.github.manishdait.sdk.exception;
+
+import io.github.manishdait.sdk.address_book.NodeAddress;
+import java.util.List;
+
+/** The address book stream from the mirror node ended before it was complete. */
+public class AddressBookException extends RuntimeException {
+  private final List<NodeAddress> partialAddressBook;
+
+  public AddressBookException(
+      final String message, final List<NodeAddress> partialAddressBook, final Throwable cause) {
+    super(message, cause);
+    this.partialAddressBook = List.copyOf(partialAddressBook);
+  }
+
+  /**
+   * Get the node addresses received before the stream ended.
+   *
+   * @return the partial address book
+   */
+  public List<NodeAddress> getPartialAddressBook() {
+    return partialAddressBook;
+  }
+}
@@ -0,0 +1,45 @@
+package io.github.manishdait.sdk.exception;
+
+import java.net.URI;
+
+/** A mirror node REST request failed. */
+public class MirrorNodeException extends RuntimeException {
+  private final URI uri;
+  private final int statusCode;
+  private final boolean retryable;
+
+  public MirrorNodeException(
+      final URI uri,
+      final int statusCode,
+      final boolean retryable,
+      final String message,
+      final Throwable cause) {
+    super(message, cause);
+    this.uri = uri;
+    this.statusCode = statusCode;
+    this.retryable = retryable;
+  }
+
+  public URI getUri() {
+    return uri;
+  }
+
+  /**
+   * Get the HTTP status of the response.
+   *
+   * @return the status code, or {@code 0} if no response was received
+   */
+  public int getStatusCode() {
+    return statusCode;
+  }
+
+  /**
+   * Whether sending the same request again may succeed, as for throttling, server errors and
+   * connection failures.
+   *
+   * @return {@code true} if the request can be retried
+   */
+  public boolean isRetryable() {
+    return retryable;
+  }
+}
@@ -0,0 +1,25 @@
+package io.github.manishdait.sdk.exception;
+
+import io.github.manishdait.sdk.Status;
+import io.github.manishdait.sdk.transaction.TransactionId;
+
+/** Thrown when a transaction reached consensus but its receipt reports a failure. */
+public class ReceiptStatusException extends RuntimeException {
+  private final Status status;
+  private final TransactionId transactionId;
+
+  public ReceiptStatusException(
+      final Status status, final TransactionId transactionId, final String message) {
+    super(message);
+    this.status = status;
+    this.transactionId = transactionId;
+  }
+
+  public Status getStatus() {
+    return status;
+  }
+
+  public TransactionId getTransactionId() {
+    return transactionId;
+  }
+}
@@ -0,0 +1,289 @@
+package io.github.manishdait.sdk.file;
+
+import com.google.protobuf.ByteString;
+import com.hedera.hashgraph.sdk.proto.FileAppendTransactionBody;
+import com.hedera.hashgraph.sdk.proto.FileServiceGrpc;
+import com.hedera.hashgraph.sdk.proto.TransactionBody;
+import com.hedera.hashgraph.sdk.proto.TransactionResponse;
+import io.github.manishdait.sdk.Client;
+import io.github.manishdait.sdk.Status;
+import io.github.manishdait.sdk.exception.ReceiptStatusException;
+import io.github.manishdait.sdk.internal.Config;
+import io.github.manishdait.sdk.internal.Futures;
+import io.github.manishdait.sdk.key.PrivateKey;
+import io.github.manishdait.sdk.key.PublicKey;
+import io.github.manishdait.sdk.transaction.PackedTransaction;
+import io.github.manishdait.sdk.transaction.Transaction;
+import io.github.manishdait.sdk.transaction.TransactionReceipt;
+import io.grpc.MethodDescriptor;
+import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Appends contents to a file, one transaction per chunk of {@link #getChunkSize()} bytes.
+ *
+ * <p>{@link #send(Client, PrivateKey...)} streams the contents through a pipeline: up to {@link
+ * #getMaxInFlight()} chunks are read and signed in parallel ahead of submission, and up to as many
+ * submitted chunks may await their receipt. Chunks are submitted one after the other to a single
+ * node, each once the previous one passed precheck, so they reach consensus in order without
+ * waiting for each other's receipts.
+ */
+public class FileAppendTransaction extends Transaction<FileAppendTransaction> {
+  private FileId fileId;
+  private FileContents contents = FileContents.EMPTY;
+  private int chunkSize = Config.DEFAULT_FILE_CHUNK_SIZE;
+  private int maxChunks = Config.DEFAULT_FILE_MAX_CHUNKS;
+  private int maxInFlight = Config.DEFAULT_MAX_IN_FLIGHT_TRANSACTIONS;
+
+  private ByteString chunk = ByteString.EMPTY;
+
+  public FileAppendTransaction() {}
+
+  public FileId getFileId() {
+    return fileId;
+  }
+
+  public FileAppendTransaction withFileId(@NonNull final FileId fileId) {
+    Objects.requireNonNull(fileId, "fileId must not be null");
+    this.fileId = fileId;
+    return this;
+  }
+
+  public FileAppendTransaction withContents(@NonNull final byte[] contents) {
+    Objects.requireNonNull(contents, "contents must not be null");
+    return withContents(ByteString.copyFrom(contents));
+  }
+
+  public FileAppendTransaction withContents(@NonNull final ByteString contents) {
+    Objects.requireNonNull(contents, "contents must not be null");
+    this.contents = FileContents.of(contents);
+    return this;
+  }
+
+  /**
+   * Stream the contents from {@code stream}, reading it a chunk at a time as the upload progresses.
+   * The stream is not closed.
+   *
+   * @param stream the contents
+   * @return this {@code FileAppendTransaction}
+   */
+  public FileAppendTransaction withContents(@NonNull final InputStream stream) {
+    Objects.requireNonNull(stream, "stream must not be null");
+    this.contents = FileContents.of(stream);
+    return this;
+  }
+
+  /**
+   * Upload the channel's contents from its current position to its end, mapping them into memory
+   * instead of reading them.
+   *
+   * @param channel the contents
+   * @return this {@code FileAppendTransaction}
+   */
+  public FileAppendTransaction withContents(@NonNull final FileChannel channel) {
+    Objects.requireNonNull(channel, "channel must not be null");
+    this.contents = FileContents.of(channel);
+    return this;
+  }
+
+  FileAppendTransaction withContents(@NonNull final FileContents contents) {
+    this.contents = contents;
+    return this;
+  }
+
+  public int getChunkSize() {
+    return chunkSize;
+  }
+
+  public FileAppendTransaction withChunkSize(final int chunkSize) {
+    if (chunkSize <= 0) {
+      throw new IllegalArgumentException("chunkSize must be greater than 0");
+    }
+    this.chunkSize = chunkSize;
+    return this;
+  }
+
+  public int getMaxChunks() {
+    return maxChunks;
+  }
+
+  /**
+   * Set the maximum number of chunks to upload, as a guard against appending unexpectedly large
+   * contents.
+   *
+   * @param maxChunks the maximum number of chunks
+   * @return this {@code FileAppendTransaction}
+   */
+  public FileAppendTransaction withMaxChunks(final int maxChunks) {
+    if (maxChunks <= 0) {
+      throw new IllegalArgumentException("maxChunks must be greater than 0");
+    }
+    this.maxChunks = maxChunks;
+    return this;
+  }
+
+  public int getMaxInFlight() {
+    return maxInFlight;
+  }
+
+  /**
+   * Set how many chunks are signed ahead of submission and how many submitted chunks may await
+   * their receipt.
+   *
+   * @param maxInFlight the size of the upload window
+   * @return this {@code FileAppendTransaction}
+   */
+  public FileAppendTransaction withMaxInFlight(final int maxInFlight) {
+    if (maxInFlight <= 0) {
+      throw new IllegalArgumentException("maxInFlight must be greater than 0");
+    }
+    this.maxInFlight = maxInFlight;
+    return this;
+  }
+
+  public FileAppendTransactionBody toProto() {
+    return FileAppendTransactionBody.newBuilder()
+        .setFileID(fileId.toProto())
+        .setContents(chunk)
+        .build();
+  }
+
+  @Override
+  public FileAppendTransaction fromProto(@NonNull final TransactionBody transactionBodyProto) {
+    Objects.requireNonNull(transactionBodyProto, "transactionBodyProto must not be null");
+
+    FileAppendTransactionBody proto = transactionBodyProto.getFileAppend();
+    return new FileAppendTransaction()
+        .withFileId(FileId.fromProto(proto.getFileID()))
+        .withContents(proto.getContents());
+  }
+
+  /**
+   * Pack the next chunk of the contents.
+   *
+   * @param client the client the transaction is sent with
+   * @return the {@code PackedTransaction} of the next chunk
+   */
+  @Override
+  public PackedTransaction<FileAppendTransaction> pack(@NonNull final Client client) {
+    Objects.requireNonNull(fileId, "fileId must not be null");
+
+    chunk = contents.next(chunkSize);
+    try {
+      return super.pack(client);
+    } finally {
+      chunk = ByteString.EMPTY;
+    }
+  }
+
+  /**
+   * Upload the remaining contents, blocking until every chunk has a successful receipt.
+   *
+   * @param client the client to send with
+   * @param signers the keys of the file other than the operator
+   * @return the receipts of the chunks in order
+   * @throws ReceiptStatusException if a chunk fails; submission stops once the failure is seen,
+   *     which may be after up to {@link #getMaxInFlight()} later chunks were submitted
+   */
+  public List<TransactionReceipt> send(
+      @NonNull final Client client, @NonNull final PrivateKey... signers) {
+    Objects.requireNonNull(client, "client must not be null");
+    Objects.requireNonNull(signers, "signers must not be null");
+
+    // Every chunk goes to the same node so the chunks reach consensus in submission order
+    final var pinned = node == null;
+    if (pinned) {
+      withNode(client.getNode());
+    }
+
+    final var publicKeys = new PublicKey[signers.length];
+    for (int i = 0; i < signers.length; i++) {
+      publicKeys[i] = signers[i].getPublicKey();
+    }
+
+    final var signed =
+        new ArrayDeque<CompletableFuture<PackedTransaction<FileAppendTransaction>>>();
+    final var receipts = new ArrayDeque<CompletableFuture<TransactionReceipt>>();
+    final var results = new ArrayList<TransactionReceipt>();
+    var chunks = 0;
+
+    try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      while (true) {
+        while (signed.size() < maxInFlight && contents.hasNext()) {
+          if (++chunks > maxChunks) {
+            throw new IllegalStateException("contents need more than maxChunks " + maxChunks);
+          }
+
+          final var packed = pack(client);
+          signed.add(CompletableFuture.supplyAsync(() -> sign(packed, signers, publicKeys)));
+        }
+
+        final var next = signed.poll();
+        if (next == null) {
+          break;
+        }
+
+        final var response = Futures.join(next).send();
+        receipts.add(
+            CompletableFuture.supplyAsync(
+                () -> checkReceipt(response.queryReceipt(), response), executor));
+
+        while (receipts.size() >= maxInFlight) {
+          results.add(Futures.join(receipts.poll()));
+        }
+      }
+
+      while (!receipts.isEmpty()) {
+        results.add(Futures.join(receipts.poll()));
+      }
+    } finally {
+      if (pinned) {
+        node = null;
+      }
+    }
+
+    return results;
+  }
+
+  private static PackedTransaction<FileAppendTransaction> sign(
+      final PackedTransaction<FileAppendTransaction> packed,
+      final PrivateKey[] signers,
+      final PublicKey[] publicKeys) {
+    packed.signWithOperator();
+    for (int i = 0; i < signers.length; i++) {
+      packed.signWith(signers[i], publicKeys[i]);
+    }
+    return packed;
+  }
+
+  private static TransactionReceipt checkReceipt(
+      final TransactionReceipt receipt,
+      final io.github.manishdait.sdk.transaction.TransactionResponse response) {
+    if (receipt.status() != Status.SUCCESS) {
+      throw new ReceiptStatusException(
+          receipt.status(),
+          response.transactionId(),
+          "File append chunk failed with " + receipt.status());
+    }
+    return receipt;
+  }
+
+  @Override
+  protected void buildTransaction(@NonNull final Client client) {
+    Objects.requireNonNull(client, "client must not be null");
+    this.transactionBodyBuilder.setFileAppend(this.toProto());
+  }
+
+  @Override
+  protected MethodDescriptor<com.hedera.hashgraph.sdk.proto.Transaction, TransactionResponse>
+      getMethodDescriptor() {
+    return FileServiceGrpc.getAppendContentMethod();
+  }
+}
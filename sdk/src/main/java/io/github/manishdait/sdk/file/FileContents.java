@@ -0,0 +1,119 @@
+package io.github.manishdait.sdk.file;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.UnsafeByteOperations;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+
+/**
+ * The contents of a file upload, handed out one chunk at a time.
+ *
+ * <p>In-memory and memory-mapped contents are sliced without copying. Stream contents are read a
+ * chunk at a time, so only the chunks in flight are ever held in memory.
+ */
+abstract sealed class FileContents {
+  static final FileContents EMPTY = of(ByteString.EMPTY);
+
+  static FileContents of(final ByteString contents) {
+    return new Bytes(contents);
+  }
+
+  static FileContents of(final InputStream stream) {
+    return new Stream(stream);
+  }
+
+  /**
+   * Map the channel from its current position to its end.
+   *
+   * @throws UncheckedIOException if the channel cannot be mapped
+   */
+  static FileContents of(final FileChannel channel) {
+    try {
+      final var position = channel.position();
+      final var size = channel.size() - position;
+      if (size > Integer.MAX_VALUE) {
+        throw new IllegalArgumentException("file is too large to upload");
+      }
+      return new Bytes(
+          UnsafeByteOperations.unsafeWrap(
+              channel.map(FileChannel.MapMode.READ_ONLY, position, size)));
+    } catch (IOException e) {
+      throw new UncheckedIOException("Unable to map file contents", e);
+    }
+  }
+
+  /**
+   * Take the next chunk.
+   *
+   * @param chunkSize the maximum size of the chunk
+   * @return the next chunk, empty once the contents are exhausted
+   */
+  abstract ByteString next(int chunkSize);
+
+  abstract boolean hasNext();
+
+  private static final class Bytes extends FileContents {
+    private final ByteString contents;
+    private int offset = 0;
+
+    Bytes(final ByteString contents) {
+      this.contents = contents;
+    }
+
+    @Override
+    synchronized ByteString next(final int chunkSize) {
+      final var end = Math.min(contents.size(), offset + chunkSize);
+      final var chunk = contents.substring(offset, end);
+      offset = end;
+      return chunk;
+    }
+
+    @Override
+    synchronized boolean hasNext() {
+      return offset < contents.size();
+    }
+  }
+
+  private static final class Stream extends FileContents {
+    private final InputStream stream;
+    private ByteString buffered = ByteString.EMPTY;
+    private boolean eof = false;
+
+    Stream(final InputStream stream) {
+      this.stream = stream;
+    }
+
+    @Override
+    synchronized ByteString next(final int chunkSize) {
+      fill(chunkSize);
+      final var size = Math.min(chunkSize, buffered.size());
+      final var chunk = buffered.substring(0, size);
+      buffered = buffered.substring(size);
+      return chunk;
+    }
+
+    @Override
+    synchronized boolean hasNext() {
+      fill(1);
+      return !buffered.isEmpty();
+    }
+
+    private void fill(final int size) {
+      if (eof || buffered.size() >= size) {
+        return;
+      }
+
+      try {
+        final var bytes = stream.readNBytes(size - buffered.size());
+        if (bytes.length < size - buffered.size()) {
+          eof = true;
+        }
+        buffered = buffered.concat(UnsafeByteOperations.unsafeWrap(bytes));
+      } catch (IOException e) {
+        throw new UncheckedIOException("Unable to read file contents", e);
+      }
+    }
+  }
+}
@@ -0,0 +1,276 @@
+package io.github.manishdait.sdk.file;
+
+import com.google.protobuf.ByteString;
+import com.hedera.hashgraph.sdk.proto.FileCreateTransactionBody;
+import com.hedera.hashgraph.sdk.proto.FileServiceGrpc;
+import com.hedera.hashgraph.sdk.proto.KeyList;
+import com.hedera.hashgraph.sdk.proto.Timestamp;
+import com.hedera.hashgraph.sdk.proto.TransactionBody;
+import com.hedera.hashgraph.sdk.proto.TransactionResponse;
+import io.github.manishdait.sdk.Client;
+import io.github.manishdait.sdk.Status;
+import io.github.manishdait.sdk.exception.ReceiptStatusException;
+import io.github.manishdait.sdk.internal.Config;
+import io.github.manishdait.sdk.key.Key;
+import io.github.manishdait.sdk.key.PrivateKey;
+import io.github.manishdait.sdk.key.PublicKey;
+import io.github.manishdait.sdk.transaction.PackedTransaction;
+import io.github.manishdait.sdk.transaction.Transaction;
+import io.github.manishdait.sdk.transaction.TransactionReceipt;
+import io.grpc.MethodDescriptor;
+import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Creates a file. Contents larger than one chunk are uploaded by {@link #send(Client,
+ * PrivateKey...)}: the file is created with the first chunk and the rest is streamed through a
+ * {@link FileAppendTransaction}.
+ */
+public class FileCreateTransaction extends Transaction<FileCreateTransaction> {
+  private List<Key> keys = List.of();
+  private FileContents contents = FileContents.EMPTY;
+  private Instant expirationTime;
+  private String fileMemo = "";
+  private int chunkSize = Config.DEFAULT_FILE_CHUNK_SIZE;
+  private int maxChunks = Config.DEFAULT_FILE_MAX_CHUNKS;
+  private int maxInFlight = Config.DEFAULT_MAX_IN_FLIGHT_TRANSACTIONS;
+
+  private ByteString chunk = ByteString.EMPTY;
+
+  public FileCreateTransaction() {}
+
+  public List<Key> getKeys() {
+    return keys;
+  }
+
+  public FileCreateTransaction withKeys(@NonNull final Key... keys) {
+    Objects.requireNonNull(keys, "keys must not be null");
+    this.keys = List.of(keys);
+    return this;
+  }
+
+  public FileCreateTransaction withContents(@NonNull final byte[] contents) {
+    Objects.requireNonNull(contents, "contents must not be null");
+    return withContents(ByteString.copyFrom(contents));
+  }
+
+  public FileCreateTransaction withContents(@NonNull final ByteString contents) {
+    Objects.requireNonNull(contents, "contents must not be null");
+    this.contents = FileContents.of(contents);
+    return this;
+  }
+
+  /**
+   * Stream the contents from {@code stream}, reading it a chunk at a time as the upload progresses.
+   * The stream is not closed.
+   *
+   * @param stream the contents
+   * @return this {@code FileCreateTransaction}
+   */
+  public FileCreateTransaction withContents(@NonNull final InputStream stream) {
+    Objects.requireNonNull(stream, "stream must not be null");
+    this.contents = FileContents.of(stream);
+    return this;
+  }
+
+  /**
+   * Upload the channel's contents from its current position to its end, mapping them into memory
+   * instead of reading them.
+   *
+   * @param channel the contents
+   * @return this {@code FileCreateTransaction}
+   */
+  public FileCreateTransaction withContents(@NonNull final FileChannel channel) {
+    Objects.requireNonNull(channel, "channel must not be null");
+    this.contents = FileContents.of(channel);
+    return this;
+  }
+
+  public Instant getExpirationTime() {
+    return expirationTime;
+  }
+
+  /**
+   * Set when the file expires.
+   *
+   * @param expirationTime the expiration time, or {@code null} for {@link
+   *     Config#DEFAULT_FILE_EXPIRATION} after the transaction is packed
+   * @return this {@code FileCreateTransaction}
+   */
+  public FileCreateTransaction withExpirationTime(final Instant expirationTime) {
+    this.expirationTime = expirationTime;
+    return this;
+  }
+
+  public String getFileMemo() {
+    return fileMemo;
+  }
+
+  public FileCreateTransaction withFileMemo(@NonNull final String fileMemo) {
+    Objects.requireNonNull(fileMemo, "fileMemo must not be null");
+    this.fileMemo = fileMemo;
+    return this;
+  }
+
+  public int getChunkSize() {
+    return chunkSize;
+  }
+
+  public FileCreateTransaction withChunkSize(final int chunkSize) {
+    if (chunkSize <= 0) {
+      throw new IllegalArgumentException("chunkSize must be greater than 0");
+    }
+    this.chunkSize = chunkSize;
+    return this;
+  }
+
+  public int getMaxChunks() {
+    return maxChunks;
+  }
+
+  public FileCreateTransaction withMaxChunks(final int maxChunks) {
+    if (maxChunks <= 0) {
+      throw new IllegalArgumentException("maxChunks must be greater than 0");
+    }
+    this.maxChunks = maxChunks;
+    return this;
+  }
+
+  public int getMaxInFlight() {
+    return maxInFlight;
+  }
+
+  /**
+   * Set the upload window of the appends following the create.
+   *
+   * @param maxInFlight the size of the upload window
+   * @return this {@code FileCreateTransaction}
+   * @see FileAppendTransaction#withMaxInFlight(int)
+   */
+  public FileCreateTransaction withMaxInFlight(final int maxInFlight) {
+    if (maxInFlight <= 0) {
+      throw new IllegalArgumentException("maxInFlight must be greater than 0");
+    }
+    this.maxInFlight = maxInFlight;
+    return this;
+  }
+
+  public FileCreateTransactionBody toProto() {
+    final var expiration =
+        expirationTime != null
+            ? expirationTime
+            : Instant.now().plus(Config.DEFAULT_FILE_EXPIRATION);
+
+    final var keyList = KeyList.newBuilder();
+    for (var key : keys) {
+      keyList.addKeys(key.toProto());
+    }
+
+    return FileCreateTransactionBody.newBuilder()
+        .setExpirationTime(
+            Timestamp.newBuilder()
+                .setSeconds(expiration.getEpochSecond())
+                .setNanos(expiration.getNano()))
+        .setKeys(keyList)
+        .setContents(chunk)
+        .setMemo(fileMemo)
+        .build();
+  }
+
+  @Override
+  public FileCreateTransaction fromProto(@NonNull final TransactionBody transactionBodyProto) {
+    Objects.requireNonNull(transactionBodyProto, "transactionBodyProto must not be null");
+
+    FileCreateTransactionBody proto = transactionBodyProto.getFileCreate();
+    return new FileCreateTransaction()
+        .withKeys(
+            proto.getKeys().getKeysList().stream().map(PublicKey::fromProto).toArray(Key[]::new))
+        .withContents(proto.getContents())
+        .withExpirationTime(
+            Instant.ofEpochSecond(
+                proto.getExpirationTime().getSeconds(), proto.getExpirationTime().getNanos()))
+        .withFileMemo(proto.getMemo());
+  }
+
+  /**
+   * Pack the create transaction with the first chunk of the contents.
+   *
+   * @param client the client the transaction is sent with
+   * @return the {@code PackedTransaction}
+   */
+  @Override
+  public PackedTransaction<FileCreateTransaction> pack(@NonNull final Client client) {
+    chunk = contents.next(chunkSize);
+    try {
+      return super.pack(client);
+    } finally {
+      chunk = ByteString.EMPTY;
+    }
+  }
+
+  /**
+   * Create the file and upload all of its contents, blocking until every chunk has a successful
+   * receipt.
+   *
+   * @param client the client to send with
+   * @param signers the keys of the file other than the operator
+   * @return the receipt of the create transaction, carrying the new file id
+   * @throws ReceiptStatusException if the create or an append fails
+   */
+  public TransactionReceipt send(
+      @NonNull final Client client, @NonNull final PrivateKey... signers) {
+    Objects.requireNonNull(client, "client must not be null");
+    Objects.requireNonNull(signers, "signers must not be null");
+
+    final var packed = pack(client);
+    for (var signer : signers) {
+      packed.signWith(signer);
+    }
+
+    final var response = packed.send();
+    final var receipt = response.queryReceipt();
+    if (receipt.status() != Status.SUCCESS) {
+      throw new ReceiptStatusException(
+          receipt.status(),
+          response.transactionId(),
+          "File create failed with " + receipt.status());
+    }
+
+    if (contents.hasNext()) {
+      if (maxChunks == 1) {
+        throw new IllegalStateException("contents need more than maxChunks " + maxChunks);
+      }
+
+      final var append =
+          new FileAppendTransaction()
+              .withFileId(receipt.fileId())
+              .withContents(contents)
+              .withChunkSize(chunkSize)
+              .withMaxChunks(maxChunks - 1)
+              .withMaxInFlight(maxInFlight);
+
+      if (node != null) {
+        append.withNode(node);
+      }
+      append.send(client, signers);
+    }
+
+    return receipt;
+  }
+
+  @Override
+  protected void buildTransaction(@NonNull final Client client) {
+    Objects.requireNonNull(client, "client must not be null");
+    this.transactionBodyBuilder.setFileCreate(this.toProto());
+  }
+
+  @Override
+  protected MethodDescriptor<com.hedera.hashgraph.sdk.proto.Transaction, TransactionResponse>
+      getMethodDescriptor() {
+    return FileServiceGrpc.getCreateFileMethod();
+  }
+}
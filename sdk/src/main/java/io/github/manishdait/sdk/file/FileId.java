@@ -0,0 +1,42 @@
+package io.github.manishdait.sdk.file;
+
+import com.hedera.hashgraph.sdk.proto.FileID;
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+
+public record FileId(long shard, long realm, long num) {
+  public FileId {
+    if (shard < 0) {
+      throw new RuntimeException("shard must be non-negative number.");
+    }
+
+    if (realm < 0) {
+      throw new RuntimeException("realm must be non-negative number.");
+    }
+  }
+
+  public static FileId fromString(@NonNull final String fileId) {
+    Objects.requireNonNull(fileId, "fileId must not be null.");
+    String[] parts = fileId.split("\\.");
+
+    return new FileId(Long.parseLong(parts[0]), Long.parseLong(parts[1]), Long.parseLong(parts[2]));
+  }
+
+  public static FileId fromProto(@NonNull final FileID proto) {
+    Objects.requireNonNull(proto, "proto must not be null.");
+    return new FileId(proto.getShardNum(), proto.getRealmNum(), proto.getFileNum());
+  }
+
+  public FileID toProto() {
+    return FileID.newBuilder()
+        .setShardNum(this.shard)
+        .setRealmNum(this.realm)
+        .setFileNum(this.num)
+        .build();
+  }
+
+  @Override
+  public String toString() {
+    return "%d.%d.%d".formatted(shard, realm, num);
+  }
+}
@@ -0,0 +1,145 @@
+package io.github.manishdait.sdk.internal;
+
+import java.util.ArrayDeque;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Bounds the number of asynchronous operations running at once without blocking the caller.
+ * Operations beyond the limit are queued and started in submission order as running ones complete.
+ *
+ * <p>Queued operations are started from a loop rather than from the completion of the previous one,
+ * so a long queue of operations that complete immediately does not grow the stack.
+ */
+public final class AsyncLimiter {
+  private int maxConcurrency;
+  private final Queue<Runnable> pending = new ArrayDeque<>();
+  private int running = 0;
+  private final ThreadLocal<Boolean> draining = ThreadLocal.withInitial(() -> false);
+
+  /**
+   * Constructor.
+   *
+   * @param maxConcurrency the maximum number of operations running at once
+   */
+  public AsyncLimiter(final int maxConcurrency) {
+    if (maxConcurrency <= 0) {
+      throw new IllegalArgumentException("maxConcurrency must be greater than 0");
+    }
+    this.maxConcurrency = maxConcurrency;
+  }
+
+  public synchronized int getMaxConcurrency() {
+    return maxConcurrency;
+  }
+
+  /**
+   * Change the limit. Operations already running keep counting against it, so lowering the limit
+   * holds back new operations until enough running ones complete, and raising it starts queued
+   * operations right away.
+   *
+   * @param maxConcurrency the maximum number of operations running at once
+   */
+  public void setMaxConcurrency(final int maxConcurrency) {
+    if (maxConcurrency <= 0) {
+      throw new IllegalArgumentException("maxConcurrency must be greater than 0");
+    }
+
+    synchronized (this) {
+      this.maxConcurrency = maxConcurrency;
+    }
+    startPending();
+  }
+
+  /**
+   * Start the operation once a slot is free.
+   *
+   * @param operation starts the operation and returns its future
+   * @return a future completing with the operation
+   * @param <T> the result type
+   */
+  public <T> CompletableFuture<T> submit(@NonNull final Supplier<CompletableFuture<T>> operation) {
+    Objects.requireNonNull(operation, "operation must not be null");
+
+    final var result = new CompletableFuture<T>();
+    final Runnable start =
+        () -> {
+          if (result.isDone()) {
+            release();
+            return;
+          }
+
+          final CompletableFuture<T> future;
+          try {
+            future = operation.get();
+          } catch (RuntimeException | Error e) {
+            result.completeExceptionally(e);
+            release();
+            return;
+          }
+
+          // Complete before releasing, so the slot is not handed on ahead of the result
+          future.whenComplete(
+              (value, error) -> {
+                if (error != null) {
+                  result.completeExceptionally(error);
+                } else {
+                  result.complete(value);
+                }
+                release();
+              });
+        };
+
+    synchronized (this) {
+      pending.add(start);
+    }
+    startPending();
+    return result;
+  }
+
+  public synchronized int getRunning() {
+    return running;
+  }
+
+  public synchronized int getPending() {
+    return pending.size();
+  }
+
+  private void release() {
+    synchronized (this) {
+      running--;
+    }
+    startPending();
+  }
+
+  /**
+   * Start queued operations while slots are free. An operation completing inline while this thread
+   * is already starting operations only frees its slot, and the outer loop picks up the next one.
+   */
+  private void startPending() {
+    if (draining.get()) {
+      return;
+    }
+
+    draining.set(true);
+    try {
+      while (true) {
+        final Runnable next;
+        synchronized (this) {
+          // Only start while within the limit, which may have been lowered
+          if (running >= maxConcurrency || pending.isEmpty()) {
+            return;
+          }
+          running++;
+          next = pending.poll();
+        }
+        next.run();
+      }
+    } finally {
+      draining.remove();
+    }
+  }
+}
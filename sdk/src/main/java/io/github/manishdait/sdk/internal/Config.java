@@ -1,6 +1,7 @@
 package io.github.manishdait.sdk.internal;
 
 import io.github.manishdait.sdk.network.NetworkType;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.util.Map;
 
@@ -8,12 +9,56 @@ public class Config {
   public static final int DEFAULT_MAX_ATTEMPTS = 10;
   public static final Duration DEFAULT_MIN_BACKOFF = Duration.ofMillis(250L);
   public static final Duration DEFAULT_MAX_BACKOFF = Duration.ofSeconds(8L);
-  public static final Duration DEFAULT_NODE_MIN_BACKOFF = Duration.ofHours(1L);
-  public static final Duration DEFAULT_NODE_MAX_BACKOFF = Duration.ofSeconds(8L);
+  public static final Duration DEFAULT_NODE_MIN_BACKOFF = Duration.ofSeconds(8L);
+  public static final Duration DEFAULT_NODE_MAX_BACKOFF = Duration.ofHours(1L);
 
   public static final Duration DEFAULT_REQUEST_TIMEOUT = Duration.ofMinutes(2L);
   public static final Duration DEFAULT_GRPC_TIMEOUT = Duration.ofSeconds(10L);
 
+  public static final int DEFAULT_MAX_CONCURRENT_REQUESTS_PER_NODE = 8;
+
+  public static final int DEFAULT_EVENT_LOOP_THREADS =
+      Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors()));
+  public static final int DEFAULT_OFFLOAD_THREADS = 4;
+  public static final Duration DEFAULT_KEEP_ALIVE_TIME = Duration.ofMinutes(5L);
+  public static final Duration DEFAULT_KEEP_ALIVE_TIMEOUT = Duration.ofSeconds(20L);
+  public static final Duration DEFAULT_IDLE_TIMEOUT = Duration.ofMinutes(30L);
+  public static final int DEFAULT_FLOW_CONTROL_WINDOW = 1024 * 1024;
+  public static final int DEFAULT_MAX_INBOUND_MESSAGE_SIZE = 4 * 1024 * 1024;
+
+  public static final int DEFAULT_MAX_CHANNELS_PER_NODE = 4;
+  public static final int DEFAULT_MAX_STREAMS_PER_CHANNEL = 64;
+  public static final int DEFAULT_TLS_SESSION_CACHE_SIZE = 1024;
+  public static final Duration DEFAULT_TLS_SESSION_TIMEOUT = Duration.ofHours(1L);
+
+  public static final Path DEFAULT_ADDRESS_BOOK_CACHE_DIR =
+      Path.of(System.getProperty("user.home"), ".hiero", "address-book");
+  public static final Duration DEFAULT_ADDRESS_BOOK_TIMEOUT = Duration.ofSeconds(30L);
+  public static final int DEFAULT_MIN_STARTUP_NODES = 3;
+  public static final Duration DEFAULT_MIRROR_REQUEST_TIMEOUT = Duration.ofSeconds(30L);
+  public static final int DEFAULT_MIRROR_MAX_ATTEMPTS = 5;
+  public static final int DEFAULT_MIRROR_MAX_CONCURRENT_REQUESTS = 16;
+  public static final int DEFAULT_MIRROR_PREFETCH_PAGES = 1;
+  public static final int DEFAULT_TOPIC_MAX_ATTEMPTS = 10;
+  public static final int DEFAULT_TOPIC_REQUEST_BATCH = 64;
+  public static final int DEFAULT_TOPIC_CHUNK_SIZE = 1024;
+  public static final int DEFAULT_TOPIC_MAX_CHUNKS = 20;
+  public static final int DEFAULT_TOPIC_MAX_PENDING_MESSAGES = 256;
+  public static final Duration DEFAULT_TOPIC_CHUNK_WINDOW = Duration.ofMinutes(5L);
+  public static final int DEFAULT_MAX_IN_FLIGHT_TRANSACTIONS = 32;
+  public static final int DEFAULT_MAX_TRANSFERS_PER_TRANSACTION = 10;
+  public static final int DEFAULT_MAX_BATCH_TRANSACTIONS = 50;
+  public static final int DEFAULT_FILE_CHUNK_SIZE = 4096;
+  public static final int DEFAULT_FILE_MAX_CHUNKS = 1024;
+  public static final Duration DEFAULT_FILE_EXPIRATION = Duration.ofDays(90L);
+  public static final int DEFAULT_MAX_NFT_MINT_BATCH = 10;
+  public static final int DEFAULT_MAX_NFT_METADATA_BYTES = 100;
+  public static final int DEFAULT_MAX_SIGNATURES_PER_TRANSACTION = 50;
+  public static final int DEFAULT_MAX_IN_FLIGHT_QUERIES = 32;
+  public static final Duration DEFAULT_NETWORK_UPDATE_PERIOD = Duration.ofHours(24L);
+  public static final Duration DEFAULT_CLOSE_TIMEOUT = Duration.ofSeconds(30L);
+  public static final Duration DEFAULT_WARM_UP_TIMEOUT = Duration.ofSeconds(10L);
+
   public static final int TLS_PORT = 50212;
   public static final int PLAIN_PORT = 50211;
 
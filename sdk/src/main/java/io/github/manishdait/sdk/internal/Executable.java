@@ -4,10 +4,14 @@ import io.github.manishdait.sdk.Client;
 import io.github.manishdait.sdk.Status;
 import io.github.manishdait.sdk.exception.PrecheckException;
 import io.github.manishdait.sdk.exception.TimeoutException;
+import io.github.manishdait.sdk.network.Node;
 import io.grpc.CallOptions;
 import io.grpc.MethodDescriptor;
+import io.grpc.StatusRuntimeException;
 import io.grpc.stub.ClientCalls;
 import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
 import org.jspecify.annotations.NonNull;
 
 public abstract class Executable<ProtoRequest, ProtoResponse> {
@@ -16,6 +20,7 @@ public abstract class Executable<ProtoRequest, ProtoResponse> {
   private Duration requestTimeout;
   private Duration grpcTimeout;
   private Integer maxAttempts;
+  private Node node;
 
   public int getMaxAttempts() {
     return maxAttempts;
@@ -49,6 +54,39 @@ public abstract class Executable<ProtoRequest, ProtoResponse> {
     this.requestTimeout = requestTimeout;
   }
 
+  public Node getNode() {
+    return node;
+  }
+
+  /**
+   * Pin every attempt of this request to the given node instead of the client's current node.
+   *
+   * @param node the node to send to, or {@code null} to follow the client's network
+   */
+  public void setNode(Node node) {
+    this.node = node;
+  }
+
+  /**
+   * Get the node the next attempt is sent to.
+   *
+   * @param client the client executing the request
+   * @return the pinned node, or the client's current node when none is pinned
+   */
+  protected Node resolveNode(@NonNull final Client client) {
+    return this.node != null ? this.node : client.getNode();
+  }
+
+  /**
+   * Get the settings of this request that override the client's, {@code null} where the client's
+   * apply. Two requests with the same overrides and pinned node execute alike.
+   *
+   * @return the max attempts, backoffs and timeouts of this request
+   */
+  protected List<Object> getOverrides() {
+    return Arrays.asList(maxAttempts, minBackoff, maxBackoff, requestTimeout, grpcTimeout);
+  }
+
   protected abstract MethodDescriptor<ProtoRequest, ProtoResponse> getMethodDescriptor();
 
   protected abstract ProtoRequest buildRequest();
@@ -58,6 +96,17 @@ public abstract class Executable<ProtoRequest, ProtoResponse> {
   protected abstract Status getStatus(ProtoResponse response);
 
   public ProtoResponse execute(@NonNull final Client client) {
+    final var tracker = client.getExecutionTracker();
+    tracker.enter();
+
+    try {
+      return doExecute(client);
+    } finally {
+      tracker.exit();
+    }
+  }
+
+  private ProtoResponse doExecute(@NonNull final Client client) {
     final var request = this.buildRequest();
 
     resolveConfig(client);
@@ -68,11 +117,35 @@ public abstract class Executable<ProtoRequest, ProtoResponse> {
         throw new TimeoutException("Request timeout error");
       }
 
-      final var channel = client.getNode().getChannel();
+      final var node = resolveNode(client);
+      final ProtoResponse response;
+
+      if (node.isClosed() && this.node == null) {
+        // The node left the network after it was selected, the next one comes from the new set
+        continue;
+      }
 
-      final var response =
-          ClientCalls.blockingUnaryCall(
-              channel.newCall(this.getMethodDescriptor(), CallOptions.DEFAULT), request);
+      try {
+        response =
+            ClientCalls.blockingUnaryCall(
+                node.getChannel(client.getChannelFactory())
+                    .newCall(this.getMethodDescriptor(), CallOptions.DEFAULT),
+                request);
+      } catch (StatusRuntimeException e) {
+        if (e.getStatus().getCode() != io.grpc.Status.Code.UNAVAILABLE) {
+          throw e;
+        }
+
+        // The proxy is unreachable: back it off so the next attempt goes through another proxy of
+        // the same node account, and only wait when none of them is healthy
+        node.increaseBackoff();
+        if (!resolveNode(client).isHealthy()) {
+          sleep(calculateBackoff(i));
+        }
+        continue;
+      }
+
+      node.decreaseBackoff();
 
       final var executionState = this.getExecutionState(response);
       final var status = this.getStatus(response);
@@ -82,12 +155,10 @@ public abstract class Executable<ProtoRequest, ProtoResponse> {
           return response;
         }
         case RETRY -> {
-          client.getNetwork().selectNode();
-          try {
-            Thread.sleep(calculateBackoff(i));
-          } catch (InterruptedException e) {
-            throw new RuntimeException(e);
+          if (this.node == null) {
+            client.getNetwork().selectNode();
           }
+          sleep(calculateBackoff(i));
           continue;
         }
         case EXPIRED -> {
@@ -102,6 +173,14 @@ public abstract class Executable<ProtoRequest, ProtoResponse> {
     throw new TimeoutException("Execution max attempts reached");
   }
 
+  private static void sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
   private long calculateBackoff(int i) {
     var multiplicity = (long) Math.pow(2, (i + 1));
     return minBackoff.multipliedBy(multiplicity).toMillis();
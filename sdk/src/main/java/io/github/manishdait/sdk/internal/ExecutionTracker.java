@@ -0,0 +1,63 @@
+package io.github.manishdait.sdk.internal;
+
+import java.time.Duration;
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+
+/** Counts the executions in flight on a client so that closing it can wait for them to finish. */
+public final class ExecutionTracker {
+  private int inFlight = 0;
+  private boolean closed = false;
+
+  /**
+   * Register the start of an execution.
+   *
+   * @throws IllegalStateException if the tracker has been closed
+   */
+  public synchronized void enter() {
+    if (closed) {
+      throw new IllegalStateException("client is closed");
+    }
+    inFlight++;
+  }
+
+  /** Register the end of an execution started with {@link #enter()}. */
+  public synchronized void exit() {
+    inFlight--;
+    if (inFlight == 0) {
+      notifyAll();
+    }
+  }
+
+  public synchronized int getInFlight() {
+    return inFlight;
+  }
+
+  public synchronized boolean isClosed() {
+    return closed;
+  }
+
+  /**
+   * Reject new executions and wait for the ones in flight to finish.
+   *
+   * @param timeout how long to wait
+   * @return {@code true} if every execution finished within the timeout
+   * @throws InterruptedException if interrupted while waiting
+   */
+  public synchronized boolean close(@NonNull final Duration timeout) throws InterruptedException {
+    Objects.requireNonNull(timeout, "timeout must not be null");
+
+    closed = true;
+    final long deadline = System.nanoTime() + timeout.toNanos();
+
+    while (inFlight > 0) {
+      final long remaining = deadline - System.nanoTime();
+      if (remaining <= 0) {
+        return false;
+      }
+      wait(Math.max(1, remaining / 1_000_000));
+    }
+
+    return true;
+  }
+}
@@ -0,0 +1,85 @@
+package io.github.manishdait.sdk.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import org.jspecify.annotations.NonNull;
+
+/** Helpers for the futures behind the blocking and fan-out calls of the SDK. */
+public final class Futures {
+  private Futures() {}
+
+  /**
+   * Wait for a future, throwing what it failed with rather than the {@link CompletionException}
+   * wrapping it.
+   *
+   * @param future the future to wait for
+   * @return the result of {@code future}
+   * @param <T> the result type
+   */
+  public static <T> T join(@NonNull final CompletableFuture<T> future) {
+    Objects.requireNonNull(future, "future must not be null");
+
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      if (e.getCause() instanceof Error error) {
+        throw error;
+      }
+      throw e;
+    }
+  }
+
+  /**
+   * Run an operation for every item with up to {@code maxConcurrency} running at once.
+   *
+   * <p>The returned future fails as soon as one operation fails. Operations still queued behind the
+   * limit are then never started; those already running are left to finish, and their results are
+   * dropped.
+   *
+   * @param maxConcurrency the maximum number of operations running at once
+   * @param items the items to run the operation for
+   * @param operation starts the operation for an item and returns its future
+   * @return a future of the results in the order of {@code items}
+   * @param <E> the item type
+   * @param <T> the result type
+   */
+  public static <E, T> CompletableFuture<List<T>> all(
+      final int maxConcurrency,
+      @NonNull final List<E> items,
+      @NonNull final Function<E, CompletableFuture<T>> operation) {
+    Objects.requireNonNull(items, "items must not be null");
+    Objects.requireNonNull(operation, "operation must not be null");
+
+    final var limiter = new AsyncLimiter(maxConcurrency);
+    final var result = new CompletableFuture<List<T>>();
+    final var futures = new ArrayList<CompletableFuture<T>>(items.size());
+    for (var item : items) {
+      final var future =
+          limiter.submit(
+              () ->
+                  // The limiter completes a failed operation before starting the next one
+                  result.isDone()
+                      ? CompletableFuture.<T>failedFuture(new CancellationException())
+                      : operation.apply(item));
+      future.whenComplete(
+          (value, error) -> {
+            if (error != null) {
+              result.completeExceptionally(error);
+            }
+          });
+      futures.add(future);
+    }
+
+    CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+        .thenRun(() -> result.complete(futures.stream().map(CompletableFuture::join).toList()));
+    return result;
+  }
+}
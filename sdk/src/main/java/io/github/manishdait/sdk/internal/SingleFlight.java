@@ -0,0 +1,53 @@
+package io.github.manishdait.sdk.internal;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Collapses concurrent calls for the same key into a single execution whose result is shared by
+ * every caller. Nothing is retained once the execution completes.
+ *
+ * @param <K> the key identifying identical calls
+ * @param <V> the result type
+ */
+public final class SingleFlight<K, V> {
+  private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+  /**
+   * Run {@code supplier} for {@code key}, or wait for the call already in flight for it.
+   *
+   * @param key the key identifying the call
+   * @param supplier the call to run if none is in flight
+   * @return the shared result
+   */
+  public V execute(@NonNull final K key, @NonNull final Supplier<V> supplier) {
+    Objects.requireNonNull(key, "key must not be null");
+    Objects.requireNonNull(supplier, "supplier must not be null");
+
+    final var future = new CompletableFuture<V>();
+    final var existing = inFlight.putIfAbsent(key, future);
+
+    if (existing != null) {
+      return Futures.join(existing);
+    }
+
+    try {
+      final var result = supplier.get();
+      future.complete(result);
+      return result;
+    } catch (RuntimeException | Error e) {
+      future.completeExceptionally(e);
+      throw e;
+    } finally {
+      inFlight.remove(key, future);
+    }
+  }
+
+  public int inFlightCount() {
+    return inFlight.size();
+  }
+}
@@ -0,0 +1,37 @@
+package io.github.manishdait.sdk.internal.key;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.UnsafeByteOperations;
+import com.hedera.hashgraph.sdk.proto.SignaturePair;
+import io.github.manishdait.sdk.key.PublicKey;
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+
+/** Helper for building signature map entries. */
+public final class SignatureUtils {
+  private SignatureUtils() {}
+
+  /**
+   * Returns the {@link SignaturePair} for a signature, placed in the field matching the type of the
+   * key that produced it.
+   *
+   * @param publicKey the public key of the signer, used as the full prefix
+   * @param signature the signature bytes
+   * @return the {@code SignaturePair}
+   */
+  public static @NonNull SignaturePair toSignaturePair(
+      @NonNull final PublicKey publicKey, final byte[] signature) {
+    Objects.requireNonNull(publicKey, "publicKey must not be null");
+    Objects.requireNonNull(signature, "signature must not be null");
+
+    // getBytes() already returns a defensive copy, so it can be wrapped without copying again
+    final var builder =
+        SignaturePair.newBuilder()
+            .setPubKeyPrefix(UnsafeByteOperations.unsafeWrap(publicKey.getBytes()));
+
+    return switch (publicKey.getType()) {
+      case ED25519 -> builder.setEd25519(ByteString.copyFrom(signature)).build();
+      case ECDSA -> builder.setECDSASecp256K1(ByteString.copyFrom(signature)).build();
+    };
+  }
+}
@@ -6,6 +6,7 @@ import java.util.List;
 import java.util.Map;
 
 public final class NetworkConstant {
+  /** The built-in nodes of each network. Copy them before use, never connect them directly. */
   public static final Map<NetworkType, List<Node>> DEFAULT_NODES =
       Map.of(
           NetworkType.MAINNET,
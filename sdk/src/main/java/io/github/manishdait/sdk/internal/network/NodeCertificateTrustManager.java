@@ -0,0 +1,131 @@
+package io.github.manishdait.sdk.internal.network;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.cert.CertificateEncodingException;
+import java.security.cert.CertificateException;
+import java.security.cert.X509Certificate;
+import java.text.Normalizer;
+import java.util.Objects;
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.X509ExtendedTrustManager;
+import org.bouncycastle.util.encoders.Hex;
+import org.bouncycastle.util.io.pem.PemObject;
+import org.bouncycastle.util.io.pem.PemWriter;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Trusts a node only if it presents the certificate whose hash is published in the address book.
+ *
+ * <p>The address book {@code nodeCertHash} is the UTF-8 hex string of the SHA-384 hash of the
+ * node's certificate in PEM format, normalized to NFKD. Node certificates are self-signed and
+ * issued for no particular host name, so the pinned hash replaces both chain and host name
+ * validation. Extending {@link X509ExtendedTrustManager} keeps the JDK from adding its own host
+ * name check on top.
+ */
+public final class NodeCertificateTrustManager extends X509ExtendedTrustManager {
+  private static final X509Certificate[] NO_ISSUERS = new X509Certificate[0];
+
+  private final String certHash;
+
+  /**
+   * Constructor.
+   *
+   * @param certHash the {@code nodeCertHash} from the address book
+   */
+  public NodeCertificateTrustManager(final byte[] certHash) {
+    Objects.requireNonNull(certHash, "certHash must not be null");
+
+    if (certHash.length == 0) {
+      throw new IllegalArgumentException("certHash must not be empty");
+    }
+
+    this.certHash = new String(certHash, StandardCharsets.UTF_8).strip();
+  }
+
+  /**
+   * Compute the address book hash of a certificate.
+   *
+   * @param certificate the certificate presented by the node
+   * @return the lowercase hex SHA-384 of the certificate's PEM encoding
+   * @throws CertificateException if the certificate cannot be encoded
+   */
+  public static @NonNull String hash(@NonNull final X509Certificate certificate)
+      throws CertificateException {
+    Objects.requireNonNull(certificate, "certificate must not be null");
+
+    try {
+      final var pem = new StringWriter();
+      try (var writer = new PemWriter(pem)) {
+        writer.writeObject(new PemObject("CERTIFICATE", certificate.getEncoded()));
+      }
+
+      final var normalized = Normalizer.normalize(pem.toString(), Normalizer.Form.NFKD);
+      final var digest = MessageDigest.getInstance("SHA-384");
+      return Hex.toHexString(digest.digest(normalized.getBytes(StandardCharsets.UTF_8)));
+    } catch (CertificateEncodingException e) {
+      throw e;
+    } catch (IOException | NoSuchAlgorithmException e) {
+      throw new CertificateException("Unable to hash node certificate", e);
+    }
+  }
+
+  @Override
+  public void checkServerTrusted(final X509Certificate[] chain, final String authType)
+      throws CertificateException {
+    if (chain == null || chain.length == 0) {
+      throw new CertificateException("Node presented no certificate");
+    }
+
+    for (var certificate : chain) {
+      if (certHash.equalsIgnoreCase(hash(certificate))) {
+        return;
+      }
+    }
+
+    throw new CertificateException("Node certificate does not match the address book hash");
+  }
+
+  @Override
+  public void checkServerTrusted(
+      final X509Certificate[] chain, final String authType, final Socket socket)
+      throws CertificateException {
+    checkServerTrusted(chain, authType);
+  }
+
+  @Override
+  public void checkServerTrusted(
+      final X509Certificate[] chain, final String authType, final SSLEngine engine)
+      throws CertificateException {
+    checkServerTrusted(chain, authType);
+  }
+
+  @Override
+  public void checkClientTrusted(final X509Certificate[] chain, final String authType)
+      throws CertificateException {
+    throw new CertificateException("Client certificates are not supported");
+  }
+
+  @Override
+  public void checkClientTrusted(
+      final X509Certificate[] chain, final String authType, final Socket socket)
+      throws CertificateException {
+    checkClientTrusted(chain, authType);
+  }
+
+  @Override
+  public void checkClientTrusted(
+      final X509Certificate[] chain, final String authType, final SSLEngine engine)
+      throws CertificateException {
+    checkClientTrusted(chain, authType);
+  }
+
+  @Override
+  public X509Certificate[] getAcceptedIssuers() {
+    return NO_ISSUERS;
+  }
+}
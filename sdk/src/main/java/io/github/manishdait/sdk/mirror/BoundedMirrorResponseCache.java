@@ -0,0 +1,328 @@
+package io.github.manishdait.sdk.mirror;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.regex.Pattern;
+import org.bouncycastle.util.encoders.Hex;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A {@link MirrorResponseCache} holding up to {@code maxHeapBytes} of response bodies on the heap,
+ * evicting the least recently used entries first and pinned entries last.
+ *
+ * <p>With a disk directory, entries evicted from the heap are written to disk instead of being
+ * dropped, and read back into the heap on their next use. The disk tier is not bounded, it is meant
+ * for pinned resources that never change and are worth keeping across restarts. Disk reads, writes
+ * and deletes happen outside the cache lock, so file I/O does not hold up requests served from the
+ * heap.
+ */
+public final class BoundedMirrorResponseCache implements MirrorResponseCache {
+  private static final int FORMAT_VERSION = 1;
+  private static final Pattern SPILL_FILE = Pattern.compile("[0-9a-f]{64}");
+
+  private final long maxHeapBytes;
+  private final @Nullable Path diskDir;
+  private final LinkedHashMap<URI, CachedResponse> entries = new LinkedHashMap<>(16, 0.75f, true);
+  private long heapBytes = 0;
+
+  // Bumped by remove and clear, so a disk read or write racing with them is dropped
+  private long generation = 0;
+
+  // Orders the writes and deletes of spilled files, never taken while holding the cache lock
+  private final Object diskLock = new Object();
+
+  /**
+   * Constructor for a heap only cache.
+   *
+   * @param maxHeapBytes the maximum total size of the cached bodies
+   */
+  public BoundedMirrorResponseCache(final long maxHeapBytes) {
+    this(maxHeapBytes, null);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param maxHeapBytes the maximum total size of the cached bodies on the heap
+   * @param diskDir the directory entries evicted from the heap are kept in, or {@code null}
+   */
+  public BoundedMirrorResponseCache(final long maxHeapBytes, @Nullable final Path diskDir) {
+    if (maxHeapBytes <= 0) {
+      throw new IllegalArgumentException("maxHeapBytes must be greater than 0");
+    }
+
+    this.maxHeapBytes = maxHeapBytes;
+    this.diskDir = diskDir;
+  }
+
+  public long getMaxHeapBytes() {
+    return maxHeapBytes;
+  }
+
+  public @Nullable Path getDiskDir() {
+    return diskDir;
+  }
+
+  public synchronized long getHeapBytes() {
+    return heapBytes;
+  }
+
+  public synchronized int size() {
+    return entries.size();
+  }
+
+  @Override
+  public @Nullable CachedResponse get(@NonNull final URI uri) {
+    Objects.requireNonNull(uri, "uri must not be null");
+
+    final long readGeneration;
+    synchronized (this) {
+      final var cached = entries.get(uri);
+      if (cached != null || diskDir == null) {
+        return cached;
+      }
+      readGeneration = generation;
+    }
+
+    final var spilled = readFromDisk(uri);
+    if (spilled == null) {
+      return null;
+    }
+
+    final List<Map.Entry<URI, CachedResponse>> evicted;
+    final long spillGeneration;
+    synchronized (this) {
+      if (generation != readGeneration) {
+        return null;
+      }
+
+      // A response put while the file was read is newer than the spilled one
+      final var cached = entries.get(uri);
+      if (cached != null) {
+        return cached;
+      }
+
+      evicted = putOnHeap(uri, spilled);
+      spillGeneration = generation;
+    }
+
+    spill(evicted, spillGeneration);
+    return spilled;
+  }
+
+  @Override
+  public void put(@NonNull final URI uri, @NonNull final CachedResponse response) {
+    Objects.requireNonNull(uri, "uri must not be null");
+    Objects.requireNonNull(response, "response must not be null");
+
+    if (response.body().length > maxHeapBytes) {
+      return;
+    }
+
+    final List<Map.Entry<URI, CachedResponse>> evicted;
+    final long spillGeneration;
+    synchronized (this) {
+      evicted = putOnHeap(uri, response);
+      spillGeneration = generation;
+    }
+
+    spill(evicted, spillGeneration);
+  }
+
+  @Override
+  public void remove(@NonNull final URI uri) {
+    Objects.requireNonNull(uri, "uri must not be null");
+
+    synchronized (this) {
+      generation++;
+      final var removed = entries.remove(uri);
+      if (removed != null) {
+        heapBytes -= removed.body().length;
+      }
+    }
+
+    if (diskDir == null) {
+      return;
+    }
+
+    synchronized (diskLock) {
+      try {
+        Files.deleteIfExists(fileOf(uri));
+      } catch (IOException e) {
+        // A stale file is revalidated like any other expired entry
+      }
+    }
+  }
+
+  /** Drop every cached response, including the ones spilled to disk. */
+  @Override
+  public void clear() {
+    synchronized (this) {
+      generation++;
+      entries.clear();
+      heapBytes = 0;
+    }
+
+    if (diskDir == null) {
+      return;
+    }
+
+    synchronized (diskLock) {
+      try (var files = Files.list(diskDir)) {
+        for (var file : (Iterable<Path>) files::iterator) {
+          if (SPILL_FILE.matcher(file.getFileName().toString()).matches()) {
+            Files.deleteIfExists(file);
+          }
+        }
+      } catch (NoSuchFileException e) {
+        // Nothing was ever spilled
+      } catch (IOException | UncheckedIOException e) {
+        // A file left behind is revalidated like any other expired entry
+      }
+    }
+  }
+
+  /** Put a response on the heap, returning the entries evicted to make room that go to disk. */
+  private List<Map.Entry<URI, CachedResponse>> putOnHeap(
+      final URI uri, final CachedResponse response) {
+    final var previous = entries.put(uri, response);
+    if (previous != null) {
+      heapBytes -= previous.body().length;
+    }
+    heapBytes += response.body().length;
+
+    final var evicted = new ArrayList<Map.Entry<URI, CachedResponse>>();
+    while (heapBytes > maxHeapBytes) {
+      final var victim = evict();
+      if (diskDir != null) {
+        evicted.add(victim);
+      }
+    }
+    return evicted;
+  }
+
+  /**
+   * Write evicted entries to disk once the cache lock is released. An entry is skipped if the cache
+   * was removed from or cleared since it was evicted, so the write cannot bring back a dropped
+   * response, or if it is back on the heap, where the newer copy lives.
+   */
+  private void spill(
+      final List<Map.Entry<URI, CachedResponse>> evicted, final long evictGeneration) {
+    if (evicted.isEmpty()) {
+      return;
+    }
+
+    synchronized (diskLock) {
+      for (var victim : evicted) {
+        if (isSpillStale(victim.getKey(), evictGeneration)) {
+          continue;
+        }
+        writeToDisk(victim.getKey(), victim.getValue());
+      }
+    }
+  }
+
+  private synchronized boolean isSpillStale(final URI uri, final long evictGeneration) {
+    return generation != evictGeneration || entries.containsKey(uri);
+  }
+
+  private Map.Entry<URI, CachedResponse> evict() {
+    Map.Entry<URI, CachedResponse> victim = null;
+    for (var entry : entries.entrySet()) {
+      if (!entry.getValue().pinned()) {
+        victim = entry;
+        break;
+      }
+    }
+    if (victim == null) {
+      victim = entries.entrySet().iterator().next();
+    }
+
+    entries.remove(victim.getKey());
+    heapBytes -= victim.getValue().body().length;
+    return Map.entry(victim.getKey(), victim.getValue());
+  }
+
+  private @Nullable CachedResponse readFromDisk(final URI uri) {
+    try (var in = new DataInputStream(new BufferedInputStream(Files.newInputStream(fileOf(uri))))) {
+      if (in.readInt() != FORMAT_VERSION || !in.readUTF().equals(uri.toString())) {
+        return null;
+      }
+
+      final var etag = in.readBoolean() ? in.readUTF() : null;
+      final var expiresAt = in.readLong();
+      final var pinned = in.readBoolean();
+      final var body = in.readNBytes(in.readInt());
+
+      return new CachedResponse(body, etag, expiresAt, pinned);
+    } catch (NoSuchFileException e) {
+      return null;
+    } catch (IOException e) {
+      // A truncated or corrupt file is a cache miss
+      return null;
+    }
+  }
+
+  private void writeToDisk(final URI uri, final CachedResponse response) {
+    try {
+      Files.createDirectories(diskDir);
+
+      final var file = fileOf(uri);
+      final var tmp = Files.createTempFile(diskDir, file.getFileName().toString(), ".tmp");
+      try {
+        try (var out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+          out.writeInt(FORMAT_VERSION);
+          out.writeUTF(uri.toString());
+          out.writeBoolean(response.etag() != null);
+          if (response.etag() != null) {
+            out.writeUTF(response.etag());
+          }
+          out.writeLong(response.expiresAt());
+          out.writeBoolean(response.pinned());
+          out.writeInt(response.body().length);
+          out.write(response.body());
+        }
+
+        try {
+          Files.move(
+              tmp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+          Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+      } finally {
+        Files.deleteIfExists(tmp);
+      }
+    } catch (IOException e) {
+      // Failing to spill only costs a refetch
+    }
+  }
+
+  private Path fileOf(final URI uri) {
+    try {
+      final var digest = MessageDigest.getInstance("SHA-256");
+      return diskDir.resolve(
+          Hex.toHexString(digest.digest(uri.toString().getBytes(StandardCharsets.UTF_8))));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not available", e);
+    }
+  }
+}
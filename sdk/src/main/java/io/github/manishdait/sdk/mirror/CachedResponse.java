@@ -0,0 +1,28 @@
+package io.github.manishdait.sdk.mirror;
+
+import java.util.Objects;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A mirror node REST response held by a {@link MirrorResponseCache}.
+ *
+ * @param body the decoded response body
+ * @param etag the entity tag used to revalidate the response, or {@code null}
+ * @param expiresAt the epoch millisecond the response must be revalidated after
+ * @param pinned whether the resource can never change, so the response never expires
+ */
+public record CachedResponse(byte[] body, @Nullable String etag, long expiresAt, boolean pinned) {
+  public CachedResponse {
+    Objects.requireNonNull(body, "body must not be null");
+  }
+
+  /**
+   * Whether the response can be used without asking the mirror node.
+   *
+   * @param now the current epoch millisecond
+   * @return {@code true} if the response is pinned or not yet expired
+   */
+  public boolean isFresh(final long now) {
+    return pinned || now < expiresAt;
+  }
+}
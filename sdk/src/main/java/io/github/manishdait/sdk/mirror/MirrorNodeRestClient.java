@@ -0,0 +1,575 @@
+package io.github.manishdait.sdk.mirror;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import io.github.manishdait.sdk.exception.MirrorNodeException;
+import io.github.manishdait.sdk.internal.AsyncLimiter;
+import io.github.manishdait.sdk.internal.Config;
+import io.github.manishdait.sdk.internal.Futures;
+import io.github.manishdait.sdk.internal.network.NetworkConstant;
+import io.github.manishdait.sdk.network.NetworkType;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import java.util.zip.GZIPInputStream;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Client for the mirror node REST API.
+ *
+ * <p>Every instance shares one HTTP/2 {@link HttpClient}, so concurrent requests to the same mirror
+ * node are multiplexed over a pooled connection. Responses are requested gzip-compressed and parsed
+ * straight from the response stream into the requested type, without buffering the body as a {@code
+ * String}. JSON properties are matched in snake case and unknown properties are ignored, so records
+ * only need to declare the fields they use.
+ *
+ * <p>Failures are reported as {@link MirrorNodeException}. Throttled requests, server errors and
+ * connection failures are retried with exponential backoff up to {@link #getMaxAttempts()} times.
+ * At most {@link #getMaxConcurrentRequests()} requests of one instance are in flight at a time,
+ * further requests wait for a free slot without blocking the caller.
+ */
+public final class MirrorNodeRestClient {
+  private static final HttpClient HTTP_CLIENT =
+      HttpClient.newBuilder()
+          .version(HttpClient.Version.HTTP_2)
+          .followRedirects(HttpClient.Redirect.NORMAL)
+          .connectTimeout(Duration.ofSeconds(10))
+          .build();
+
+  private static final ObjectMapper MAPPER =
+      new ObjectMapper()
+          .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+          .setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE);
+
+  private static final Pattern FINAL_RESOURCE =
+      Pattern.compile("/api/v1/(blocks|transactions)/[^/]+");
+
+  // Response bodies are read with blocking streams, which must not tie up the HTTP client threads
+  private static final ExecutorService PARSER = Executors.newVirtualThreadPerTaskExecutor();
+
+  private final URI baseUri;
+  private Duration requestTimeout = Config.DEFAULT_MIRROR_REQUEST_TIMEOUT;
+  private int maxAttempts = Config.DEFAULT_MIRROR_MAX_ATTEMPTS;
+  private Duration minBackoff = Config.DEFAULT_MIN_BACKOFF;
+  private Duration maxBackoff = Config.DEFAULT_MAX_BACKOFF;
+  private final AsyncLimiter limiter =
+      new AsyncLimiter(Config.DEFAULT_MIRROR_MAX_CONCURRENT_REQUESTS);
+  private @Nullable MirrorResponseCache responseCache;
+  private Predicate<URI> pinnedResources = MirrorNodeRestClient::isFinalResource;
+
+  /**
+   * Constructor.
+   *
+   * @param networkType the network whose public mirror node is queried
+   */
+  public MirrorNodeRestClient(@NonNull final NetworkType networkType) {
+    this(URI.create(NetworkConstant.MIRROR_NODE_REST_API.get(networkType)));
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param baseUri the base URI of the mirror node, such as {@code https://host}
+   */
+  public MirrorNodeRestClient(@NonNull final URI baseUri) {
+    Objects.requireNonNull(baseUri, "baseUri must not be null");
+    this.baseUri = baseUri;
+  }
+
+  public URI getBaseUri() {
+    return baseUri;
+  }
+
+  public Duration getRequestTimeout() {
+    return requestTimeout;
+  }
+
+  public MirrorNodeRestClient withRequestTimeout(@NonNull final Duration requestTimeout) {
+    Objects.requireNonNull(requestTimeout, "requestTimeout must not be null");
+    this.requestTimeout = requestTimeout;
+    return this;
+  }
+
+  public int getMaxAttempts() {
+    return maxAttempts;
+  }
+
+  public MirrorNodeRestClient withMaxAttempts(final int maxAttempts) {
+    if (maxAttempts <= 0) {
+      throw new IllegalArgumentException("maxAttempts must be greater than 0");
+    }
+    this.maxAttempts = maxAttempts;
+    return this;
+  }
+
+  public Duration getMinBackoff() {
+    return minBackoff;
+  }
+
+  public MirrorNodeRestClient withMinBackoff(@NonNull final Duration minBackoff) {
+    Objects.requireNonNull(minBackoff, "minBackoff must not be null");
+    this.minBackoff = minBackoff;
+    return this;
+  }
+
+  public Duration getMaxBackoff() {
+    return maxBackoff;
+  }
+
+  public MirrorNodeRestClient withMaxBackoff(@NonNull final Duration maxBackoff) {
+    Objects.requireNonNull(maxBackoff, "maxBackoff must not be null");
+    this.maxBackoff = maxBackoff;
+    return this;
+  }
+
+  public int getMaxConcurrentRequests() {
+    return limiter.getMaxConcurrency();
+  }
+
+  /**
+   * Set how many requests may be in flight at once. Requests already in flight count against the
+   * new limit.
+   *
+   * @param maxConcurrentRequests the maximum number of concurrent requests
+   * @return this {@code MirrorNodeRestClient}
+   */
+  public MirrorNodeRestClient withMaxConcurrentRequests(final int maxConcurrentRequests) {
+    this.limiter.setMaxConcurrency(maxConcurrentRequests);
+    return this;
+  }
+
+  public @Nullable MirrorResponseCache getResponseCache() {
+    return responseCache;
+  }
+
+  /**
+   * Cache responses in the given cache, or disable caching with {@code null}.
+   *
+   * <p>Responses are cached as the mirror node allows through {@code Cache-Control}. Fresh entries
+   * are served without a request, and expired entries with an {@code ETag} are revalidated with
+   * {@code If-None-Match}. Pinned resources are cached without expiry.
+   *
+   * @param responseCache the cache to use
+   * @return this {@code MirrorNodeRestClient}
+   */
+  public MirrorNodeRestClient withResponseCache(@Nullable final MirrorResponseCache responseCache) {
+    this.responseCache = responseCache;
+    return this;
+  }
+
+  /**
+   * Set which resources can never change once they exist, so their responses are cached without
+   * expiry. By default these are single blocks and single transactions, which are final once the
+   * mirror node returns them. Responses marked {@code immutable} are always pinned.
+   *
+   * @param pinnedResources tests the request URI of a resource
+   * @return this {@code MirrorNodeRestClient}
+   */
+  public MirrorNodeRestClient withPinnedResources(@NonNull final Predicate<URI> pinnedResources) {
+    Objects.requireNonNull(pinnedResources, "pinnedResources must not be null");
+    this.pinnedResources = pinnedResources;
+    return this;
+  }
+
+  private static boolean isFinalResource(final URI uri) {
+    return uri.getRawQuery() == null && FINAL_RESOURCE.matcher(uri.getRawPath()).matches();
+  }
+
+  /**
+   * Query the mirror node and parse the response into a JSON tree.
+   *
+   * @param networkType the network whose public mirror node is queried
+   * @param endpoint the path of the resource, such as {@code /api/v1/accounts/0.0.2}
+   * @return the response as {@code JsonNode}
+   * @throws MirrorNodeException if the request fails
+   */
+  public static JsonNode query(
+      @NonNull final NetworkType networkType, @NonNull final String endpoint) {
+    Objects.requireNonNull(networkType, "networkType must not be null");
+    return new MirrorNodeRestClient(networkType).send(endpoint, JsonNode.class);
+  }
+
+  /**
+   * Get a resource, blocking until it is parsed.
+   *
+   * @param path the path of the resource, or an absolute URI
+   * @param type the type the JSON response is parsed into
+   * @return the parsed response
+   * @param <T> the response type
+   * @throws MirrorNodeException if the request fails after every attempt
+   */
+  public <T> T send(@NonNull final String path, @NonNull final Class<T> type) {
+    return Futures.join(sendAsync(path, type));
+  }
+
+  /**
+   * Get a resource without blocking.
+   *
+   * @param path the path of the resource, or an absolute URI
+   * @param type the type the JSON response is parsed into
+   * @return a future of the parsed response, failing with {@link MirrorNodeException}
+   * @param <T> the response type
+   */
+  public <T> CompletableFuture<T> sendAsync(
+      @NonNull final String path, @NonNull final Class<T> type) {
+    Objects.requireNonNull(path, "path must not be null");
+    Objects.requireNonNull(type, "type must not be null");
+
+    return sendAsync(path, body -> MAPPER.readValue(body, type));
+  }
+
+  /**
+   * Get one page of a paginated resource.
+   *
+   * @param path the path of the page, or an absolute URI
+   * @param itemsField the field holding the items, such as {@code transactions}
+   * @param itemType the type each item is parsed into
+   * @return a future of the page, failing with {@link MirrorNodeException}
+   * @param <T> the item type
+   */
+  public <T> CompletableFuture<MirrorPage<T>> sendPageAsync(
+      @NonNull final String path,
+      @NonNull final String itemsField,
+      @NonNull final Class<T> itemType) {
+    Objects.requireNonNull(path, "path must not be null");
+    Objects.requireNonNull(itemsField, "itemsField must not be null");
+    Objects.requireNonNull(itemType, "itemType must not be null");
+
+    final var listType = MAPPER.getTypeFactory().constructCollectionType(List.class, itemType);
+    return sendAsync(path, body -> readPage(body, itemsField, listType));
+  }
+
+  /**
+   * Iterate over every page of a paginated resource, following {@code links.next} and requesting
+   * the next page while the current one is processed.
+   *
+   * <p>A caller that stops before the last page must close the iterator to cancel the pages
+   * requested ahead.
+   *
+   * @param path the path of the first page
+   * @param itemsField the field holding the items, such as {@code transactions}
+   * @param itemType the type each item is parsed into
+   * @param prefetchPages how many pages to request ahead of the one being processed
+   * @return a lazy iterator over the pages
+   * @param <T> the item type
+   */
+  public <T> MirrorPageIterator<T> pages(
+      @NonNull final String path,
+      @NonNull final String itemsField,
+      @NonNull final Class<T> itemType,
+      final int prefetchPages) {
+    return newPageIterator(path, itemsField, itemType, prefetchPages);
+  }
+
+  /**
+   * Stream every item of a paginated resource, prefetching one page ahead.
+   *
+   * @see #stream(String, String, Class, int)
+   */
+  public <T> Stream<T> stream(
+      @NonNull final String path,
+      @NonNull final String itemsField,
+      @NonNull final Class<T> itemType) {
+    return stream(path, itemsField, itemType, Config.DEFAULT_MIRROR_PREFETCH_PAGES);
+  }
+
+  /**
+   * Stream every item of a paginated resource. Pages are fetched lazily as the stream is consumed,
+   * with {@code prefetchPages} pages requested ahead. Closing the stream stops following the pages.
+   *
+   * @param path the path of the first page
+   * @param itemsField the field holding the items, such as {@code transactions}
+   * @param itemType the type each item is parsed into
+   * @param prefetchPages how many pages to request ahead of the one being processed
+   * @return a lazy sequential {@code Stream} of the items
+   * @param <T> the item type
+   */
+  public <T> Stream<T> stream(
+      @NonNull final String path,
+      @NonNull final String itemsField,
+      @NonNull final Class<T> itemType,
+      final int prefetchPages) {
+    final var pages = newPageIterator(path, itemsField, itemType, prefetchPages);
+
+    return StreamSupport.stream(
+            Spliterators.spliteratorUnknownSize(pages, Spliterator.ORDERED | Spliterator.NONNULL),
+            false)
+        .flatMap(page -> page.items().stream())
+        .onClose(pages::close);
+  }
+
+  private <T> MirrorPageIterator<T> newPageIterator(
+      final String path,
+      final String itemsField,
+      final Class<T> itemType,
+      final int prefetchPages) {
+    Objects.requireNonNull(path, "path must not be null");
+    Objects.requireNonNull(itemsField, "itemsField must not be null");
+    Objects.requireNonNull(itemType, "itemType must not be null");
+
+    if (prefetchPages <= 0) {
+      throw new IllegalArgumentException("prefetchPages must be greater than 0");
+    }
+
+    return new MirrorPageIterator<>(
+        path, next -> sendPageAsync(next, itemsField, itemType), prefetchPages);
+  }
+
+  private <T> CompletableFuture<T> sendAsync(final String path, final BodyReader<T> reader) {
+    final var uri = baseUri.resolve(path);
+    final var cache = this.responseCache;
+    final var cached = cache == null ? null : cache.get(uri);
+
+    if (cached != null && cached.isFresh(System.currentTimeMillis())) {
+      return CompletableFuture.supplyAsync(() -> readCached(uri, cached, reader), PARSER);
+    }
+
+    final var builder =
+        HttpRequest.newBuilder()
+            .uri(uri)
+            .timeout(requestTimeout)
+            .header("Accept", "application/json")
+            .header("Accept-Encoding", "gzip")
+            .GET();
+
+    if (cached != null && cached.etag() != null) {
+      builder.header("If-None-Match", cached.etag());
+    }
+
+    final var request = builder.build();
+    return attempt(request, response -> parse(request, response, cache, cached, reader), 0);
+  }
+
+  private <T> CompletableFuture<T> attempt(
+      final HttpRequest request,
+      final Function<HttpResponse<InputStream>, T> handler,
+      final int attempt) {
+    return limiter
+        .submit(
+            () ->
+                HTTP_CLIENT
+                    .sendAsync(request, HttpResponse.BodyHandlers.ofInputStream())
+                    .thenApplyAsync(handler, PARSER))
+        .handle(
+            (value, error) -> {
+              if (error == null) {
+                return CompletableFuture.completedFuture(value);
+              }
+
+              final var exception = toMirrorNodeException(request, error);
+              if (!exception.isRetryable() || attempt + 1 >= maxAttempts) {
+                return CompletableFuture.<T>failedFuture(exception);
+              }
+
+              return CompletableFuture.runAsync(
+                      () -> {},
+                      CompletableFuture.delayedExecutor(
+                          calculateBackoff(attempt).toNanos(), TimeUnit.NANOSECONDS))
+                  .thenCompose(ignored -> attempt(request, handler, attempt + 1));
+            })
+        .thenCompose(future -> future);
+  }
+
+  private <T> T parse(
+      final HttpRequest request,
+      final HttpResponse<InputStream> response,
+      @Nullable final MirrorResponseCache cache,
+      @Nullable final CachedResponse cached,
+      final BodyReader<T> reader) {
+    final var uri = request.uri();
+    final var statusCode = response.statusCode();
+
+    try (var body = decode(response)) {
+      if (statusCode == 304 && cache != null && cached != null) {
+        final var revalidated = toCachedResponse(uri, response, cached.body(), cached.etag());
+        if (revalidated != null) {
+          cache.put(uri, revalidated);
+        } else {
+          cache.remove(uri);
+        }
+        return reader.read(new ByteArrayInputStream(cached.body()));
+      }
+
+      if (statusCode != 200) {
+        final var message = new String(body.readNBytes(1024), StandardCharsets.UTF_8);
+        throw new MirrorNodeException(
+            uri,
+            statusCode,
+            isRetryable(statusCode),
+            "Failed to query " + uri + " status: " + statusCode + " " + message,
+            null);
+      }
+
+      if (cache == null) {
+        return reader.read(body);
+      }
+
+      final var bytes = body.readAllBytes();
+      final var cacheable = toCachedResponse(uri, response, bytes, null);
+      if (cacheable != null) {
+        cache.put(uri, cacheable);
+      }
+      return reader.read(new ByteArrayInputStream(bytes));
+    } catch (JsonProcessingException e) {
+      throw new MirrorNodeException(uri, statusCode, false, "Invalid response from " + uri, e);
+    } catch (IOException e) {
+      throw new MirrorNodeException(
+          uri, statusCode, true, "Failed to read response from " + uri, e);
+    }
+  }
+
+  private static <T> T readCached(
+      final URI uri, final CachedResponse cached, final BodyReader<T> reader) {
+    try {
+      return reader.read(new ByteArrayInputStream(cached.body()));
+    } catch (IOException e) {
+      throw new MirrorNodeException(uri, 200, false, "Invalid cached response for " + uri, e);
+    }
+  }
+
+  /**
+   * Decide how a response is cached from its {@code Cache-Control} and {@code ETag} headers.
+   *
+   * @return the entry to cache, or {@code null} if the response must not be cached
+   */
+  private @Nullable CachedResponse toCachedResponse(
+      final URI uri,
+      final HttpResponse<?> response,
+      final byte[] body,
+      @Nullable final String previousEtag) {
+    final var etag = response.headers().firstValue("ETag").orElse(previousEtag);
+
+    long maxAge = 0;
+    boolean noStore = false;
+    boolean noCache = false;
+    boolean immutable = false;
+
+    for (var value : response.headers().allValues("Cache-Control")) {
+      for (var directive : value.split(",")) {
+        final var normalized = directive.trim().toLowerCase(Locale.ROOT);
+
+        if (normalized.equals("no-store")) {
+          noStore = true;
+        } else if (normalized.equals("no-cache")) {
+          noCache = true;
+        } else if (normalized.equals("immutable")) {
+          immutable = true;
+        } else if (normalized.startsWith("max-age=")) {
+          try {
+            maxAge = Long.parseLong(normalized.substring("max-age=".length()));
+          } catch (NumberFormatException e) {
+            maxAge = 0;
+          }
+        }
+      }
+    }
+
+    if (noStore) {
+      return null;
+    }
+
+    if (immutable || pinnedResources.test(uri)) {
+      return new CachedResponse(body, etag, Long.MAX_VALUE, true);
+    }
+
+    if (!noCache && maxAge > 0) {
+      return new CachedResponse(
+          body, etag, System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(maxAge), false);
+    }
+
+    // Without a lifetime the response is only worth keeping if it can be revalidated
+    return etag != null ? new CachedResponse(body, etag, 0, false) : null;
+  }
+
+  private static <T> MirrorPage<T> readPage(
+      final InputStream body, final String itemsField, final JavaType listType) throws IOException {
+    try (var parser = MAPPER.createParser(body)) {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        throw new JsonParseException(parser, "Expected a JSON object");
+      }
+
+      List<T> items = List.of();
+      String next = null;
+
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        final var field = parser.currentName();
+        parser.nextToken();
+
+        if (field.equals(itemsField)) {
+          items = MAPPER.readValue(parser, listType);
+        } else if (field.equals("links")) {
+          final JsonNode links = MAPPER.readTree(parser);
+          final var link = links.get("next");
+          next = link == null || link.isNull() ? null : link.asText();
+        } else {
+          parser.skipChildren();
+        }
+      }
+
+      return new MirrorPage<>(items, next);
+    }
+  }
+
+  private static InputStream decode(final HttpResponse<InputStream> response) throws IOException {
+    final var encoding = response.headers().firstValue("Content-Encoding").orElse("");
+    if (encoding.equalsIgnoreCase("gzip")) {
+      return new GZIPInputStream(response.body());
+    }
+    return response.body();
+  }
+
+  private static boolean isRetryable(final int statusCode) {
+    return statusCode == 429 || statusCode == 502 || statusCode == 503 || statusCode == 504;
+  }
+
+  private static MirrorNodeException toMirrorNodeException(
+      final HttpRequest request, final Throwable error) {
+    final var cause =
+        error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+
+    if (cause instanceof MirrorNodeException exception) {
+      return exception;
+    }
+
+    return new MirrorNodeException(
+        request.uri(), 0, cause instanceof IOException, "Failed to query " + request.uri(), cause);
+  }
+
+  @FunctionalInterface
+  private interface BodyReader<T> {
+    T read(InputStream body) throws IOException;
+  }
+
+  private Duration calculateBackoff(final int attempt) {
+    final var backoff = minBackoff.multipliedBy(1L << Math.min(attempt, 30));
+    return backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff;
+  }
+}
@@ -0,0 +1,21 @@
+package io.github.manishdait.sdk.mirror;
+
+import java.util.List;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * One page of a paginated mirror node REST response.
+ *
+ * @param items the items of the page
+ * @param next the path of the next page from {@code links.next}, or {@code null} on the last page
+ * @param <T> the item type
+ */
+public record MirrorPage<T>(List<T> items, @Nullable String next) {
+  public MirrorPage {
+    items = List.copyOf(items);
+  }
+
+  public boolean hasNext() {
+    return next != null;
+  }
+}
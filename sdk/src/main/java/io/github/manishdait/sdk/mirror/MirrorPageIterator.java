@@ -0,0 +1,100 @@
+package io.github.manishdait.sdk.mirror;
+
+import io.github.manishdait.sdk.internal.Futures;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * Walks the pages of a mirror node REST resource by following {@code links.next}.
+ *
+ * <p>Each page is requested as soon as the previous one has arrived, keeping up to {@code
+ * prefetchPages} pages in flight or buffered ahead of the caller. Pages therefore download while
+ * the caller is still processing earlier ones.
+ */
+public final class MirrorPageIterator<T> implements Iterator<MirrorPage<T>>, AutoCloseable {
+  private final Function<String, CompletableFuture<MirrorPage<T>>> fetch;
+  private final int prefetchPages;
+  private final Deque<CompletableFuture<MirrorPage<T>>> ahead = new ArrayDeque<>();
+
+  // The most recently requested page, which the next request is chained to
+  private CompletableFuture<MirrorPage<T>> last;
+
+  private MirrorPage<T> nextPage;
+  private boolean done = false;
+
+  MirrorPageIterator(
+      final String path,
+      final Function<String, CompletableFuture<MirrorPage<T>>> fetch,
+      final int prefetchPages) {
+    this.fetch = fetch;
+    this.prefetchPages = prefetchPages;
+
+    last = fetch.apply(path);
+    ahead.add(last);
+    topUp();
+  }
+
+  @Override
+  public synchronized boolean hasNext() {
+    if (nextPage != null) {
+      return true;
+    }
+    if (done) {
+      return false;
+    }
+
+    final MirrorPage<T> page;
+    try {
+      page = Futures.join(ahead.poll());
+    } catch (RuntimeException | Error e) {
+      close();
+      throw e;
+    }
+
+    if (page == null) {
+      close();
+      return false;
+    }
+
+    topUp();
+    nextPage = page;
+    return true;
+  }
+
+  @Override
+  public synchronized MirrorPage<T> next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+
+    final var page = nextPage;
+    nextPage = null;
+    return page;
+  }
+
+  /** Stop following the pages, cancelling the pages not yet requested. */
+  @Override
+  public synchronized void close() {
+    done = true;
+    for (var future : ahead) {
+      future.cancel(false);
+    }
+    ahead.clear();
+  }
+
+  private void topUp() {
+    while (ahead.size() < prefetchPages) {
+      last =
+          last.thenCompose(
+              page ->
+                  page == null || !page.hasNext()
+                      ? CompletableFuture.completedFuture(null)
+                      : fetch.apply(page.next()));
+      ahead.add(last);
+    }
+  }
+}
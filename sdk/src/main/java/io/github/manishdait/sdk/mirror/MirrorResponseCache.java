@@ -0,0 +1,40 @@
+package io.github.manishdait.sdk.mirror;
+
+import java.net.URI;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Stores mirror node REST responses for {@link MirrorNodeRestClient#withResponseCache}.
+ *
+ * <p>The client decides what is cacheable and for how long from the {@code Cache-Control} and
+ * {@code ETag} headers; implementations only store and bound the entries. Implementations must be
+ * thread safe.
+ */
+public interface MirrorResponseCache {
+  /**
+   * Get the cached response for a URI.
+   *
+   * @param uri the request URI
+   * @return the cached response, or {@code null} if none is cached
+   */
+  @Nullable CachedResponse get(@NonNull URI uri);
+
+  /**
+   * Cache the response for a URI, replacing any previous one.
+   *
+   * @param uri the request URI
+   * @param response the response to cache
+   */
+  void put(@NonNull URI uri, @NonNull CachedResponse response);
+
+  /**
+   * Drop the cached response for a URI.
+   *
+   * @param uri the request URI
+   */
+  void remove(@NonNull URI uri);
+
+  /** Drop every cached response. */
+  void clear();
+}
@@ -0,0 +1,309 @@
+package io.github.manishdait.sdk.network;
+
+import io.github.manishdait.sdk.internal.Config;
+import io.github.manishdait.sdk.internal.network.NodeCertificateTrustManager;
+import io.grpc.ManagedChannel;
+import io.grpc.netty.shaded.io.grpc.netty.GrpcSslContexts;
+import io.grpc.netty.shaded.io.grpc.netty.NettyChannelBuilder;
+import io.grpc.netty.shaded.io.netty.channel.EventLoopGroup;
+import io.grpc.netty.shaded.io.netty.channel.nio.NioEventLoopGroup;
+import io.grpc.netty.shaded.io.netty.channel.socket.nio.NioSocketChannel;
+import io.grpc.netty.shaded.io.netty.handler.ssl.SslContext;
+import io.grpc.netty.shaded.io.netty.util.concurrent.DefaultThreadFactory;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import javax.net.ssl.SSLException;
+import org.bouncycastle.util.encoders.Hex;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Creates the gRPC channels used by a {@code Client} for its nodes and mirror node.
+ *
+ * <p>Every channel created by one factory shares a single event loop group and a single bounded
+ * offload executor, so the number of threads does not grow with the size of the address book. The
+ * thread settings take effect when the first channel is created; the remaining settings apply to
+ * every channel created afterwards.
+ *
+ * <p>With transport security enabled, nodes are reached on {@link Config#TLS_PORT} and each node's
+ * certificate is pinned to the hash published in the address book. One TLS context is kept per
+ * certificate hash, so its session cache lets reconnects to the same node resume the previous
+ * session instead of paying for a full handshake.
+ */
+public final class ChannelFactory implements AutoCloseable {
+  private int eventLoopThreads = Config.DEFAULT_EVENT_LOOP_THREADS;
+  private int offloadThreads = Config.DEFAULT_OFFLOAD_THREADS;
+  private Duration keepAliveTime = Config.DEFAULT_KEEP_ALIVE_TIME;
+  private Duration keepAliveTimeout = Config.DEFAULT_KEEP_ALIVE_TIMEOUT;
+  private Duration idleTimeout = Config.DEFAULT_IDLE_TIMEOUT;
+  private int flowControlWindow = Config.DEFAULT_FLOW_CONTROL_WINDOW;
+  private int maxInboundMessageSize = Config.DEFAULT_MAX_INBOUND_MESSAGE_SIZE;
+  private int maxChannelsPerNode = Config.DEFAULT_MAX_CHANNELS_PER_NODE;
+  private int maxStreamsPerChannel = Config.DEFAULT_MAX_STREAMS_PER_CHANNEL;
+  private boolean transportSecurity = false;
+  private boolean eagerConnect = false;
+
+  private EventLoopGroup eventLoopGroup;
+  private ExecutorService offloadExecutor;
+  private final Map<String, SslContext> nodeSslContexts = new HashMap<>();
+
+  public int getEventLoopThreads() {
+    return eventLoopThreads;
+  }
+
+  public ChannelFactory withEventLoopThreads(final int eventLoopThreads) {
+    if (eventLoopThreads <= 0) {
+      throw new IllegalArgumentException("eventLoopThreads must be greater than 0");
+    }
+    this.eventLoopThreads = eventLoopThreads;
+    return this;
+  }
+
+  public int getOffloadThreads() {
+    return offloadThreads;
+  }
+
+  /**
+   * Set the number of threads that run call callbacks. With {@code 0}, callbacks run directly on
+   * the event loop, which avoids a thread hop but must never block.
+   *
+   * @param offloadThreads the size of the offload executor
+   * @return this {@code ChannelFactory}
+   */
+  public ChannelFactory withOffloadThreads(final int offloadThreads) {
+    if (offloadThreads < 0) {
+      throw new IllegalArgumentException("offloadThreads must not be negative");
+    }
+    this.offloadThreads = offloadThreads;
+    return this;
+  }
+
+  public Duration getKeepAliveTime() {
+    return keepAliveTime;
+  }
+
+  public ChannelFactory withKeepAliveTime(@NonNull final Duration keepAliveTime) {
+    Objects.requireNonNull(keepAliveTime, "keepAliveTime must not be null");
+    this.keepAliveTime = keepAliveTime;
+    return this;
+  }
+
+  public Duration getKeepAliveTimeout() {
+    return keepAliveTimeout;
+  }
+
+  public ChannelFactory withKeepAliveTimeout(@NonNull final Duration keepAliveTimeout) {
+    Objects.requireNonNull(keepAliveTimeout, "keepAliveTimeout must not be null");
+    this.keepAliveTimeout = keepAliveTimeout;
+    return this;
+  }
+
+  public Duration getIdleTimeout() {
+    return idleTimeout;
+  }
+
+  public ChannelFactory withIdleTimeout(@NonNull final Duration idleTimeout) {
+    Objects.requireNonNull(idleTimeout, "idleTimeout must not be null");
+    this.idleTimeout = idleTimeout;
+    return this;
+  }
+
+  public int getFlowControlWindow() {
+    return flowControlWindow;
+  }
+
+  public ChannelFactory withFlowControlWindow(final int flowControlWindow) {
+    if (flowControlWindow <= 0) {
+      throw new IllegalArgumentException("flowControlWindow must be greater than 0");
+    }
+    this.flowControlWindow = flowControlWindow;
+    return this;
+  }
+
+  public int getMaxInboundMessageSize() {
+    return maxInboundMessageSize;
+  }
+
+  public ChannelFactory withMaxInboundMessageSize(final int maxInboundMessageSize) {
+    if (maxInboundMessageSize <= 0) {
+      throw new IllegalArgumentException("maxInboundMessageSize must be greater than 0");
+    }
+    this.maxInboundMessageSize = maxInboundMessageSize;
+    return this;
+  }
+
+  public int getMaxChannelsPerNode() {
+    return maxChannelsPerNode;
+  }
+
+  /**
+   * Set the maximum number of connections opened to a single node.
+   *
+   * @param maxChannelsPerNode the upper bound of a node's connection pool
+   * @return this {@code ChannelFactory}
+   */
+  public ChannelFactory withMaxChannelsPerNode(final int maxChannelsPerNode) {
+    if (maxChannelsPerNode <= 0) {
+      throw new IllegalArgumentException("maxChannelsPerNode must be greater than 0");
+    }
+    this.maxChannelsPerNode = maxChannelsPerNode;
+    return this;
+  }
+
+  public int getMaxStreamsPerChannel() {
+    return maxStreamsPerChannel;
+  }
+
+  /**
+   * Set how many concurrent calls a connection carries before another connection to the same node
+   * is opened.
+   *
+   * @param maxStreamsPerChannel the number of outstanding calls per connection
+   * @return this {@code ChannelFactory}
+   */
+  public ChannelFactory withMaxStreamsPerChannel(final int maxStreamsPerChannel) {
+    if (maxStreamsPerChannel <= 0) {
+      throw new IllegalArgumentException("maxStreamsPerChannel must be greater than 0");
+    }
+    this.maxStreamsPerChannel = maxStreamsPerChannel;
+    return this;
+  }
+
+  public boolean isTransportSecurity() {
+    return transportSecurity;
+  }
+
+  /**
+   * Connect to nodes over TLS on {@link Config#TLS_PORT}, pinning each node's certificate hash.
+   *
+   * @param transportSecurity whether node channels use TLS
+   * @return this {@code ChannelFactory}
+   */
+  public ChannelFactory withTransportSecurity(final boolean transportSecurity) {
+    this.transportSecurity = transportSecurity;
+    return this;
+  }
+
+  public boolean isEagerConnect() {
+    return eagerConnect;
+  }
+
+  /**
+   * Start connecting to every node as soon as the client has loaded its network, instead of on the
+   * first request.
+   *
+   * @param eagerConnect whether clients using this factory connect eagerly
+   * @return this {@code ChannelFactory}
+   */
+  public ChannelFactory withEagerConnect(final boolean eagerConnect) {
+    this.eagerConnect = eagerConnect;
+    return this;
+  }
+
+  /**
+   * Create a TLS channel to a node, trusting only the certificate matching {@code certHash}.
+   *
+   * @param target the {@code host:port} to connect to
+   * @param certHash the node certificate hash from the address book
+   * @return the new {@code ManagedChannel}
+   */
+  public synchronized @NonNull ManagedChannel createNodeTlsChannel(
+      @NonNull final String target, final byte[] certHash) {
+    Objects.requireNonNull(target, "target must not be null");
+    Objects.requireNonNull(certHash, "certHash must not be null");
+
+    final var key = Hex.toHexString(certHash);
+    var sslContext = nodeSslContexts.get(key);
+
+    if (sslContext == null) {
+      try {
+        sslContext =
+            GrpcSslContexts.forClient()
+                .trustManager(new NodeCertificateTrustManager(certHash))
+                .sessionCacheSize(Config.DEFAULT_TLS_SESSION_CACHE_SIZE)
+                .sessionTimeout(Config.DEFAULT_TLS_SESSION_TIMEOUT.toSeconds())
+                .build();
+      } catch (SSLException e) {
+        throw new RuntimeException("Unable to create TLS context for " + target, e);
+      }
+      nodeSslContexts.put(key, sslContext);
+    }
+
+    return configure(NettyChannelBuilder.forTarget(target))
+        .useTransportSecurity()
+        .sslContext(sslContext)
+        .build();
+  }
+
+  /**
+   * Create a channel to the given target.
+   *
+   * @param target the {@code host:port} to connect to
+   * @param plaintext whether to connect without TLS
+   * @return the new {@code ManagedChannel}
+   */
+  public synchronized @NonNull ManagedChannel createChannel(
+      @NonNull final String target, final boolean plaintext) {
+    Objects.requireNonNull(target, "target must not be null");
+
+    final var builder = configure(NettyChannelBuilder.forTarget(target));
+    if (plaintext) {
+      builder.usePlaintext();
+    }
+
+    return builder.build();
+  }
+
+  /**
+   * Release the event loop group, the offload executor and the cached TLS contexts. Channels
+   * created afterwards get fresh resources.
+   */
+  @Override
+  public synchronized void close() {
+    if (eventLoopGroup != null) {
+      eventLoopGroup.shutdownGracefully(0, 0, TimeUnit.SECONDS);
+      eventLoopGroup = null;
+    }
+
+    if (offloadExecutor != null) {
+      offloadExecutor.shutdown();
+      offloadExecutor = null;
+    }
+
+    nodeSslContexts.clear();
+  }
+
+  private NettyChannelBuilder configure(@NonNull final NettyChannelBuilder builder) {
+    if (eventLoopGroup == null) {
+      eventLoopGroup =
+          new NioEventLoopGroup(eventLoopThreads, new DefaultThreadFactory("hiero-grpc", true));
+
+      if (offloadThreads > 0) {
+        offloadExecutor =
+            Executors.newFixedThreadPool(
+                offloadThreads, new DefaultThreadFactory("hiero-grpc-offload", true));
+      }
+    }
+
+    builder
+        .eventLoopGroup(eventLoopGroup)
+        .channelType(NioSocketChannel.class)
+        .keepAliveTime(keepAliveTime.toNanos(), TimeUnit.NANOSECONDS)
+        .keepAliveTimeout(keepAliveTimeout.toNanos(), TimeUnit.NANOSECONDS)
+        .idleTimeout(idleTimeout.toNanos(), TimeUnit.NANOSECONDS)
+        .flowControlWindow(flowControlWindow)
+        .maxInboundMessageSize(maxInboundMessageSize);
+
+    if (offloadExecutor != null) {
+      builder.executor(offloadExecutor);
+    } else {
+      builder.directExecutor();
+    }
+
+    return builder;
+  }
+}
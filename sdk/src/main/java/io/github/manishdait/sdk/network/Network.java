@@ -3,76 +3,316 @@ package io.github.manishdait.sdk.network;
 import io.github.manishdait.sdk.Client;
 import io.github.manishdait.sdk.account.AccountId;
 import io.github.manishdait.sdk.address_book.AddressBookQuery;
+import io.github.manishdait.sdk.address_book.NodeAddress;
 import io.github.manishdait.sdk.internal.Config;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.bouncycastle.util.encoders.Hex;
 import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
 
+/**
+ * The nodes of a network.
+ *
+ * <p>A node account may be reachable through several proxy endpoints. Requests rotate over the node
+ * accounts with {@link #selectNode()}, and within an account over its proxies, so traffic is spread
+ * across every endpoint and a proxy that is backed off is bypassed in favor of its siblings.
+ *
+ * <p>The node set is immutable once published. Updating it builds a new set, keeping the existing
+ * {@link Node} and its channel for every endpoint that did not change, and swaps it in atomically.
+ * Nodes that left the network are closed gracefully, so calls already sent to them still complete.
+ */
 public class Network {
   private final NetworkType networkType;
-  private final List<Node> nodes;
-  private final Map<AccountId, List<Node>> proxies;
+  private final AtomicInteger nodeIndex = new AtomicInteger();
 
-  private int nodeIndex;
+  private volatile NodeSet nodeSet = NodeSet.EMPTY;
 
   public Network(@NonNull final NetworkType networkType) {
     Objects.requireNonNull(networkType, "networkType must not be null");
 
-    this.nodeIndex = 0;
     this.networkType = networkType;
-    this.nodes = new ArrayList<>();
-    this.proxies = new HashMap<>();
   }
 
   public NetworkType getNetworkType() {
     return networkType;
   }
 
+  /**
+   * Get a proxy of the current node account.
+   *
+   * @return the next healthy proxy of the current node account
+   * @throws IllegalStateException if the network has no nodes
+   */
   public Node getNode() {
-    return this.nodes.get(nodeIndex);
+    final var groups = this.nodeSet.groups();
+    if (groups.isEmpty()) {
+      throw new IllegalStateException("network has no nodes");
+    }
+    return groups.get(Math.floorMod(nodeIndex.get(), groups.size())).next();
+  }
+
+  /**
+   * Get every proxy of every node account.
+   *
+   * @return an unmodifiable snapshot of the nodes
+   */
+  public List<Node> getNodes() {
+    return this.nodeSet.nodes();
+  }
+
+  /**
+   * Get the proxies that are not currently backed off.
+   *
+   * @return an unmodifiable snapshot of the healthy nodes
+   */
+  public List<Node> getHealthyNodes() {
+    return this.nodeSet.nodes().stream().filter(Node::isHealthy).toList();
+  }
+
+  /**
+   * Get the node accounts of the network.
+   *
+   * @return the node {@code AccountId}s in selection order
+   */
+  public List<AccountId> getNodeAccountIds() {
+    return this.nodeSet.groups().stream().map(NodeGroup::getAccountId).toList();
+  }
+
+  /**
+   * Get the proxy endpoints serving a node account.
+   *
+   * @param accountId the node account
+   * @return the proxies of the account, empty if the account is not part of the network
+   */
+  public List<Node> getProxies(@NonNull final AccountId accountId) {
+    Objects.requireNonNull(accountId, "accountId must not be null");
+
+    final var group = this.nodeSet.proxies().get(accountId);
+    return group == null ? List.of() : group.getProxies();
   }
 
+  /**
+   * Advance to the next node account, preferring accounts with at least one healthy proxy.
+   *
+   * @return a proxy of the newly selected node account
+   * @throws IllegalStateException if the network has no nodes
+   */
   public Node selectNode() {
-    nodeIndex++;
-    nodeIndex = nodeIndex % nodes.size();
+    final var groups = this.nodeSet.groups();
+
+    for (int i = 0; i < groups.size(); i++) {
+      final int index = Math.floorMod(nodeIndex.incrementAndGet(), groups.size());
+      if (groups.get(index).isHealthy()) {
+        return groups.get(index).next();
+      }
+    }
     return getNode();
   }
 
+  /**
+   * Get a proxy of a node account other than the given ones, to send again what they did not take.
+   * Accounts with at least one healthy proxy are preferred, starting from the current account.
+   *
+   * @param excluded the node accounts not to select
+   * @return a proxy of another node account, or {@code null} if every account is excluded
+   */
+  public @Nullable Node selectNodeExcluding(@NonNull final Collection<AccountId> excluded) {
+    Objects.requireNonNull(excluded, "excluded must not be null");
+
+    final var groups = this.nodeSet.groups();
+    final int start = nodeIndex.get();
+    NodeGroup fallback = null;
+
+    for (int i = 0; i < groups.size(); i++) {
+      final var group = groups.get(Math.floorMod(start + i, groups.size()));
+      if (excluded.contains(group.getAccountId())) {
+        continue;
+      }
+      if (group.isHealthy()) {
+        return group.next();
+      }
+      if (fallback == null) {
+        fallback = group;
+      }
+    }
+    return fallback == null ? null : fallback.next();
+  }
+
+  /**
+   * Replace the nodes of the network.
+   *
+   * <p>The network owns the nodes it is given: a node is closed once it leaves the network or the
+   * client closes, so nodes must not be shared with another network.
+   *
+   * @param nodes the proxies of every node account
+   */
   public void setNodes(@NonNull final List<Node> nodes) {
-    this.nodes.addAll(nodes);
-    this.proxies.put(nodes.get(0).getAccountId(), nodes);
+    Objects.requireNonNull(nodes, "nodes must not be null");
+
+    publish(nodes);
   }
 
-  public void setNodes(@NonNull final Client client) {
+  /**
+   * Replace the nodes of the network with the current address book from the mirror node.
+   *
+   * @param client the client whose mirror node serves the address book
+   * @return the fetched address book
+   */
+  public List<NodeAddress> setNodes(@NonNull final Client client) {
     Objects.requireNonNull(client, "client must not be null");
-    this.nodes.clear();
-    this.proxies.clear();
 
     var addressBook = new AddressBookQuery().execute(client);
+    setAddressBook(addressBook, client.getChannelFactory().isTransportSecurity());
+    return addressBook;
+  }
+
+  /**
+   * Replace the nodes of the network with the endpoints of an address book.
+   *
+   * <p>Only endpoints on the port matching the transport security are used. With transport
+   * security, nodes without a certificate hash are skipped, since their certificate cannot be
+   * verified.
+   *
+   * @param addressBook the node addresses of the network
+   * @param transportSecurity whether nodes are reached over TLS
+   */
+  public void setAddressBook(
+      @NonNull final List<NodeAddress> addressBook, final boolean transportSecurity) {
+    Objects.requireNonNull(addressBook, "addressBook must not be null");
 
+    var nodes = new ArrayList<Node>();
     for (var address : addressBook) {
-      var nodeAccountId = address.nodeAccountId();
-
-      for (var endpoint : address.serviceEndpoints()) {
-        var node =
-            new Node(
-                Node.resolveAddressFromBytes(endpoint.ipAddressV4()),
-                endpoint.port(),
-                nodeAccountId);
-
-        if (node.getPort() == Config.PLAIN_PORT) {
-          if (!proxies.containsKey(nodeAccountId)) {
-            proxies.put(nodeAccountId, new ArrayList<>());
-          } else {
-            proxies.get(nodeAccountId).add(node);
-          }
-        }
+      nodes.addAll(nodesOf(address, transportSecurity));
+    }
+
+    if (nodes.isEmpty()) {
+      throw new IllegalStateException(
+          "Address book contains no endpoint on port "
+              + portOf(transportSecurity)
+              + (transportSecurity ? " with a certificate hash" : ""));
+    }
+
+    publish(nodes);
+  }
+
+  /**
+   * Add a node account to the network, or replace its proxies if it is already part of it, keeping
+   * every other node. Used to admit nodes while the address book is still streaming.
+   *
+   * @param address the node address to admit
+   * @param transportSecurity whether nodes are reached over TLS
+   * @return {@code true} if the address had a usable endpoint on the expected port and was admitted
+   */
+  public synchronized boolean admit(
+      @NonNull final NodeAddress address, final boolean transportSecurity) {
+    Objects.requireNonNull(address, "address must not be null");
+
+    final var admitted = nodesOf(address, transportSecurity);
+    if (admitted.isEmpty()) {
+      return false;
+    }
+
+    final var nodes = new ArrayList<Node>();
+    for (var node : this.nodeSet.nodes()) {
+      if (!node.getAccountId().equals(address.nodeAccountId())) {
+        nodes.add(node);
+      }
+    }
+    nodes.addAll(admitted);
+
+    publish(nodes);
+    return true;
+  }
+
+  private static int portOf(final boolean transportSecurity) {
+    return transportSecurity ? Config.TLS_PORT : Config.PLAIN_PORT;
+  }
+
+  private static List<Node> nodesOf(final NodeAddress address, final boolean transportSecurity) {
+    final var port = portOf(transportSecurity);
+    final var nodes = new ArrayList<Node>();
+
+    if (transportSecurity
+        && (address.nodeCertHash() == null || address.nodeCertHash().length == 0)) {
+      // Without a hash the node's certificate cannot be pinned, never fall back to plaintext
+      return nodes;
+    }
+
+    for (var endpoint : address.serviceEndpoints()) {
+      if (endpoint.port() != port) {
+        continue;
+      }
+
+      nodes.add(
+          new Node(
+              Node.resolveAddressFromBytes(endpoint.ipAddressV4()),
+              endpoint.port(),
+              address.nodeAccountId(),
+              transportSecurity ? address.nodeCertHash() : null));
+    }
+
+    return nodes;
+  }
+
+  private synchronized void publish(final List<Node> nodes) {
+    final var current = this.nodeSet;
+
+    final var existing = new HashMap<EndpointKey, Node>();
+    for (var node : current.nodes()) {
+      existing.put(EndpointKey.of(node), node);
+    }
+
+    final var byAccount = new LinkedHashMap<AccountId, List<Node>>();
+    for (var node : nodes) {
+      final var reused = existing.remove(EndpointKey.of(node));
+      byAccount
+          .computeIfAbsent(node.getAccountId(), k -> new ArrayList<>())
+          .add(reused != null ? reused : node);
+    }
+
+    this.nodeSet = NodeSet.of(byAccount);
+
+    for (var removed : existing.values()) {
+      removed.close();
+    }
+  }
+
+  private record NodeSet(
+      List<Node> nodes, List<NodeGroup> groups, Map<AccountId, NodeGroup> proxies) {
+    private static final NodeSet EMPTY = new NodeSet(List.of(), List.of(), Map.of());
+
+    private static NodeSet of(final Map<AccountId, List<Node>> byAccount) {
+      final var nodes = new ArrayList<Node>();
+      final var groups = new ArrayList<NodeGroup>();
+      final var proxies = new HashMap<AccountId, NodeGroup>();
+
+      for (var entry : byAccount.entrySet()) {
+        final var group = new NodeGroup(entry.getKey(), entry.getValue());
+
+        groups.add(group);
+        proxies.put(entry.getKey(), group);
+        nodes.addAll(group.getProxies());
       }
 
-      nodes.add(proxies.get(nodeAccountId).getFirst());
+      return new NodeSet(List.copyOf(nodes), List.copyOf(groups), Map.copyOf(proxies));
+    }
+  }
+
+  private record EndpointKey(String address, int port, AccountId accountId, String certHash) {
+    private static EndpointKey of(final Node node) {
+      final var certHash = node.getCertHash();
+      return new EndpointKey(
+          node.getAddress(),
+          node.getPort(),
+          node.getAccountId(),
+          certHash == null ? null : Hex.toHexString(certHash));
     }
   }
 }
@@ -2,25 +2,31 @@ package io.github.manishdait.sdk.network;
 
 import io.github.manishdait.sdk.account.AccountId;
 import io.github.manishdait.sdk.internal.Config;
+import io.grpc.ConnectivityState;
 import io.grpc.ManagedChannel;
-import io.grpc.ManagedChannelBuilder;
 import java.net.InetAddress;
 import java.net.UnknownHostException;
 import java.time.Duration;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import org.jspecify.annotations.NonNull;
 
 public class Node {
   private final String address;
   private final int port;
   private final AccountId accountId;
+  private final byte[] certHash;
 
-  private ManagedChannel channel;
+  private NodeChannelPool channel;
+  private ChannelFactory channelFactory;
+  private ChannelFactory ownChannelFactory;
+  private boolean closed = false;
 
   private Duration minBackoff = Config.DEFAULT_NODE_MIN_BACKOFF;
   private Duration maxBackoff = Config.DEFAULT_NODE_MAX_BACKOFF;
   private Duration currentBackoff = minBackoff;
-  private long readmitTime = System.nanoTime();
+  private volatile long readmitTime = System.nanoTime();
   private long badGrpcResponseCount = 0;
 
   public Node(@NonNull final String address, @NonNull final String accountId) {
@@ -31,12 +37,30 @@ public class Node {
   }
 
   public Node(@NonNull final String address, final int port, @NonNull final AccountId accountId) {
+    this(address, port, accountId, null);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param address the host of the node
+   * @param port the port of the node
+   * @param accountId the node account id
+   * @param certHash the address book hash of the node's TLS certificate, or {@code null} to connect
+   *     without TLS
+   */
+  public Node(
+      @NonNull final String address,
+      final int port,
+      @NonNull final AccountId accountId,
+      final byte[] certHash) {
     Objects.requireNonNull(address, "address must not be null.");
     Objects.requireNonNull(accountId, "accountId must not be null.");
 
     this.address = address;
     this.port = port;
     this.accountId = accountId;
+    this.certHash = certHash == null || certHash.length == 0 ? null : certHash.clone();
   }
 
   public AccountId getAccountId() {
@@ -51,6 +75,14 @@ public class Node {
     return address;
   }
 
+  public byte[] getCertHash() {
+    return certHash == null ? null : certHash.clone();
+  }
+
+  public boolean isTransportSecurity() {
+    return certHash != null;
+  }
+
   public String getNodeAddress() {
     return "%s:%d".formatted(this.address, this.port);
   }
@@ -75,23 +107,165 @@ public class Node {
     return badGrpcResponseCount;
   }
 
-  public ManagedChannel getChannel() {
-    if (channel != null) return channel;
-    channel = ManagedChannelBuilder.forAddress(this.address, this.port).usePlaintext().build();
+  /**
+   * Get the channel to this node, creating it with the given factory on first use.
+   *
+   * <p>The channel balances calls over a pool of connections to the node, opening more connections
+   * as concurrent load grows, up to {@link ChannelFactory#getMaxChannelsPerNode()}.
+   *
+   * <p>A node is bound to the factory that first connects it, since its connections carry that
+   * factory's settings and event loop. A node cannot be shared by clients with different factories.
+   *
+   * @param channelFactory the factory used to create the connections
+   * @return the {@code ManagedChannel}
+   * @throws IllegalStateException if the node is closed or connected through another factory, or
+   *     the factory uses transport security and the node has no certificate hash to verify
+   */
+  public ManagedChannel getChannel(@NonNull final ChannelFactory channelFactory) {
+    return getChannelPool(channelFactory);
+  }
+
+  /**
+   * Get the channel to this node. A node that is not connected yet is connected without TLS through
+   * a {@link ChannelFactory} of its own, released by {@link #awaitTermination(Duration)}.
+   *
+   * @return the {@code ManagedChannel}
+   * @throws IllegalStateException if the node is closed
+   * @deprecated connect the node through the client's factory with {@link
+   *     #getChannel(ChannelFactory)}, so its connections share the client's threads and settings
+   */
+  @Deprecated
+  public synchronized ManagedChannel getChannel() {
+    if (closed) {
+      throw new IllegalStateException("node " + accountId + " is closed");
+    }
+
+    if (channelFactory == null) {
+      ownChannelFactory = new ChannelFactory();
+      return getChannelPool(ownChannelFactory);
+    }
+    return getChannelPool(channelFactory);
+  }
+
+  private synchronized NodeChannelPool getChannelPool(
+      @NonNull final ChannelFactory channelFactory) {
+    Objects.requireNonNull(channelFactory, "channelFactory must not be null");
+
+    if (closed) {
+      throw new IllegalStateException("node " + accountId + " is closed");
+    }
+
+    if (channel != null) {
+      if (this.channelFactory != channelFactory) {
+        throw new IllegalStateException(
+            "node " + accountId + " is already connected through another channel factory");
+      }
+      return channel;
+    }
+
+    if (certHash == null && channelFactory.isTransportSecurity()) {
+      throw new IllegalStateException(
+          "node " + accountId + " has no certificate hash, refusing to connect without TLS");
+    }
+
+    this.channelFactory = channelFactory;
+    channel =
+        new NodeChannelPool(
+            () ->
+                certHash != null
+                    ? channelFactory.createNodeTlsChannel(getNodeAddress(), certHash)
+                    : channelFactory.createChannel(getNodeAddress(), true),
+            channelFactory.getMaxChannelsPerNode(),
+            channelFactory.getMaxStreamsPerChannel());
     return channel;
   }
 
-  public void close() {
+  /**
+   * Start connecting to this node without sending a request.
+   *
+   * <p>The returned future completes once the first connection is {@code READY}. Failed connection
+   * attempts are retried by the channel with its own backoff, so callers should bound the wait.
+   *
+   * @param channelFactory the factory used to create the channel if it does not exist yet
+   * @return a future completing when the node is ready to serve requests
+   */
+  public CompletableFuture<Void> connect(@NonNull final ChannelFactory channelFactory) {
+    final var channel = getChannelPool(channelFactory).primary();
+    final var ready = new CompletableFuture<Void>();
+
+    awaitReady(channel, channel.getState(true), ready);
+    return ready;
+  }
+
+  private static void awaitReady(
+      final ManagedChannel channel,
+      final ConnectivityState state,
+      final CompletableFuture<Void> ready) {
+    if (ready.isDone()) {
+      return;
+    }
+
+    switch (state) {
+      case READY -> ready.complete(null);
+      case SHUTDOWN ->
+          ready.completeExceptionally(new IllegalStateException("channel is shutdown"));
+      default ->
+          channel.notifyWhenStateChanged(
+              state, () -> awaitReady(channel, channel.getState(true), ready));
+    }
+  }
+
+  /**
+   * Close the node. Calls already started complete, new calls are rejected, and the node never
+   * reconnects.
+   */
+  public synchronized void close() {
+    closed = true;
     if (channel != null && !channel.isShutdown()) {
       channel.shutdown();
     }
   }
 
+  public synchronized boolean isClosed() {
+    return closed;
+  }
+
+  /**
+   * Wait for the channel to terminate after {@link #close()}, forcing it closed if it does not
+   * terminate in time.
+   *
+   * @param timeout how long to wait for in-flight calls to complete
+   * @return {@code true} if the channel terminated gracefully
+   * @throws InterruptedException if interrupted while waiting
+   */
+  public boolean awaitTermination(@NonNull final Duration timeout) throws InterruptedException {
+    final NodeChannelPool current;
+    final ChannelFactory owned;
+    synchronized (this) {
+      current = channel;
+      owned = closed ? ownChannelFactory : null;
+    }
+
+    try {
+      if (current == null
+          || current.awaitTermination(Math.max(0, timeout.toNanos()), TimeUnit.NANOSECONDS)) {
+        return true;
+      }
+
+      current.shutdownNow();
+      return false;
+    } finally {
+      if (owned != null) {
+        owned.close();
+      }
+    }
+  }
+
   public boolean isHealthy() {
     return readmitTime <= System.nanoTime();
   }
 
-  public void increaseBackoff() {
+  public synchronized void increaseBackoff() {
     badGrpcResponseCount += 1;
     currentBackoff = currentBackoff.multipliedBy(2);
 
@@ -102,7 +276,7 @@ public class Node {
     readmitTime = currentBackoff.toNanos() + System.nanoTime();
   }
 
-  public void decreaseBackoff() {
+  public synchronized void decreaseBackoff() {
     currentBackoff = currentBackoff.dividedBy(2);
 
     if (currentBackoff.compareTo(minBackoff) < 0) {
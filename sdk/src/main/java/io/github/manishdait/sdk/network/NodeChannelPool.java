@@ -0,0 +1,323 @@
+package io.github.manishdait.sdk.network;
+
+import io.grpc.Attributes;
+import io.grpc.CallOptions;
+import io.grpc.ClientCall;
+import io.grpc.ConnectivityState;
+import io.grpc.ForwardingClientCallListener;
+import io.grpc.ManagedChannel;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * A {@link ManagedChannel} spreading calls to one node over a small pool of connections.
+ *
+ * <p>Each call goes to the connection with the fewest outstanding calls. When every connection
+ * already carries {@code maxStreamsPerChannel} calls, another connection is opened, up to {@code
+ * maxChannels}. A connection that becomes idle is retired once the remaining load would fit in half
+ * of the other connections, so the pool shrinks back as load drops.
+ */
+final class NodeChannelPool extends ManagedChannel {
+  private final Supplier<ManagedChannel> channelSupplier;
+  private final int maxChannels;
+  private final int maxStreamsPerChannel;
+
+  private final List<Subchannel> subchannels = new ArrayList<>();
+  private final List<ManagedChannel> retired = new ArrayList<>();
+  private boolean shutdown = false;
+
+  NodeChannelPool(
+      final Supplier<ManagedChannel> channelSupplier,
+      final int maxChannels,
+      final int maxStreamsPerChannel) {
+    this.channelSupplier = channelSupplier;
+    this.maxChannels = maxChannels;
+    this.maxStreamsPerChannel = maxStreamsPerChannel;
+  }
+
+  /**
+   * Create a call that takes a connection from the pool when it starts, so a call that is never
+   * started, or cancelled before it starts, does not hold a slot.
+   */
+  @Override
+  public <ReqT, RespT> ClientCall<ReqT, RespT> newCall(
+      final MethodDescriptor<ReqT, RespT> methodDescriptor, final CallOptions callOptions) {
+    return new PooledCall<>(methodDescriptor, callOptions);
+  }
+
+  @Override
+  public synchronized String authority() {
+    return primary().authority();
+  }
+
+  /**
+   * Get the first connection of the pool, opening it if needed.
+   *
+   * @return the primary {@code ManagedChannel}
+   */
+  synchronized ManagedChannel primary() {
+    if (subchannels.isEmpty()) {
+      subchannels.add(new Subchannel(channelSupplier.get()));
+    }
+    return subchannels.getFirst().channel;
+  }
+
+  synchronized int size() {
+    return subchannels.size();
+  }
+
+  synchronized Subchannel acquire() {
+    if (shutdown) {
+      throw new IllegalStateException("node channel is shutdown");
+    }
+
+    Subchannel best = null;
+    for (var subchannel : subchannels) {
+      if (best == null || subchannel.outstanding < best.outstanding) {
+        best = subchannel;
+      }
+    }
+
+    if (best == null
+        || (best.outstanding >= maxStreamsPerChannel && subchannels.size() < maxChannels)) {
+      best = new Subchannel(channelSupplier.get());
+      subchannels.add(best);
+    }
+
+    best.outstanding++;
+    return best;
+  }
+
+  synchronized void release(final Subchannel subchannel) {
+    subchannel.outstanding--;
+
+    if (subchannel.outstanding > 0 || shutdown) {
+      return;
+    }
+
+    var total = 0;
+    for (var other : subchannels) {
+      total += other.outstanding;
+    }
+
+    // Retire idle connections, newest first, while the others can absorb the load at half capacity
+    for (int i = subchannels.size() - 1; i > 0; i--) {
+      if (total > (subchannels.size() - 1) * maxStreamsPerChannel / 2) {
+        break;
+      }
+
+      final var candidate = subchannels.get(i);
+      if (candidate.outstanding == 0) {
+        subchannels.remove(i);
+        candidate.channel.shutdown();
+        retired.add(candidate.channel);
+      }
+    }
+
+    retired.removeIf(ManagedChannel::isTerminated);
+  }
+
+  @Override
+  public synchronized boolean isShutdown() {
+    return shutdown;
+  }
+
+  @Override
+  public synchronized boolean isTerminated() {
+    return shutdown && allChannels().stream().allMatch(ManagedChannel::isTerminated);
+  }
+
+  @Override
+  public synchronized NodeChannelPool shutdown() {
+    shutdown = true;
+    for (var subchannel : subchannels) {
+      subchannel.channel.shutdown();
+    }
+    return this;
+  }
+
+  @Override
+  public synchronized NodeChannelPool shutdownNow() {
+    shutdown = true;
+    for (var channel : allChannels()) {
+      channel.shutdownNow();
+    }
+    return this;
+  }
+
+  /** Get the state of the primary connection, opening it if {@code requestConnection} is set. */
+  @Override
+  public synchronized ConnectivityState getState(final boolean requestConnection) {
+    if (subchannels.isEmpty() && !requestConnection) {
+      return shutdown ? ConnectivityState.SHUTDOWN : ConnectivityState.IDLE;
+    }
+    return primary().getState(requestConnection);
+  }
+
+  @Override
+  public void notifyWhenStateChanged(final ConnectivityState source, final Runnable callback) {
+    primary().notifyWhenStateChanged(source, callback);
+  }
+
+  @Override
+  public boolean awaitTermination(final long timeout, final TimeUnit unit)
+      throws InterruptedException {
+    final long deadline = System.nanoTime() + unit.toNanos(timeout);
+
+    final List<ManagedChannel> channels;
+    synchronized (this) {
+      channels = allChannels();
+    }
+
+    for (var channel : channels) {
+      if (!channel.awaitTermination(
+          Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private List<ManagedChannel> allChannels() {
+    final var channels = new ArrayList<>(retired);
+    for (var subchannel : subchannels) {
+      channels.add(subchannel.channel);
+    }
+    return channels;
+  }
+
+  @Override
+  public synchronized String toString() {
+    return "NodeChannelPool{" + "subchannels=" + subchannels.size() + '}';
+  }
+
+  private final class PooledCall<ReqT, RespT> extends ClientCall<ReqT, RespT> {
+    private final MethodDescriptor<ReqT, RespT> methodDescriptor;
+    private final CallOptions callOptions;
+
+    private ClientCall<ReqT, RespT> delegate;
+    private Status cancelled;
+
+    private PooledCall(
+        final MethodDescriptor<ReqT, RespT> methodDescriptor, final CallOptions callOptions) {
+      this.methodDescriptor = methodDescriptor;
+      this.callOptions = callOptions;
+    }
+
+    @Override
+    public void start(final Listener<RespT> responseListener, final Metadata headers) {
+      final Subchannel subchannel;
+      final ClientCall<ReqT, RespT> call;
+
+      synchronized (this) {
+        if (cancelled != null) {
+          responseListener.onClose(cancelled, new Metadata());
+          return;
+        }
+
+        subchannel = acquire();
+        call = subchannel.channel.newCall(methodDescriptor, callOptions);
+        delegate = call;
+      }
+
+      final var released = new AtomicBoolean(false);
+      final Runnable release =
+          () -> {
+            if (released.compareAndSet(false, true)) {
+              release(subchannel);
+            }
+          };
+
+      try {
+        call.start(
+            new ForwardingClientCallListener.SimpleForwardingClientCallListener<>(
+                responseListener) {
+              @Override
+              public void onClose(final Status status, final Metadata trailers) {
+                release.run();
+                super.onClose(status, trailers);
+              }
+            },
+            headers);
+      } catch (RuntimeException | Error e) {
+        release.run();
+        throw e;
+      }
+    }
+
+    @Override
+    public void cancel(final String message, final Throwable cause) {
+      final ClientCall<ReqT, RespT> call;
+      synchronized (this) {
+        if (delegate == null) {
+          if (cancelled == null) {
+            cancelled =
+                Status.CANCELLED
+                    .withDescription(message != null ? message : "call cancelled before start")
+                    .withCause(cause);
+          }
+          return;
+        }
+        call = delegate;
+      }
+      call.cancel(message, cause);
+    }
+
+    @Override
+    public void request(final int numMessages) {
+      started().request(numMessages);
+    }
+
+    @Override
+    public void halfClose() {
+      started().halfClose();
+    }
+
+    @Override
+    public void sendMessage(final ReqT message) {
+      started().sendMessage(message);
+    }
+
+    @Override
+    public boolean isReady() {
+      return started().isReady();
+    }
+
+    @Override
+    public void setMessageCompression(final boolean enabled) {
+      started().setMessageCompression(enabled);
+    }
+
+    @Override
+    public synchronized Attributes getAttributes() {
+      return delegate != null ? delegate.getAttributes() : Attributes.EMPTY;
+    }
+
+    private synchronized ClientCall<ReqT, RespT> started() {
+      if (delegate == null) {
+        throw new IllegalStateException(
+            cancelled != null ? "call was cancelled" : "call has not been started");
+      }
+      return delegate;
+    }
+  }
+
+  static final class Subchannel {
+    private final ManagedChannel channel;
+    private int outstanding = 0;
+
+    Subchannel(final ManagedChannel channel) {
+      this.channel = channel;
+    }
+
+    int getOutstanding() {
+      return outstanding;
+    }
+  }
+}
@@ -0,0 +1,63 @@
+package io.github.manishdait.sdk.network;
+
+import io.github.manishdait.sdk.account.AccountId;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The proxy endpoints serving one node account.
+ *
+ * <p>Any proxy accepts a transaction addressed to the node account, so requests are spread over the
+ * proxies in round-robin order. A proxy that is backed off is skipped until it is readmitted; when
+ * every proxy is backed off, the one readmitted soonest is used.
+ */
+final class NodeGroup {
+  private final AccountId accountId;
+  private final List<Node> proxies;
+  private final AtomicInteger cursor = new AtomicInteger();
+
+  NodeGroup(final AccountId accountId, final List<Node> proxies) {
+    if (proxies.isEmpty()) {
+      throw new IllegalArgumentException("proxies must not be empty");
+    }
+
+    this.accountId = accountId;
+    this.proxies = List.copyOf(proxies);
+  }
+
+  AccountId getAccountId() {
+    return accountId;
+  }
+
+  List<Node> getProxies() {
+    return proxies;
+  }
+
+  boolean isHealthy() {
+    for (var proxy : proxies) {
+      if (proxy.isHealthy()) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  Node next() {
+    final int start = Math.floorMod(cursor.getAndIncrement(), proxies.size());
+
+    for (int i = 0; i < proxies.size(); i++) {
+      final var proxy = proxies.get((start + i) % proxies.size());
+      if (proxy.isHealthy()) {
+        return proxy;
+      }
+    }
+
+    var soonest = proxies.getFirst();
+    for (var proxy : proxies) {
+      if (proxy.getReadmitTime() - soonest.getReadmitTime() < 0) {
+        soonest = proxy;
+      }
+    }
+    return soonest;
+  }
+}
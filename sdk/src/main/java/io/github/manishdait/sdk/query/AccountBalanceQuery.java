@@ -7,9 +7,27 @@ import com.hedera.hashgraph.sdk.proto.ResponseHeader;
 import io.github.manishdait.sdk.Client;
 import io.github.manishdait.sdk.account.AccountBalance;
 import io.github.manishdait.sdk.account.AccountId;
+import io.github.manishdait.sdk.exception.PrecheckException;
+import io.github.manishdait.sdk.internal.Config;
+import io.github.manishdait.sdk.network.Node;
 import io.grpc.MethodDescriptor;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.function.BiFunction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
 
 public class AccountBalanceQuery extends Query {
   private AccountId accountId;
@@ -59,9 +77,203 @@ public class AccountBalanceQuery extends Query {
 
   public AccountBalance query(@NonNull Client client) {
     Objects.requireNonNull(client, "client must not be null");
+
+    var cache = client.getAccountQueryCache();
+    if (cache != null) {
+      return cache.getBalance(this.accountId, () -> this.fetch(client));
+    }
+
+    return this.fetch(client);
+  }
+
+  private AccountBalance fetch(@NonNull Client client) {
     this.doPreQueryCheck(client);
 
     var proto = this.execute(client).getCryptogetAccountBalance();
     return AccountBalance.fromProto(proto);
   }
+
+  /**
+   * Query the balances of many accounts, spreading the requests over every healthy node in the
+   * client's network.
+   *
+   * @param client the client to query with
+   * @param accountIds the accounts to query
+   * @return the balances, in completion order
+   * @see #queryAll(Client, Collection, int)
+   */
+  public static Stream<AccountBalance> queryAll(
+      @NonNull final Client client, @NonNull final Collection<AccountId> accountIds) {
+    return queryAll(client, accountIds, Config.DEFAULT_MAX_CONCURRENT_REQUESTS_PER_NODE);
+  }
+
+  /**
+   * Query the balances of many accounts, spreading the requests over every healthy node in the
+   * client's network.
+   *
+   * <p>Each node is served by {@code maxConcurrencyPerNode} workers pulling from a shared queue of
+   * accounts, so faster nodes take a larger share of the work. A node that does not answer is
+   * backed off and its worker moves the account, and the rest of its share, to another node of the
+   * run. Balances are delivered through the returned stream as soon as each request completes, and
+   * workers wait once the stream is one result per worker ahead of the consumer.
+   *
+   * <p>The run is all or nothing: a precheck failure for any account, such as an account that does
+   * not exist, or an account that no node answered for, is rethrown from the stream once the
+   * balances completed before it are consumed, and cancels the remaining work. Callers that expect
+   * some accounts to fail should query them one by one instead.
+   *
+   * <p>The workers stop once the stream is fully consumed or fails. A caller that stops early must
+   * close the stream, for example with try-with-resources, or the workers stay parked.
+   *
+   * @param client the client to query with
+   * @param accountIds the accounts to query
+   * @param maxConcurrencyPerNode the maximum number of in-flight requests per node
+   * @return the balances, in completion order
+   */
+  public static Stream<AccountBalance> queryAll(
+      @NonNull final Client client,
+      @NonNull final Collection<AccountId> accountIds,
+      final int maxConcurrencyPerNode) {
+    Objects.requireNonNull(client, "client must not be null");
+    Objects.requireNonNull(accountIds, "accountIds must not be null");
+
+    if (maxConcurrencyPerNode <= 0) {
+      throw new IllegalArgumentException("maxConcurrencyPerNode must be greater than 0");
+    }
+
+    final var healthy = client.getNetwork().getHealthyNodes();
+    final var nodes = healthy.isEmpty() ? client.getNetwork().getNodes() : healthy;
+    if (nodes.isEmpty()) {
+      throw new IllegalStateException("network has no nodes to query");
+    }
+
+    return queryAll(
+        nodes,
+        accountIds,
+        maxConcurrencyPerNode,
+        (node, accountId) -> {
+          var query = new AccountBalanceQuery().withAccountId(accountId);
+          query.setNode(node);
+          return query.fetch(client);
+        });
+  }
+
+  /** Run {@link #queryAll(Client, Collection, int)} over {@code nodes} with the given fetch. */
+  static Stream<AccountBalance> queryAll(
+      final List<Node> nodes,
+      final Collection<AccountId> accountIds,
+      final int maxConcurrencyPerNode,
+      final BiFunction<Node, AccountId, AccountBalance> fetch) {
+    final var pending = new ConcurrentLinkedQueue<>(accountIds);
+    final var completed = new ArrayBlockingQueue<Object>(nodes.size() * maxConcurrencyPerNode);
+    final var total = pending.size();
+    final var executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    for (var node : nodes) {
+      for (int i = 0; i < maxConcurrencyPerNode; i++) {
+        executor.execute(
+            () -> {
+              var current = node;
+              AccountId accountId;
+
+              try {
+                while ((accountId = pending.poll()) != null) {
+                  final var tried = new HashSet<Node>();
+
+                  while (true) {
+                    try {
+                      completed.put(fetch.apply(current, accountId));
+                      break;
+                    } catch (PrecheckException e) {
+                      completed.put(e);
+                      return;
+                    } catch (RuntimeException e) {
+                      // The node failed rather than the account, move on to another one
+                      current.increaseBackoff();
+                      tried.add(current);
+                      current = failover(nodes, tried);
+
+                      if (current == null) {
+                        completed.put(e);
+                        return;
+                      }
+                    }
+                  }
+                }
+              } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+              } catch (Throwable t) {
+                // Hand anything else to the consumer, it would otherwise wait forever
+                try {
+                  completed.put(t);
+                } catch (InterruptedException e) {
+                  Thread.currentThread().interrupt();
+                }
+              }
+            });
+      }
+    }
+    executor.shutdown();
+
+    final Iterator<AccountBalance> iterator =
+        new Iterator<>() {
+          private int delivered = 0;
+
+          @Override
+          public boolean hasNext() {
+            return delivered < total;
+          }
+
+          @Override
+          public AccountBalance next() {
+            if (!hasNext()) {
+              throw new NoSuchElementException();
+            }
+
+            final Object result;
+            try {
+              result = completed.take();
+            } catch (InterruptedException e) {
+              Thread.currentThread().interrupt();
+              executor.shutdownNow();
+              throw new RuntimeException(e);
+            }
+
+            if (result instanceof Throwable t) {
+              executor.shutdownNow();
+              if (t instanceof RuntimeException e) {
+                throw e;
+              }
+              if (t instanceof Error e) {
+                throw e;
+              }
+              throw new RuntimeException(t);
+            }
+
+            delivered++;
+            return (AccountBalance) result;
+          }
+        };
+
+    return StreamSupport.stream(
+            Spliterators.spliterator(iterator, total, Spliterator.NONNULL), false)
+        .onClose(executor::shutdownNow);
+  }
+
+  /** Pick a node not tried yet for an account, preferring healthy ones. */
+  private static @Nullable Node failover(final List<Node> nodes, final Set<Node> tried) {
+    Node fallback = null;
+    for (var node : nodes) {
+      if (tried.contains(node)) {
+        continue;
+      }
+      if (node.isHealthy()) {
+        return node;
+      }
+      if (fallback == null) {
+        fallback = node;
+      }
+    }
+    return fallback;
+  }
 }
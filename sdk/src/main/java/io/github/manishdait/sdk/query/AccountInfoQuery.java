@@ -50,6 +50,16 @@ public class AccountInfoQuery extends Query {
 
   public AccountInfo query(@NonNull Client client) {
     Objects.requireNonNull(client, "client must not be null");
+
+    var cache = client.getAccountQueryCache();
+    if (cache != null) {
+      return cache.getInfo(this.accountId, () -> this.fetch(client));
+    }
+
+    return this.fetch(client);
+  }
+
+  private AccountInfo fetch(@NonNull Client client) {
     this.doPreQueryCheck(client);
 
     var infoProto = this.execute(client).getCryptoGetInfo().getAccountInfo();
@@ -0,0 +1,324 @@
+package io.github.manishdait.sdk.query;
+
+import com.hedera.hashgraph.sdk.proto.TransactionBody;
+import io.github.manishdait.sdk.Status;
+import io.github.manishdait.sdk.account.AccountBalance;
+import io.github.manishdait.sdk.account.AccountId;
+import io.github.manishdait.sdk.account.AccountInfo;
+import io.github.manishdait.sdk.transaction.TransactionId;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Bounded read-through cache for {@link AccountBalanceQuery} and {@link AccountInfoQuery} results,
+ * keyed by {@link AccountId}.
+ *
+ * <p>Entries are evicted in least-recently-used order once {@code maxEntries} accounts are cached,
+ * and each query type expires after its own TTL.
+ *
+ * <p>Loads run outside the lock. Each account with a load in flight has a generation that {@link
+ * #invalidate(AccountId)} bumps, and a load that finishes after its account was invalidated returns
+ * its result without caching it, so a value read before a transaction never outlives it.
+ *
+ * <p>Transactions sent through a client with this cache are remembered with the accounts they
+ * modify until their receipt is fetched, up to {@code maxEntries} of them. A successful receipt
+ * then invalidates those accounts.
+ */
+public final class AccountQueryCache {
+  private final int maxEntries;
+  private final Duration balanceTtl;
+  private final Duration infoTtl;
+  private final Map<AccountId, Entry> entries;
+  private final Map<AccountId, Load> loads = new HashMap<>();
+  private final Map<TransactionId, List<AccountId>> submitted;
+
+  /**
+   * Constructor.
+   *
+   * @param maxEntries the maximum number of accounts to keep
+   * @param balanceTtl how long a cached {@link AccountBalance} stays valid
+   * @param infoTtl how long a cached {@link AccountInfo} stays valid
+   */
+  public AccountQueryCache(
+      final int maxEntries, @NonNull final Duration balanceTtl, @NonNull final Duration infoTtl) {
+    Objects.requireNonNull(balanceTtl, "balanceTtl must not be null");
+    Objects.requireNonNull(infoTtl, "infoTtl must not be null");
+
+    if (maxEntries <= 0) {
+      throw new IllegalArgumentException("maxEntries must be greater than 0");
+    }
+
+    this.maxEntries = maxEntries;
+    this.balanceTtl = balanceTtl;
+    this.infoTtl = infoTtl;
+    this.entries =
+        new LinkedHashMap<>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<AccountId, Entry> eldest) {
+            return size() > AccountQueryCache.this.maxEntries;
+          }
+        };
+    this.submitted =
+        new LinkedHashMap<>() {
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<TransactionId, List<AccountId>> eldest) {
+            return size() > AccountQueryCache.this.maxEntries;
+          }
+        };
+  }
+
+  public int getMaxEntries() {
+    return maxEntries;
+  }
+
+  public Duration getBalanceTtl() {
+    return balanceTtl;
+  }
+
+  public Duration getInfoTtl() {
+    return infoTtl;
+  }
+
+  /**
+   * Get the cached balance for the account, loading and caching it if absent or expired.
+   *
+   * @param accountId the account to look up
+   * @param loader fetches the balance from the network on a miss
+   * @return the {@code AccountBalance}
+   */
+  public @NonNull AccountBalance getBalance(
+      @NonNull final AccountId accountId, @NonNull final Supplier<AccountBalance> loader) {
+    Objects.requireNonNull(accountId, "accountId must not be null");
+    Objects.requireNonNull(loader, "loader must not be null");
+
+    synchronized (entries) {
+      var entry = entries.get(accountId);
+      if (entry != null && entry.balance != null && entry.balanceExpiry - System.nanoTime() > 0) {
+        return entry.balance;
+      }
+    }
+
+    final var generation = beginLoad(accountId);
+    AccountBalance balance = null;
+    try {
+      balance = loader.get();
+    } finally {
+      synchronized (entries) {
+        if (endLoad(accountId, generation) && balance != null) {
+          var entry = entries.computeIfAbsent(accountId, k -> new Entry());
+          entry.balance = balance;
+          entry.balanceExpiry = System.nanoTime() + balanceTtl.toNanos();
+        }
+      }
+    }
+
+    return balance;
+  }
+
+  /**
+   * Get the cached info for the account, loading and caching it if absent or expired.
+   *
+   * @param accountId the account to look up
+   * @param loader fetches the info from the network on a miss
+   * @return the {@code AccountInfo}
+   */
+  public @NonNull AccountInfo getInfo(
+      @NonNull final AccountId accountId, @NonNull final Supplier<AccountInfo> loader) {
+    Objects.requireNonNull(accountId, "accountId must not be null");
+    Objects.requireNonNull(loader, "loader must not be null");
+
+    synchronized (entries) {
+      var entry = entries.get(accountId);
+      if (entry != null && entry.info != null && entry.infoExpiry - System.nanoTime() > 0) {
+        return entry.info;
+      }
+    }
+
+    final var generation = beginLoad(accountId);
+    AccountInfo info = null;
+    try {
+      info = loader.get();
+    } finally {
+      synchronized (entries) {
+        if (endLoad(accountId, generation) && info != null) {
+          var entry = entries.computeIfAbsent(accountId, k -> new Entry());
+          entry.info = info;
+          entry.infoExpiry = System.nanoTime() + infoTtl.toNanos();
+        }
+      }
+    }
+
+    return info;
+  }
+
+  /**
+   * Drop every cached result for the given account.
+   *
+   * @param accountId the account to invalidate
+   */
+  public void invalidate(@NonNull final AccountId accountId) {
+    Objects.requireNonNull(accountId, "accountId must not be null");
+
+    synchronized (entries) {
+      entries.remove(accountId);
+      bumpGeneration(accountId);
+    }
+  }
+
+  /**
+   * Drop every cached result for the given accounts.
+   *
+   * @param accountIds the accounts to invalidate
+   */
+  public void invalidateAll(@NonNull final Collection<AccountId> accountIds) {
+    Objects.requireNonNull(accountIds, "accountIds must not be null");
+
+    synchronized (entries) {
+      for (var accountId : accountIds) {
+        entries.remove(accountId);
+        bumpGeneration(accountId);
+      }
+    }
+  }
+
+  /**
+   * Remember the accounts a submitted transaction modifies until its receipt is fetched. The oldest
+   * transaction is forgotten once {@code maxEntries} are remembered, and its accounts then expire
+   * with their TTL.
+   *
+   * @param transactionId the submitted transaction
+   * @param body the body of the transaction
+   */
+  public void transactionSubmitted(
+      @NonNull final TransactionId transactionId, @NonNull final TransactionBody body) {
+    Objects.requireNonNull(transactionId, "transactionId must not be null");
+
+    final var accountIds = accountsModifiedBy(body);
+    if (accountIds.isEmpty()) {
+      return;
+    }
+
+    synchronized (entries) {
+      submitted.put(transactionId, accountIds);
+    }
+  }
+
+  /**
+   * Invalidate the accounts modified by a submitted transaction once its receipt is in, if the
+   * transaction succeeded.
+   *
+   * @param transactionId the transaction whose receipt was fetched
+   * @param status the status of the receipt
+   */
+  public void receiptFetched(
+      @NonNull final TransactionId transactionId, @NonNull final Status status) {
+    Objects.requireNonNull(transactionId, "transactionId must not be null");
+    Objects.requireNonNull(status, "status must not be null");
+
+    synchronized (entries) {
+      final var accountIds = submitted.remove(transactionId);
+      if (accountIds != null && status == Status.SUCCESS) {
+        invalidateAll(accountIds);
+      }
+    }
+  }
+
+  /** Drop every cached result. */
+  public void clear() {
+    synchronized (entries) {
+      entries.clear();
+      for (var load : loads.values()) {
+        load.generation++;
+      }
+    }
+  }
+
+  public int size() {
+    synchronized (entries) {
+      return entries.size();
+    }
+  }
+
+  /**
+   * Get the accounts whose cached state is stale once the given transaction succeeds.
+   *
+   * @param body the body of the submitted transaction
+   * @return the affected {@code AccountId}s, empty if the transaction does not touch cached state
+   */
+  public static @NonNull List<AccountId> accountsModifiedBy(@NonNull final TransactionBody body) {
+    Objects.requireNonNull(body, "body must not be null");
+
+    var accountIds = new ArrayList<AccountId>();
+
+    switch (body.getDataCase()) {
+      case CRYPTOUPDATEACCOUNT -> {
+        accountIds.add(AccountId.fromProto(body.getCryptoUpdateAccount().getAccountIDToUpdate()));
+      }
+      case CRYPTODELETE -> {
+        var delete = body.getCryptoDelete();
+        accountIds.add(AccountId.fromProto(delete.getDeleteAccountID()));
+
+        if (delete.hasTransferAccountID()) {
+          accountIds.add(AccountId.fromProto(delete.getTransferAccountID()));
+        }
+      }
+      case CRYPTOTRANSFER -> {
+        for (var transfer : body.getCryptoTransfer().getTransfers().getAccountAmountsList()) {
+          accountIds.add(AccountId.fromProto(transfer.getAccountID()));
+        }
+      }
+      default -> {}
+    }
+
+    return accountIds;
+  }
+
+  private long beginLoad(final AccountId accountId) {
+    synchronized (entries) {
+      var load = loads.computeIfAbsent(accountId, k -> new Load());
+      load.inFlight++;
+      return load.generation;
+    }
+  }
+
+  /**
+   * Finish a load started by {@link #beginLoad(AccountId)}. Must hold the lock on {@code entries}.
+   *
+   * @return {@code true} if the account was not invalidated while the load was in flight
+   */
+  private boolean endLoad(final AccountId accountId, final long generation) {
+    var load = loads.get(accountId);
+    if (--load.inFlight == 0) {
+      loads.remove(accountId);
+    }
+    return load.generation == generation;
+  }
+
+  private void bumpGeneration(final AccountId accountId) {
+    var load = loads.get(accountId);
+    if (load != null) {
+      load.generation++;
+    }
+  }
+
+  private static final class Load {
+    private long generation;
+    private int inFlight;
+  }
+
+  private static final class Entry {
+    private @Nullable AccountBalance balance;
+    private long balanceExpiry;
+    private @Nullable AccountInfo info;
+    private long infoExpiry;
+  }
+}
@@ -1,7 +1,8 @@
 package io.github.manishdait.sdk.query;
 
 import com.google.protobuf.ByteString;
-import com.hedera.hashgraph.sdk.proto.AccountAmount;
+import com.google.protobuf.Message;
+import com.google.protobuf.UnsafeByteOperations;
 import com.hedera.hashgraph.sdk.proto.CryptoTransferTransactionBody;
 import com.hedera.hashgraph.sdk.proto.Duration;
 import com.hedera.hashgraph.sdk.proto.QueryHeader;
@@ -9,25 +10,28 @@ import com.hedera.hashgraph.sdk.proto.Response;
 import com.hedera.hashgraph.sdk.proto.ResponseHeader;
 import com.hedera.hashgraph.sdk.proto.ResponseType;
 import com.hedera.hashgraph.sdk.proto.SignatureMap;
-import com.hedera.hashgraph.sdk.proto.SignaturePair;
 import com.hedera.hashgraph.sdk.proto.SignedTransaction;
-import com.hedera.hashgraph.sdk.proto.Timestamp;
 import com.hedera.hashgraph.sdk.proto.Transaction;
 import com.hedera.hashgraph.sdk.proto.TransactionBody;
-import com.hedera.hashgraph.sdk.proto.TransactionID;
-import com.hedera.hashgraph.sdk.proto.TransferList;
 import io.github.manishdait.sdk.Client;
 import io.github.manishdait.sdk.Hbar;
 import io.github.manishdait.sdk.HbarUnit;
 import io.github.manishdait.sdk.Status;
+import io.github.manishdait.sdk.account.TransferTransaction;
 import io.github.manishdait.sdk.internal.Executable;
 import io.github.manishdait.sdk.internal.ExecutionState;
+import io.github.manishdait.sdk.internal.SingleFlight;
+import io.github.manishdait.sdk.internal.key.SignatureUtils;
+import io.github.manishdait.sdk.network.Node;
+import io.github.manishdait.sdk.transaction.TransactionId;
 import io.grpc.MethodDescriptor;
-import java.time.Instant;
 import java.util.List;
+import java.util.Objects;
 import org.jspecify.annotations.NonNull;
 
 public abstract class Query extends Executable<com.hedera.hashgraph.sdk.proto.Query, Response> {
+  private static final SingleFlight<InFlightKey, Response> IN_FLIGHT = new SingleFlight<>();
+
   protected QueryHeader queryHeader;
   protected Hbar cost = Hbar.of(0);
 
@@ -43,54 +47,33 @@ public abstract class Query extends Executable<com.hedera.hashgraph.sdk.proto.Qu
   }
 
   private Transaction preparePayment(@NonNull final Client client, @NonNull final Hbar cost) {
+    final var operator = client.getOperatorAccount();
+    final var nodeAccountId = resolveNode(client).getAccountId();
+
     CryptoTransferTransactionBody cryptoTx =
-        CryptoTransferTransactionBody.newBuilder()
-            .setTransfers(
-                TransferList.newBuilder()
-                    .addAccountAmounts(
-                        AccountAmount.newBuilder()
-                            .setAccountID(client.getOperatorAccount().accountId().toProto())
-                            .setAmount(-cost.getValueInTinybar()))
-                    .addAccountAmounts(
-                        AccountAmount.newBuilder()
-                            .setAccountID(client.getNode().getAccountId().toProto())
-                            .setAmount(cost.getValueInTinybar()))
-                    .build())
-            .build();
+        new TransferTransaction()
+            .addHbarTransfer(operator.accountId(), -cost.getValueInTinybar())
+            .addHbarTransfer(nodeAccountId, cost.getValueInTinybar())
+            .toProto();
 
     TransactionBody txBody =
         TransactionBody.newBuilder()
-            .setTransactionID(
-                TransactionID.newBuilder()
-                    .setAccountID(client.getOperatorAccount().accountId().toProto())
-                    .setTransactionValidStart(
-                        Timestamp.newBuilder()
-                            .setSeconds(Instant.now().getEpochSecond())
-                            .setNanos(Instant.now().getNano())))
-            .setNodeAccountID(client.getNode().getAccountId().toProto())
+            .setTransactionID(TransactionId.fromAccountId(operator.accountId()).toProto())
+            .setNodeAccountID(nodeAccountId.toProto())
             .setTransactionFee(100_000_000)
             .setTransactionValidDuration(Duration.newBuilder().setSeconds(120))
             .setCryptoTransfer(cryptoTx)
             .build();
 
     byte[] bodyBytes = txBody.toByteArray();
-    byte[] signature = client.getOperatorAccount().privateKey().sign(bodyBytes);
+    byte[] signature = operator.privateKey().sign(bodyBytes);
 
     SignedTransaction signedTx =
         SignedTransaction.newBuilder()
-            .setBodyBytes(ByteString.copyFrom(bodyBytes))
+            .setBodyBytes(UnsafeByteOperations.unsafeWrap(bodyBytes))
             .setSigMap(
                 SignatureMap.newBuilder()
-                    .addSigPair(
-                        SignaturePair.newBuilder()
-                            .setPubKeyPrefix(
-                                ByteString.copyFrom(
-                                    client
-                                        .getOperatorAccount()
-                                        .privateKey()
-                                        .getPublicKey()
-                                        .getBytes()))
-                            .setEd25519(ByteString.copyFrom(signature))))
+                    .addSigPair(SignatureUtils.toSignaturePair(operator.publicKey(), signature)))
             .build();
 
     return Transaction.newBuilder().setSignedTransactionBytes(signedTx.toByteString()).build();
@@ -132,6 +115,46 @@ public abstract class Query extends Executable<com.hedera.hashgraph.sdk.proto.Qu
     return ExecutionState.FAIL;
   }
 
+  /**
+   * Execute the query, sharing the response with any identical query already in flight on the same
+   * client. Queries are only identical if they are also pinned to the same node and override the
+   * same client settings.
+   *
+   * @param client the client to execute against
+   * @return the {@code Response}
+   */
+  @Override
+  public Response execute(@NonNull final Client client) {
+    Objects.requireNonNull(client, "client must not be null");
+
+    final var key =
+        new InFlightKey(
+            client, this.getNode(), this.getOverrides(), coalescingKey(this.buildRequest()));
+    return IN_FLIGHT.execute(key, () -> super.execute(client));
+  }
+
+  /**
+   * Serialize the query with the payment removed from its header, so two callers asking the same
+   * question produce the same key regardless of who pays for it.
+   */
+  private static ByteString coalescingKey(final com.hedera.hashgraph.sdk.proto.Query query) {
+    final var builder = query.toBuilder();
+
+    for (var field : query.getAllFields().keySet()) {
+      final var inner = ((Message) query.getField(field)).toBuilder();
+      final var headerField = inner.getDescriptorForType().findFieldByName("header");
+
+      if (headerField != null) {
+        final var header = (QueryHeader) inner.getField(headerField);
+        inner.setField(headerField, header.toBuilder().clearPayment().build());
+      }
+
+      builder.setField(field, inner.build());
+    }
+
+    return builder.build().toByteString();
+  }
+
   @Override
   protected com.hedera.hashgraph.sdk.proto.Query buildRequest() {
     return this.toProto();
@@ -141,4 +164,7 @@ public abstract class Query extends Executable<com.hedera.hashgraph.sdk.proto.Qu
   protected Status getStatus(Response response) {
     return Status.valueOf(getResponseHeader(response).getNodeTransactionPrecheckCode());
   }
+
+  private record InFlightKey(
+      Client client, Node node, List<Object> overrides, ByteString request) {}
 }
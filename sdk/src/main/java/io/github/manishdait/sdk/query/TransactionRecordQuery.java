@@ -0,0 +1,250 @@
+package io.github.manishdait.sdk.query;
+
+import com.hedera.hashgraph.sdk.proto.CryptoServiceGrpc;
+import com.hedera.hashgraph.sdk.proto.Response;
+import com.hedera.hashgraph.sdk.proto.ResponseHeader;
+import com.hedera.hashgraph.sdk.proto.ResponseType;
+import com.hedera.hashgraph.sdk.proto.TransactionGetRecordQuery;
+import io.github.manishdait.sdk.Client;
+import io.github.manishdait.sdk.Status;
+import io.github.manishdait.sdk.account.AccountId;
+import io.github.manishdait.sdk.exception.PrecheckException;
+import io.github.manishdait.sdk.internal.Config;
+import io.github.manishdait.sdk.internal.ExecutionState;
+import io.github.manishdait.sdk.internal.Futures;
+import io.github.manishdait.sdk.network.Node;
+import io.github.manishdait.sdk.transaction.TransactionId;
+import io.github.manishdait.sdk.transaction.TransactionRecord;
+import io.grpc.MethodDescriptor;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Fetches the record of a transaction, waiting for it to reach consensus. Records are paid queries
+ * and are kept by the nodes for a few minutes after consensus.
+ */
+public class TransactionRecordQuery extends Query {
+  private static final Executor FETCHER =
+      Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("hiero-record-", 0).factory());
+
+  private TransactionId transactionId;
+  private boolean includeDuplicates;
+  private boolean includeChildren;
+  private int maxInFlight = Config.DEFAULT_MAX_IN_FLIGHT_QUERIES;
+
+  public TransactionRecordQuery() {}
+
+  public TransactionId getTransactionId() {
+    return transactionId;
+  }
+
+  public boolean hasIncludeDuplicates() {
+    return includeDuplicates;
+  }
+
+  public boolean hasIncludeChildren() {
+    return includeChildren;
+  }
+
+  public int getMaxInFlight() {
+    return maxInFlight;
+  }
+
+  public TransactionRecordQuery withTransactionId(@NonNull final TransactionId transactionId) {
+    Objects.requireNonNull(transactionId, "transactionId must not be null");
+    this.transactionId = transactionId;
+    return this;
+  }
+
+  public TransactionRecordQuery withIncludeDuplicates(final boolean includeDuplicates) {
+    this.includeDuplicates = includeDuplicates;
+    return this;
+  }
+
+  public TransactionRecordQuery withIncludeChildren(final boolean includeChildren) {
+    this.includeChildren = includeChildren;
+    return this;
+  }
+
+  /**
+   * Set how many records {@link #queryAll(Client, Collection)} fetches at once.
+   *
+   * @param maxInFlight the maximum number of queries in flight
+   * @return this {@code TransactionRecordQuery}
+   */
+  public TransactionRecordQuery withMaxInFlight(final int maxInFlight) {
+    if (maxInFlight <= 0) {
+      throw new IllegalArgumentException("maxInFlight must be greater than 0");
+    }
+    this.maxInFlight = maxInFlight;
+    return this;
+  }
+
+  @Override
+  public com.hedera.hashgraph.sdk.proto.Query toProto() {
+    var recordQuery =
+        TransactionGetRecordQuery.newBuilder()
+            .setTransactionID(this.transactionId.toProto())
+            .setIncludeChildRecords(this.includeChildren)
+            .setIncludeDuplicates(this.includeDuplicates)
+            .setHeader(this.queryHeader)
+            .build();
+
+    return com.hedera.hashgraph.sdk.proto.Query.newBuilder()
+        .setTransactionGetRecord(recordQuery)
+        .build();
+  }
+
+  @Override
+  protected ResponseHeader getResponseHeader(@NonNull final Response response) {
+    Objects.requireNonNull(response, "response must not be null");
+    return response.getTransactionGetRecord().getHeader();
+  }
+
+  @Override
+  protected MethodDescriptor<com.hedera.hashgraph.sdk.proto.Query, Response> getMethodDescriptor() {
+    return CryptoServiceGrpc.getGetTxRecordByTxIDMethod();
+  }
+
+  public TransactionRecord query(@NonNull final Client client) {
+    Objects.requireNonNull(client, "client must not be null");
+    Objects.requireNonNull(transactionId, "transactionId must not be null");
+    this.doPreQueryCheck(client);
+
+    var response = this.execute(client).getTransactionGetRecord();
+    return TransactionRecord.fromProto(
+        response.getTransactionRecord(),
+        response.getChildTransactionRecordsList(),
+        response.getDuplicateTransactionRecordsList());
+  }
+
+  /**
+   * Fetch the records of many transactions, blocking until all of them are in.
+   *
+   * @param client the client to query with
+   * @param transactionIds the transactions
+   * @return the records in the order of {@code transactionIds}
+   * @see #queryAllAsync(Client, Collection)
+   */
+  public List<TransactionRecord> queryAll(
+      @NonNull final Client client, @NonNull final Collection<TransactionId> transactionIds) {
+    return Futures.join(queryAllAsync(client, transactionIds));
+  }
+
+  /**
+   * Fetch the records of many transactions with up to {@link #getMaxInFlight()} queries in flight
+   * at once, spread round-robin over the healthy nodes so no single node serves, and is paid for,
+   * the whole run. Each query asks for duplicates and children as this query does.
+   *
+   * <p>A query whose node fails is sent again to another node, healthy ones first, and the run only
+   * fails once every node has failed for the same transaction. A precheck failure is not retried,
+   * as another node would reject the query alike.
+   *
+   * @param client the client to query with
+   * @param transactionIds the transactions
+   * @return a future of the records in the order of {@code transactionIds}, failing as soon as the
+   *     record of one transaction cannot be fetched; queries not yet started by then are not sent
+   */
+  public CompletableFuture<List<TransactionRecord>> queryAllAsync(
+      @NonNull final Client client, @NonNull final Collection<TransactionId> transactionIds) {
+    Objects.requireNonNull(client, "client must not be null");
+    Objects.requireNonNull(transactionIds, "transactionIds must not be null");
+
+    final var nodes = distinctNodeAccounts(client);
+    final var next = new AtomicInteger();
+    return Futures.all(
+        maxInFlight,
+        List.copyOf(transactionIds),
+        id -> {
+          final var query =
+              new TransactionRecordQuery()
+                  .withTransactionId(id)
+                  .withIncludeDuplicates(includeDuplicates)
+                  .withIncludeChildren(includeChildren);
+          final var first = nodes.get(next.getAndIncrement() % nodes.size());
+          return CompletableFuture.supplyAsync(
+              () -> queryWithFailover(client, query, first), FETCHER);
+        });
+  }
+
+  /** Run a query on {@code first}, moving on to another node account each time one fails. */
+  private static TransactionRecord queryWithFailover(
+      final Client client, final TransactionRecordQuery query, final Node first) {
+    final var tried = new HashSet<AccountId>();
+    var current = first;
+
+    while (true) {
+      try {
+        query.setNode(current);
+        return query.query(client);
+      } catch (PrecheckException e) {
+        throw e;
+      } catch (RuntimeException e) {
+        // The node failed rather than the query, move on to another one
+        current.increaseBackoff();
+        tried.add(current.getAccountId());
+        current = client.getNetwork().selectNodeExcluding(tried);
+
+        if (current == null) {
+          throw e;
+        }
+      }
+    }
+  }
+
+  /** Pick one proxy per node account, preferring healthy ones. */
+  private static List<Node> distinctNodeAccounts(final Client client) {
+    var candidates = client.getNetwork().getHealthyNodes();
+    if (candidates.isEmpty()) {
+      candidates = client.getNetwork().getNodes();
+    }
+
+    final var nodes = new LinkedHashMap<AccountId, Node>();
+    for (var node : candidates) {
+      nodes.putIfAbsent(node.getAccountId(), node);
+    }
+
+    if (nodes.isEmpty()) {
+      throw new IllegalStateException("network has no nodes to query");
+    }
+    return List.copyOf(nodes.values());
+  }
+
+  @Override
+  protected ExecutionState getExecutionState(Response queryResponse) {
+    final var state = super.getExecutionState(queryResponse);
+
+    if (state != ExecutionState.FINISH
+        || this.queryHeader.getResponseType() == ResponseType.COST_ANSWER) {
+      return state;
+    }
+
+    // A record whose receipt is still pending has not reached consensus yet
+    var receiptStatus =
+        Status.valueOf(
+            queryResponse
+                .getTransactionGetRecord()
+                .getTransactionRecord()
+                .getReceipt()
+                .getStatus());
+
+    return switch (receiptStatus) {
+      case Status.UNKNOWN,
+          Status.BUSY,
+          Status.RECEIPT_NOT_FOUND,
+          Status.RECORD_NOT_FOUND,
+          Status.OK,
+          Status.PLATFORM_NOT_ACTIVE ->
+          ExecutionState.RETRY;
+      default -> ExecutionState.FINISH;
+    };
+  }
+}
@@ -0,0 +1,224 @@
+package io.github.manishdait.sdk.schedule;
+
+import com.hedera.hashgraph.sdk.proto.SchedulableTransactionBody;
+import com.hedera.hashgraph.sdk.proto.ScheduleCreateTransactionBody;
+import com.hedera.hashgraph.sdk.proto.ScheduleServiceGrpc;
+import com.hedera.hashgraph.sdk.proto.Timestamp;
+import com.hedera.hashgraph.sdk.proto.TransactionBody;
+import com.hedera.hashgraph.sdk.proto.TransactionResponse;
+import io.github.manishdait.sdk.Client;
+import io.github.manishdait.sdk.account.AccountId;
+import io.github.manishdait.sdk.key.Key;
+import io.github.manishdait.sdk.key.PublicKey;
+import io.github.manishdait.sdk.transaction.Transaction;
+import io.grpc.MethodDescriptor;
+import java.time.Instant;
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Creates a schedule holding a transaction that runs once the keys it requires have signed it, so
+ * signatures can be collected over time through {@link ScheduleSignTransaction}s. Signatures on the
+ * create transaction itself count towards the scheduled transaction too.
+ */
+public class ScheduleCreateTransaction extends Transaction<ScheduleCreateTransaction> {
+  private Transaction<?> scheduledTransaction;
+  private SchedulableTransactionBody scheduledTransactionBody;
+  private String scheduleMemo = "";
+  private Key adminKey;
+  private AccountId payerAccountId;
+  private Instant expirationTime;
+  private boolean waitForExpiry;
+
+  public ScheduleCreateTransaction() {}
+
+  public SchedulableTransactionBody getScheduledTransactionBody() {
+    return scheduledTransactionBody;
+  }
+
+  /**
+   * Set the transaction to schedule. It is built with the client the schedule is packed with; its
+   * transaction id, node and valid duration are not part of the schedule.
+   *
+   * @param transaction the transaction to schedule
+   * @return this {@code ScheduleCreateTransaction}
+   */
+  public ScheduleCreateTransaction withScheduledTransaction(
+      @NonNull final Transaction<?> transaction) {
+    Objects.requireNonNull(transaction, "transaction must not be null");
+    this.scheduledTransaction = transaction;
+    this.scheduledTransactionBody = null;
+    return this;
+  }
+
+  public ScheduleCreateTransaction withScheduledTransactionBody(
+      @NonNull final SchedulableTransactionBody scheduledTransactionBody) {
+    Objects.requireNonNull(scheduledTransactionBody, "scheduledTransactionBody must not be null");
+    this.scheduledTransactionBody = scheduledTransactionBody;
+    this.scheduledTransaction = null;
+    return this;
+  }
+
+  public String getScheduleMemo() {
+    return scheduleMemo;
+  }
+
+  public ScheduleCreateTransaction withScheduleMemo(@NonNull final String scheduleMemo) {
+    Objects.requireNonNull(scheduleMemo, "scheduleMemo must not be null");
+    this.scheduleMemo = scheduleMemo;
+    return this;
+  }
+
+  public Key getAdminKey() {
+    return adminKey;
+  }
+
+  public ScheduleCreateTransaction withAdminKey(final Key adminKey) {
+    this.adminKey = adminKey;
+    return this;
+  }
+
+  public AccountId getPayerAccountId() {
+    return payerAccountId;
+  }
+
+  /**
+   * Set the account paying for the scheduled transaction once it runs.
+   *
+   * @param payerAccountId the payer, or {@code null} for the payer of the create transaction
+   * @return this {@code ScheduleCreateTransaction}
+   */
+  public ScheduleCreateTransaction withPayerAccountId(final AccountId payerAccountId) {
+    this.payerAccountId = payerAccountId;
+    return this;
+  }
+
+  public Instant getExpirationTime() {
+    return expirationTime;
+  }
+
+  public ScheduleCreateTransaction withExpirationTime(final Instant expirationTime) {
+    this.expirationTime = expirationTime;
+    return this;
+  }
+
+  public boolean getWaitForExpiry() {
+    return waitForExpiry;
+  }
+
+  /**
+   * Run the scheduled transaction at its expiration time rather than as soon as it is fully signed.
+   *
+   * @param waitForExpiry whether to wait for the expiration time
+   * @return this {@code ScheduleCreateTransaction}
+   */
+  public ScheduleCreateTransaction withWaitForExpiry(final boolean waitForExpiry) {
+    this.waitForExpiry = waitForExpiry;
+    return this;
+  }
+
+  public ScheduleCreateTransactionBody toProto() {
+    final var builder =
+        ScheduleCreateTransactionBody.newBuilder()
+            .setMemo(scheduleMemo)
+            .setWaitForExpiry(waitForExpiry);
+
+    if (scheduledTransactionBody != null) {
+      builder.setScheduledTransactionBody(scheduledTransactionBody);
+    }
+    if (adminKey != null) {
+      builder.setAdminKey(adminKey.toProto());
+    }
+    if (payerAccountId != null) {
+      builder.setPayerAccountID(payerAccountId.toProto());
+    }
+    if (expirationTime != null) {
+      builder.setExpirationTime(
+          Timestamp.newBuilder()
+              .setSeconds(expirationTime.getEpochSecond())
+              .setNanos(expirationTime.getNano()));
+    }
+
+    return builder.build();
+  }
+
+  @Override
+  public ScheduleCreateTransaction fromProto(@NonNull final TransactionBody transactionBodyProto) {
+    Objects.requireNonNull(transactionBodyProto, "transactionBodyProto must not be null");
+
+    ScheduleCreateTransactionBody proto = transactionBodyProto.getScheduleCreate();
+    ScheduleCreateTransaction transaction =
+        new ScheduleCreateTransaction()
+            .withScheduleMemo(proto.getMemo())
+            .withWaitForExpiry(proto.getWaitForExpiry());
+
+    if (proto.hasScheduledTransactionBody()) {
+      transaction.withScheduledTransactionBody(proto.getScheduledTransactionBody());
+    }
+    if (proto.hasAdminKey()) {
+      transaction.withAdminKey(PublicKey.fromProto(proto.getAdminKey()));
+    }
+    if (proto.hasPayerAccountID()) {
+      transaction.withPayerAccountId(AccountId.fromProto(proto.getPayerAccountID()));
+    }
+    if (proto.hasExpirationTime()) {
+      transaction.withExpirationTime(
+          Instant.ofEpochSecond(
+              proto.getExpirationTime().getSeconds(), proto.getExpirationTime().getNanos()));
+    }
+
+    return transaction;
+  }
+
+  /**
+   * Convert a transaction body to the body of a scheduled transaction. The two messages number the
+   * transaction types differently but name them alike, so the type is matched by name.
+   *
+   * @param body the transaction body
+   * @return the schedulable body, keeping the fee, memo and transaction type of {@code body}
+   * @throws IllegalArgumentException if the transaction type cannot be scheduled
+   */
+  static SchedulableTransactionBody toSchedulable(@NonNull final TransactionBody body) {
+    Objects.requireNonNull(body, "body must not be null");
+
+    final var source =
+        TransactionBody.getDescriptor().findFieldByNumber(body.getDataCase().getNumber());
+    final var target =
+        source == null
+            ? null
+            : SchedulableTransactionBody.getDescriptor().findFieldByName(source.getName());
+
+    if (target == null) {
+      throw new IllegalArgumentException(body.getDataCase() + " transactions cannot be scheduled");
+    }
+
+    return SchedulableTransactionBody.newBuilder()
+        .setTransactionFee(body.getTransactionFee())
+        .setMemo(body.getMemo())
+        .setField(target, body.getField(source))
+        .build();
+  }
+
+  @Override
+  protected void buildTransaction(@NonNull final Client client) {
+    Objects.requireNonNull(client, "client must not be null");
+
+    if (scheduledTransaction != null) {
+      // Packing builds the body; the packed transaction itself is never sent
+      scheduledTransactionBody =
+          toSchedulable(scheduledTransaction.pack(client).getTransactionBody());
+    }
+
+    if (scheduledTransactionBody == null) {
+      throw new IllegalStateException("a scheduled transaction must be set");
+    }
+
+    this.transactionBodyBuilder.setScheduleCreate(this.toProto());
+  }
+
+  @Override
+  protected MethodDescriptor<com.hedera.hashgraph.sdk.proto.Transaction, TransactionResponse>
+      getMethodDescriptor() {
+    return ScheduleServiceGrpc.getCreateScheduleMethod();
+  }
+}
@@ -0,0 +1,43 @@
+package io.github.manishdait.sdk.schedule;
+
+import com.hedera.hashgraph.sdk.proto.ScheduleID;
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+
+public record ScheduleId(long shard, long realm, long num) {
+  public ScheduleId {
+    if (shard < 0) {
+      throw new RuntimeException("shard must be non-negative number.");
+    }
+
+    if (realm < 0) {
+      throw new RuntimeException("realm must be non-negative number.");
+    }
+  }
+
+  public static ScheduleId fromString(@NonNull final String scheduleId) {
+    Objects.requireNonNull(scheduleId, "scheduleId must not be null.");
+    String[] parts = scheduleId.split("\\.");
+
+    return new ScheduleId(
+        Long.parseLong(parts[0]), Long.parseLong(parts[1]), Long.parseLong(parts[2]));
+  }
+
+  public static ScheduleId fromProto(@NonNull final ScheduleID proto) {
+    Objects.requireNonNull(proto, "proto must not be null.");
+    return new ScheduleId(proto.getShardNum(), proto.getRealmNum(), proto.getScheduleNum());
+  }
+
+  public ScheduleID toProto() {
+    return ScheduleID.newBuilder()
+        .setShardNum(this.shard)
+        .setRealmNum(this.realm)
+        .setScheduleNum(this.num)
+        .build();
+  }
+
+  @Override
+  public String toString() {
+    return "%d.%d.%d".formatted(shard, realm, num);
+  }
+}
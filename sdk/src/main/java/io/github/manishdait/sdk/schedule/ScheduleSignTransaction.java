@@ -0,0 +1,58 @@
+package io.github.manishdait.sdk.schedule;
+
+import com.hedera.hashgraph.sdk.proto.ScheduleServiceGrpc;
+import com.hedera.hashgraph.sdk.proto.ScheduleSignTransactionBody;
+import com.hedera.hashgraph.sdk.proto.TransactionBody;
+import com.hedera.hashgraph.sdk.proto.TransactionResponse;
+import io.github.manishdait.sdk.Client;
+import io.github.manishdait.sdk.transaction.Transaction;
+import io.grpc.MethodDescriptor;
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Adds signatures to a schedule. Every signature on the packed transaction other than the payer's
+ * is added to the scheduled transaction, so one transaction can carry many signers. Use {@link
+ * ScheduleSignatureAggregator} to collect them.
+ */
+public class ScheduleSignTransaction extends Transaction<ScheduleSignTransaction> {
+  private ScheduleId scheduleId;
+
+  public ScheduleSignTransaction() {}
+
+  public ScheduleId getScheduleId() {
+    return scheduleId;
+  }
+
+  public ScheduleSignTransaction withScheduleId(@NonNull final ScheduleId scheduleId) {
+    Objects.requireNonNull(scheduleId, "scheduleId must not be null");
+    this.scheduleId = scheduleId;
+    return this;
+  }
+
+  public ScheduleSignTransactionBody toProto() {
+    return ScheduleSignTransactionBody.newBuilder().setScheduleID(scheduleId.toProto()).build();
+  }
+
+  @Override
+  public ScheduleSignTransaction fromProto(@NonNull final TransactionBody transactionBodyProto) {
+    Objects.requireNonNull(transactionBodyProto, "transactionBodyProto must not be null");
+
+    ScheduleSignTransactionBody proto = transactionBodyProto.getScheduleSign();
+    return new ScheduleSignTransaction()
+        .withScheduleId(ScheduleId.fromProto(proto.getScheduleID()));
+  }
+
+  @Override
+  protected void buildTransaction(@NonNull final Client client) {
+    Objects.requireNonNull(client, "client must not be null");
+    Objects.requireNonNull(scheduleId, "scheduleId must not be null");
+    this.transactionBodyBuilder.setScheduleSign(this.toProto());
+  }
+
+  @Override
+  protected MethodDescriptor<com.hedera.hashgraph.sdk.proto.Transaction, TransactionResponse>
+      getMethodDescriptor() {
+    return ScheduleServiceGrpc.getSignScheduleMethod();
+  }
+}
@@ -0,0 +1,150 @@
+package io.github.manishdait.sdk.schedule;
+
+import io.github.manishdait.sdk.Client;
+import io.github.manishdait.sdk.Status;
+import io.github.manishdait.sdk.exception.ReceiptStatusException;
+import io.github.manishdait.sdk.internal.Config;
+import io.github.manishdait.sdk.internal.Futures;
+import io.github.manishdait.sdk.key.PrivateKey;
+import io.github.manishdait.sdk.key.PublicKey;
+import io.github.manishdait.sdk.transaction.TransactionReceipt;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Collects the signatures of many co-signers of a schedule and submits them in as few {@link
+ * ScheduleSignTransaction}s as the transaction size limit allows, instead of one per signer.
+ *
+ * <p>Signers are either local keys or remote ones, such as a custody service or a hardware key,
+ * that sign the body bytes handed to them. For each batch of up to {@link
+ * #getMaxSignaturesPerTransaction()} signers one transaction is packed, every signer of the batch
+ * is asked for its signature at once on its own virtual thread, and the transaction is sent with
+ * all of them. Remote signers must answer within the transaction's valid duration.
+ */
+public final class ScheduleSignatureAggregator {
+  private final ScheduleId scheduleId;
+  private final Map<PublicKey, Function<byte[], byte[]>> signers = new LinkedHashMap<>();
+  private int maxSignaturesPerTransaction = Config.DEFAULT_MAX_SIGNATURES_PER_TRANSACTION;
+
+  /**
+   * Constructor.
+   *
+   * @param scheduleId the schedule to sign
+   */
+  public ScheduleSignatureAggregator(@NonNull final ScheduleId scheduleId) {
+    Objects.requireNonNull(scheduleId, "scheduleId must not be null");
+    this.scheduleId = scheduleId;
+  }
+
+  public ScheduleId getScheduleId() {
+    return scheduleId;
+  }
+
+  public int getMaxSignaturesPerTransaction() {
+    return maxSignaturesPerTransaction;
+  }
+
+  /**
+   * Set the maximum number of co-signers per transaction. Each signature adds about 100 bytes, and
+   * a transaction must stay within 6 KiB.
+   *
+   * @param maxSignaturesPerTransaction the maximum number of co-signers per transaction
+   * @return this {@code ScheduleSignatureAggregator}
+   */
+  public ScheduleSignatureAggregator withMaxSignaturesPerTransaction(
+      final int maxSignaturesPerTransaction) {
+    if (maxSignaturesPerTransaction <= 0) {
+      throw new IllegalArgumentException("maxSignaturesPerTransaction must be greater than 0");
+    }
+    this.maxSignaturesPerTransaction = maxSignaturesPerTransaction;
+    return this;
+  }
+
+  public ScheduleSignatureAggregator addSigner(@NonNull final PrivateKey key) {
+    Objects.requireNonNull(key, "key must not be null");
+    return addSigner(key.getPublicKey(), key::sign);
+  }
+
+  /**
+   * Add a co-signer that signs elsewhere. A signer added twice signs once.
+   *
+   * @param publicKey the public key of the signer
+   * @param signer returns the signer's signature of the body bytes it is given
+   * @return this {@code ScheduleSignatureAggregator}
+   */
+  public ScheduleSignatureAggregator addSigner(
+      @NonNull final PublicKey publicKey, @NonNull final Function<byte[], byte[]> signer) {
+    Objects.requireNonNull(publicKey, "publicKey must not be null");
+    Objects.requireNonNull(signer, "signer must not be null");
+    signers.putIfAbsent(publicKey, signer);
+    return this;
+  }
+
+  /**
+   * Split the co-signers added so far into transactions.
+   *
+   * @return the public keys of the co-signers of each transaction, in the order they were added
+   */
+  public List<List<PublicKey>> plan() {
+    final var keys = List.copyOf(signers.keySet());
+    final var plan = new ArrayList<List<PublicKey>>();
+    for (int start = 0; start < keys.size(); start += maxSignaturesPerTransaction) {
+      plan.add(keys.subList(start, Math.min(keys.size(), start + maxSignaturesPerTransaction)));
+    }
+    return plan;
+  }
+
+  /**
+   * Collect and submit the signatures one batch after the other, blocking until every batch has a
+   * receipt. Submission stops at the first batch that finds the schedule already executed.
+   *
+   * @param client the client to send with
+   * @return the receipts of the submitted batches
+   * @throws ReceiptStatusException if a batch fails
+   * @throws IllegalArgumentException if a signer returns a signature that does not verify
+   */
+  public List<TransactionReceipt> send(@NonNull final Client client) {
+    Objects.requireNonNull(client, "client must not be null");
+
+    final var receipts = new ArrayList<TransactionReceipt>();
+    for (var batch : plan()) {
+      final var packed = new ScheduleSignTransaction().withScheduleId(scheduleId).pack(client);
+      final var bodyBytes = packed.getTransactionBody().toByteArray();
+
+      final var signatures = new ArrayList<CompletableFuture<byte[]>>(batch.size());
+      try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+        for (var publicKey : batch) {
+          final var signer = signers.get(publicKey);
+          signatures.add(CompletableFuture.supplyAsync(() -> signer.apply(bodyBytes), executor));
+        }
+      }
+
+      for (int i = 0; i < batch.size(); i++) {
+        packed.addSignature(batch.get(i), Futures.join(signatures.get(i)));
+      }
+
+      final var response = packed.send();
+      final var receipt = response.queryReceipt();
+      if (receipt.status() == Status.SCHEDULE_ALREADY_EXECUTED) {
+        break;
+      }
+      if (receipt.status() != Status.SUCCESS) {
+        throw new ReceiptStatusException(
+            receipt.status(),
+            response.transactionId(),
+            "Schedule sign failed with " + receipt.status());
+      }
+
+      receipts.add(receipt);
+    }
+
+    return receipts;
+  }
+}
@@ -0,0 +1,26 @@
+package io.github.manishdait.sdk.token;
+
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+
+public record NftId(@NonNull TokenId tokenId, long serial) {
+  public NftId {
+    Objects.requireNonNull(tokenId, "tokenId must not be null.");
+
+    if (serial <= 0) {
+      throw new RuntimeException("serial must be positive number.");
+    }
+  }
+
+  public static NftId fromString(@NonNull final String nftId) {
+    Objects.requireNonNull(nftId, "nftId must not be null.");
+    String[] parts = nftId.split("/");
+
+    return new NftId(TokenId.fromString(parts[0]), Long.parseLong(parts[1]));
+  }
+
+  @Override
+  public String toString() {
+    return "%s/%d".formatted(tokenId, serial);
+  }
+}
@@ -0,0 +1,245 @@
+package io.github.manishdait.sdk.token;
+
+import com.google.protobuf.ByteString;
+import io.github.manishdait.sdk.Client;
+import io.github.manishdait.sdk.Status;
+import io.github.manishdait.sdk.exception.ReceiptStatusException;
+import io.github.manishdait.sdk.internal.Config;
+import io.github.manishdait.sdk.internal.Futures;
+import io.github.manishdait.sdk.key.PrivateKey;
+import io.github.manishdait.sdk.key.PublicKey;
+import io.github.manishdait.sdk.transaction.PackedTransaction;
+import io.github.manishdait.sdk.transaction.TransactionId;
+import io.github.manishdait.sdk.transaction.TransactionReceipt;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Mints any number of non-fungible tokens of one token, packing their metadata into as few {@link
+ * TokenMintTransaction}s as the network's mint batch limit allows.
+ *
+ * <p>{@link #send(Client, PrivateKey...)} runs the batches through a pipeline with up to {@link
+ * #getMaxInFlight()} batches in flight at once. A batch is packed and signed only when it enters
+ * the window, so its transaction id is still valid however long the whole run takes, and leaves it
+ * once its receipt is in, so the run slows down rather than piling up when the network throttles. A
+ * batch whose node does not take it is packed again, with the same transaction id, for another
+ * node.
+ */
+public final class NftMintPlanner {
+  private static final Executor MINTER =
+      Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("hiero-mint-", 0).factory());
+
+  private final TokenId tokenId;
+  private final List<ByteString> metadata = new ArrayList<>();
+  private int maxBatchSize = Config.DEFAULT_MAX_NFT_MINT_BATCH;
+  private int maxInFlight = Config.DEFAULT_MAX_IN_FLIGHT_TRANSACTIONS;
+  private String memo;
+
+  /**
+   * Constructor.
+   *
+   * @param tokenId the non-fungible token to mint
+   */
+  public NftMintPlanner(@NonNull final TokenId tokenId) {
+    Objects.requireNonNull(tokenId, "tokenId must not be null");
+    this.tokenId = tokenId;
+  }
+
+  public TokenId getTokenId() {
+    return tokenId;
+  }
+
+  public int getMaxBatchSize() {
+    return maxBatchSize;
+  }
+
+  /**
+   * Set the maximum number of tokens minted by one transaction.
+   *
+   * @param maxBatchSize the network's mint batch limit
+   * @return this {@code NftMintPlanner}
+   */
+  public NftMintPlanner withMaxBatchSize(final int maxBatchSize) {
+    if (maxBatchSize <= 0) {
+      throw new IllegalArgumentException("maxBatchSize must be greater than 0");
+    }
+    this.maxBatchSize = maxBatchSize;
+    return this;
+  }
+
+  public int getMaxInFlight() {
+    return maxInFlight;
+  }
+
+  /**
+   * Set how many batches may be signing, submitted or awaiting their receipt at once.
+   *
+   * @param maxInFlight the maximum number of batches in flight
+   * @return this {@code NftMintPlanner}
+   */
+  public NftMintPlanner withMaxInFlight(final int maxInFlight) {
+    if (maxInFlight <= 0) {
+      throw new IllegalArgumentException("maxInFlight must be greater than 0");
+    }
+    this.maxInFlight = maxInFlight;
+    return this;
+  }
+
+  public String getMemo() {
+    return memo;
+  }
+
+  /**
+   * Set the memo of every planned transaction.
+   *
+   * @param memo the memo
+   * @return this {@code NftMintPlanner}
+   */
+  public NftMintPlanner withMemo(final String memo) {
+    this.memo = memo;
+    return this;
+  }
+
+  public NftMintPlanner addMetadata(@NonNull final byte[] metadata) {
+    Objects.requireNonNull(metadata, "metadata must not be null");
+    return addMetadata(ByteString.copyFrom(metadata));
+  }
+
+  /**
+   * Add the metadata of one token to mint.
+   *
+   * @param metadata the metadata
+   * @return this {@code NftMintPlanner}
+   * @throws IllegalArgumentException if the metadata is larger than {@link
+   *     Config#DEFAULT_MAX_NFT_METADATA_BYTES}
+   */
+  public NftMintPlanner addMetadata(@NonNull final ByteString metadata) {
+    Objects.requireNonNull(metadata, "metadata must not be null");
+
+    if (metadata.size() > Config.DEFAULT_MAX_NFT_METADATA_BYTES) {
+      throw new IllegalArgumentException(
+          "metadata is "
+              + metadata.size()
+              + " bytes, more than "
+              + Config.DEFAULT_MAX_NFT_METADATA_BYTES);
+    }
+
+    this.metadata.add(metadata);
+    return this;
+  }
+
+  public NftMintPlanner addAllMetadata(@NonNull final Iterable<ByteString> metadata) {
+    Objects.requireNonNull(metadata, "metadata must not be null");
+    for (var entry : metadata) {
+      addMetadata(entry);
+    }
+    return this;
+  }
+
+  /**
+   * Split the metadata added so far into mint transactions.
+   *
+   * @return the planned transactions, every one but the last holding {@link #getMaxBatchSize()}
+   *     tokens
+   */
+  public List<TokenMintTransaction> plan() {
+    final var plan =
+        new ArrayList<TokenMintTransaction>(Math.ceilDiv(metadata.size(), maxBatchSize));
+
+    for (int start = 0; start < metadata.size(); start += maxBatchSize) {
+      final var transaction = new TokenMintTransaction().withTokenId(tokenId);
+      if (memo != null) {
+        transaction.withMemo(memo);
+      }
+
+      final var end = Math.min(metadata.size(), start + maxBatchSize);
+      for (var entry : metadata.subList(start, end)) {
+        transaction.addMetadata(entry);
+      }
+      plan.add(transaction);
+    }
+
+    return plan;
+  }
+
+  /**
+   * Plan and mint the tokens, blocking until every batch has a successful receipt.
+   *
+   * @param client the client to send with
+   * @param signers the supply key, unless it is the operator key
+   * @return the receipts in plan order, each carrying the serial numbers of its batch
+   * @throws ReceiptStatusException if a batch fails
+   */
+  public List<TransactionReceipt> send(
+      @NonNull final Client client, @NonNull final PrivateKey... signers) {
+    return Futures.join(sendAsync(client, signers));
+  }
+
+  /**
+   * Plan the batches and run them through the mint pipeline.
+   *
+   * @param client the client to send with
+   * @param signers the supply key, unless it is the operator key
+   * @return a future of the receipts in plan order, failing as soon as a batch fails; batches not
+   *     yet started by then are not minted
+   */
+  public CompletableFuture<List<TransactionReceipt>> sendAsync(
+      @NonNull final Client client, @NonNull final PrivateKey... signers) {
+    Objects.requireNonNull(client, "client must not be null");
+    Objects.requireNonNull(signers, "signers must not be null");
+
+    final var publicKeys = new PublicKey[signers.length];
+    for (int i = 0; i < signers.length; i++) {
+      publicKeys[i] = signers[i].getPublicKey();
+    }
+
+    return sendAsync(transaction -> mint(client, transaction, signers, publicKeys));
+  }
+
+  /**
+   * Run the planned batches through the pipeline, minting each one with {@code mint}.
+   *
+   * @param mint packs, signs and sends a batch, returning its successful receipt
+   * @return a future of the receipts in plan order
+   */
+  CompletableFuture<List<TransactionReceipt>> sendAsync(
+      final Function<TokenMintTransaction, TransactionReceipt> mint) {
+    return Futures.all(
+        maxInFlight,
+        plan(),
+        transaction -> CompletableFuture.supplyAsync(() -> mint.apply(transaction), MINTER));
+  }
+
+  private static TransactionReceipt mint(
+      final Client client,
+      final TokenMintTransaction transaction,
+      final PrivateKey[] signers,
+      final PublicKey[] publicKeys) {
+    final var transactionId = TransactionId.fromAccountId(client.getOperatorAccountId());
+    final var response =
+        PackedTransaction.sendWithFailover(
+            client,
+            null,
+            node -> {
+              final var packed = transaction.pack(client, transactionId, node).signWithOperator();
+              for (int i = 0; i < signers.length; i++) {
+                packed.signWith(signers[i], publicKeys[i]);
+              }
+              return packed;
+            });
+    final var receipt = response.queryReceipt();
+    if (receipt.status() != Status.SUCCESS) {
+      throw new ReceiptStatusException(
+          receipt.status(),
+          response.transactionId(),
+          "NFT mint batch failed with " + receipt.status());
+    }
+    return receipt;
+  }
+}
@@ -0,0 +1,167 @@
+package io.github.manishdait.sdk.token;
+
+import com.hedera.hashgraph.sdk.proto.AccountAmount;
+import com.hedera.hashgraph.sdk.proto.NftTransfer;
+import com.hedera.hashgraph.sdk.proto.TokenAirdropTransactionBody;
+import com.hedera.hashgraph.sdk.proto.TokenServiceGrpc;
+import com.hedera.hashgraph.sdk.proto.TokenTransferList;
+import com.hedera.hashgraph.sdk.proto.TransactionBody;
+import com.hedera.hashgraph.sdk.proto.TransactionResponse;
+import io.github.manishdait.sdk.Client;
+import io.github.manishdait.sdk.account.AccountId;
+import io.github.manishdait.sdk.transaction.Transaction;
+import io.grpc.MethodDescriptor;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Sends tokens to accounts whether or not they are associated with them. Receivers that are not
+ * associated and have no free automatic association slot get a pending airdrop to claim instead.
+ *
+ * <p>Fungible transfers of the same token to the same account are netted into one amount, and the
+ * amounts of each token must add up to zero when the transaction is packed.
+ */
+public class TokenAirdropTransaction extends Transaction<TokenAirdropTransaction> {
+  private final Map<TokenId, Map<AccountId, Long>> tokenTransfers = new LinkedHashMap<>();
+  private final Map<TokenId, List<NftTransfer>> nftTransfers = new LinkedHashMap<>();
+
+  public TokenAirdropTransaction() {}
+
+  public Map<TokenId, Map<AccountId, Long>> getTokenTransfers() {
+    return Collections.unmodifiableMap(tokenTransfers);
+  }
+
+  /**
+   * Add an amount of a fungible token to an account's transfer, debiting it when negative.
+   *
+   * @param tokenId the token
+   * @param accountId the account
+   * @param amount the amount in the token's smallest denomination
+   * @return this {@code TokenAirdropTransaction}
+   */
+  public TokenAirdropTransaction addTokenTransfer(
+      @NonNull final TokenId tokenId, @NonNull final AccountId accountId, final long amount) {
+    Objects.requireNonNull(tokenId, "tokenId must not be null");
+    Objects.requireNonNull(accountId, "accountId must not be null");
+
+    final var transfers = tokenTransfers.computeIfAbsent(tokenId, ignored -> new LinkedHashMap<>());
+    final var total = Math.addExact(transfers.getOrDefault(accountId, 0L), amount);
+    if (total == 0) {
+      transfers.remove(accountId);
+    } else {
+      transfers.put(accountId, total);
+    }
+    return this;
+  }
+
+  /**
+   * Send a non-fungible token from {@code sender} to {@code receiver}.
+   *
+   * @param nftId the non-fungible token
+   * @param sender the account holding the token
+   * @param receiver the account receiving the token
+   * @return this {@code TokenAirdropTransaction}
+   */
+  public TokenAirdropTransaction addNftTransfer(
+      @NonNull final NftId nftId,
+      @NonNull final AccountId sender,
+      @NonNull final AccountId receiver) {
+    Objects.requireNonNull(nftId, "nftId must not be null");
+    Objects.requireNonNull(sender, "sender must not be null");
+    Objects.requireNonNull(receiver, "receiver must not be null");
+
+    nftTransfers
+        .computeIfAbsent(nftId.tokenId(), ignored -> new ArrayList<>())
+        .add(
+            NftTransfer.newBuilder()
+                .setSenderAccountID(sender.toProto())
+                .setReceiverAccountID(receiver.toProto())
+                .setSerialNumber(nftId.serial())
+                .build());
+    return this;
+  }
+
+  public TokenAirdropTransactionBody toProto() {
+    final var lists = new LinkedHashMap<TokenId, TokenTransferList.Builder>();
+
+    for (var token : tokenTransfers.entrySet()) {
+      final var list = lists.computeIfAbsent(token.getKey(), this::newTransferList);
+      for (var transfer : token.getValue().entrySet()) {
+        list.addTransfers(
+            AccountAmount.newBuilder()
+                .setAccountID(transfer.getKey().toProto())
+                .setAmount(transfer.getValue()));
+      }
+    }
+
+    for (var token : nftTransfers.entrySet()) {
+      lists
+          .computeIfAbsent(token.getKey(), this::newTransferList)
+          .addAllNftTransfers(token.getValue());
+    }
+
+    final var builder = TokenAirdropTransactionBody.newBuilder();
+    for (var list : lists.values()) {
+      builder.addTokenTransfers(list);
+    }
+    return builder.build();
+  }
+
+  private TokenTransferList.Builder newTransferList(final TokenId tokenId) {
+    return TokenTransferList.newBuilder().setToken(tokenId.toProto());
+  }
+
+  @Override
+  public TokenAirdropTransaction fromProto(@NonNull final TransactionBody transactionBodyProto) {
+    Objects.requireNonNull(transactionBodyProto, "transactionBodyProto must not be null");
+
+    TokenAirdropTransactionBody proto = transactionBodyProto.getTokenAirdrop();
+    TokenAirdropTransaction transaction = new TokenAirdropTransaction();
+
+    for (var list : proto.getTokenTransfersList()) {
+      final var tokenId = TokenId.fromProto(list.getToken());
+      for (var transfer : list.getTransfersList()) {
+        transaction.addTokenTransfer(
+            tokenId, AccountId.fromProto(transfer.getAccountID()), transfer.getAmount());
+      }
+      for (var transfer : list.getNftTransfersList()) {
+        transaction.addNftTransfer(
+            new NftId(tokenId, transfer.getSerialNumber()),
+            AccountId.fromProto(transfer.getSenderAccountID()),
+            AccountId.fromProto(transfer.getReceiverAccountID()));
+      }
+    }
+
+    return transaction;
+  }
+
+  @Override
+  protected void buildTransaction(@NonNull final Client client) {
+    Objects.requireNonNull(client, "client must not be null");
+
+    for (var token : tokenTransfers.entrySet()) {
+      long sum = 0;
+      for (var amount : token.getValue().values()) {
+        sum = Math.addExact(sum, amount);
+      }
+
+      if (sum != 0) {
+        throw new IllegalStateException(
+            "transfers of token " + token.getKey() + " must add up to 0, but add up to " + sum);
+      }
+    }
+
+    this.transactionBodyBuilder.setTokenAirdrop(this.toProto());
+  }
+
+  @Override
+  protected MethodDescriptor<com.hedera.hashgraph.sdk.proto.Transaction, TransactionResponse>
+      getMethodDescriptor() {
+    return TokenServiceGrpc.getAirdropTokensMethod();
+  }
+}
@@ -0,0 +1,77 @@
+package io.github.manishdait.sdk.token;
+
+import com.hedera.hashgraph.sdk.proto.TokenAssociateTransactionBody;
+import com.hedera.hashgraph.sdk.proto.TokenServiceGrpc;
+import com.hedera.hashgraph.sdk.proto.TransactionBody;
+import com.hedera.hashgraph.sdk.proto.TransactionResponse;
+import io.github.manishdait.sdk.Client;
+import io.github.manishdait.sdk.account.AccountId;
+import io.github.manishdait.sdk.transaction.Transaction;
+import io.grpc.MethodDescriptor;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+
+/** Associates an account with tokens, so it can hold them. Must be signed with the account key. */
+public class TokenAssociateTransaction extends Transaction<TokenAssociateTransaction> {
+  private AccountId accountId;
+  private final List<TokenId> tokenIds = new ArrayList<>();
+
+  public TokenAssociateTransaction() {}
+
+  public AccountId getAccountId() {
+    return accountId;
+  }
+
+  public TokenAssociateTransaction withAccountId(@NonNull final AccountId accountId) {
+    Objects.requireNonNull(accountId, "accountId must not be null");
+    this.accountId = accountId;
+    return this;
+  }
+
+  public List<TokenId> getTokenIds() {
+    return Collections.unmodifiableList(tokenIds);
+  }
+
+  public TokenAssociateTransaction addTokenId(@NonNull final TokenId tokenId) {
+    Objects.requireNonNull(tokenId, "tokenId must not be null");
+    this.tokenIds.add(tokenId);
+    return this;
+  }
+
+  public TokenAssociateTransactionBody toProto() {
+    final var builder = TokenAssociateTransactionBody.newBuilder().setAccount(accountId.toProto());
+    for (var tokenId : tokenIds) {
+      builder.addTokens(tokenId.toProto());
+    }
+    return builder.build();
+  }
+
+  @Override
+  public TokenAssociateTransaction fromProto(@NonNull final TransactionBody transactionBodyProto) {
+    Objects.requireNonNull(transactionBodyProto, "transactionBodyProto must not be null");
+
+    TokenAssociateTransactionBody proto = transactionBodyProto.getTokenAssociate();
+    TokenAssociateTransaction transaction =
+        new TokenAssociateTransaction().withAccountId(AccountId.fromProto(proto.getAccount()));
+    for (var tokenId : proto.getTokensList()) {
+      transaction.addTokenId(TokenId.fromProto(tokenId));
+    }
+    return transaction;
+  }
+
+  @Override
+  protected void buildTransaction(@NonNull final Client client) {
+    Objects.requireNonNull(client, "client must not be null");
+    Objects.requireNonNull(accountId, "accountId must not be null");
+    this.transactionBodyBuilder.setTokenAssociate(this.toProto());
+  }
+
+  @Override
+  protected MethodDescriptor<com.hedera.hashgraph.sdk.proto.Transaction, TransactionResponse>
+      getMethodDescriptor() {
+    return TokenServiceGrpc.getAssociateTokensMethod();
+  }
+}
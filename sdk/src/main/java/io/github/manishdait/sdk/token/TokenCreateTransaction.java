@@ -0,0 +1,407 @@
+package io.github.manishdait.sdk.token;
+
+import com.google.protobuf.ByteString;
+import com.hedera.hashgraph.sdk.proto.Timestamp;
+import com.hedera.hashgraph.sdk.proto.TokenCreateTransactionBody;
+import com.hedera.hashgraph.sdk.proto.TokenServiceGrpc;
+import com.hedera.hashgraph.sdk.proto.TransactionBody;
+import com.hedera.hashgraph.sdk.proto.TransactionResponse;
+import io.github.manishdait.sdk.Client;
+import io.github.manishdait.sdk.Duration;
+import io.github.manishdait.sdk.account.AccountId;
+import io.github.manishdait.sdk.key.Key;
+import io.github.manishdait.sdk.key.PublicKey;
+import io.github.manishdait.sdk.transaction.Transaction;
+import io.grpc.MethodDescriptor;
+import java.time.Instant;
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Creates a fungible or non-fungible token. The treasury and auto-renew account default to the
+ * operator account when not set.
+ */
+public class TokenCreateTransaction extends Transaction<TokenCreateTransaction> {
+  private String tokenName = "";
+  private String tokenSymbol = "";
+  private int decimals;
+  private long initialSupply;
+  private AccountId treasuryAccountId;
+  private Key adminKey;
+  private Key kycKey;
+  private Key freezeKey;
+  private Key wipeKey;
+  private Key supplyKey;
+  private Key pauseKey;
+  private Key metadataKey;
+  private boolean freezeDefault;
+  private Instant expirationTime;
+  private AccountId autoRenewAccountId;
+  private Duration autoRenewPeriod = Duration.of(7_890_000L);
+  private String tokenMemo = "";
+  private TokenType tokenType = TokenType.FUNGIBLE_COMMON;
+  private TokenSupplyType supplyType = TokenSupplyType.INFINITE;
+  private long maxSupply;
+  private ByteString metadata = ByteString.EMPTY;
+
+  public TokenCreateTransaction() {}
+
+  public String getTokenName() {
+    return tokenName;
+  }
+
+  public TokenCreateTransaction withTokenName(@NonNull final String tokenName) {
+    Objects.requireNonNull(tokenName, "tokenName must not be null");
+    this.tokenName = tokenName;
+    return this;
+  }
+
+  public String getTokenSymbol() {
+    return tokenSymbol;
+  }
+
+  public TokenCreateTransaction withTokenSymbol(@NonNull final String tokenSymbol) {
+    Objects.requireNonNull(tokenSymbol, "tokenSymbol must not be null");
+    this.tokenSymbol = tokenSymbol;
+    return this;
+  }
+
+  public int getDecimals() {
+    return decimals;
+  }
+
+  public TokenCreateTransaction withDecimals(final int decimals) {
+    if (decimals < 0) {
+      throw new IllegalArgumentException("decimals must not be negative");
+    }
+    this.decimals = decimals;
+    return this;
+  }
+
+  public long getInitialSupply() {
+    return initialSupply;
+  }
+
+  public TokenCreateTransaction withInitialSupply(final long initialSupply) {
+    if (initialSupply < 0) {
+      throw new IllegalArgumentException("initialSupply must not be negative");
+    }
+    this.initialSupply = initialSupply;
+    return this;
+  }
+
+  public AccountId getTreasuryAccountId() {
+    return treasuryAccountId;
+  }
+
+  public TokenCreateTransaction withTreasuryAccountId(@NonNull final AccountId treasuryAccountId) {
+    Objects.requireNonNull(treasuryAccountId, "treasuryAccountId must not be null");
+    this.treasuryAccountId = treasuryAccountId;
+    return this;
+  }
+
+  public Key getAdminKey() {
+    return adminKey;
+  }
+
+  public TokenCreateTransaction withAdminKey(final Key adminKey) {
+    this.adminKey = adminKey;
+    return this;
+  }
+
+  public Key getKycKey() {
+    return kycKey;
+  }
+
+  public TokenCreateTransaction withKycKey(final Key kycKey) {
+    this.kycKey = kycKey;
+    return this;
+  }
+
+  public Key getFreezeKey() {
+    return freezeKey;
+  }
+
+  public TokenCreateTransaction withFreezeKey(final Key freezeKey) {
+    this.freezeKey = freezeKey;
+    return this;
+  }
+
+  public Key getWipeKey() {
+    return wipeKey;
+  }
+
+  public TokenCreateTransaction withWipeKey(final Key wipeKey) {
+    this.wipeKey = wipeKey;
+    return this;
+  }
+
+  public Key getSupplyKey() {
+    return supplyKey;
+  }
+
+  /**
+   * Set the key that signs mints and burns. A non-fungible token cannot be minted without one.
+   *
+   * @param supplyKey the supply key
+   * @return this {@code TokenCreateTransaction}
+   */
+  public TokenCreateTransaction withSupplyKey(final Key supplyKey) {
+    this.supplyKey = supplyKey;
+    return this;
+  }
+
+  public Key getPauseKey() {
+    return pauseKey;
+  }
+
+  public TokenCreateTransaction withPauseKey(final Key pauseKey) {
+    this.pauseKey = pauseKey;
+    return this;
+  }
+
+  public Key getMetadataKey() {
+    return metadataKey;
+  }
+
+  public TokenCreateTransaction withMetadataKey(final Key metadataKey) {
+    this.metadataKey = metadataKey;
+    return this;
+  }
+
+  public boolean getFreezeDefault() {
+    return freezeDefault;
+  }
+
+  public TokenCreateTransaction withFreezeDefault(final boolean freezeDefault) {
+    this.freezeDefault = freezeDefault;
+    return this;
+  }
+
+  public Instant getExpirationTime() {
+    return expirationTime;
+  }
+
+  public TokenCreateTransaction withExpirationTime(final Instant expirationTime) {
+    this.expirationTime = expirationTime;
+    return this;
+  }
+
+  public AccountId getAutoRenewAccountId() {
+    return autoRenewAccountId;
+  }
+
+  public TokenCreateTransaction withAutoRenewAccountId(
+      @NonNull final AccountId autoRenewAccountId) {
+    Objects.requireNonNull(autoRenewAccountId, "autoRenewAccountId must not be null");
+    this.autoRenewAccountId = autoRenewAccountId;
+    return this;
+  }
+
+  public Duration getAutoRenewPeriod() {
+    return autoRenewPeriod;
+  }
+
+  public TokenCreateTransaction withAutoRenewPeriod(@NonNull final Duration autoRenewPeriod) {
+    Objects.requireNonNull(autoRenewPeriod, "autoRenewPeriod must not be null");
+    this.autoRenewPeriod = autoRenewPeriod;
+    return this;
+  }
+
+  public TokenCreateTransaction withAutoRenewPeriod(final long autoRenewPeriod) {
+    return withAutoRenewPeriod(Duration.of(autoRenewPeriod));
+  }
+
+  public String getTokenMemo() {
+    return tokenMemo;
+  }
+
+  public TokenCreateTransaction withTokenMemo(@NonNull final String tokenMemo) {
+    Objects.requireNonNull(tokenMemo, "tokenMemo must not be null");
+    this.tokenMemo = tokenMemo;
+    return this;
+  }
+
+  public TokenType getTokenType() {
+    return tokenType;
+  }
+
+  public TokenCreateTransaction withTokenType(@NonNull final TokenType tokenType) {
+    Objects.requireNonNull(tokenType, "tokenType must not be null");
+    this.tokenType = tokenType;
+    return this;
+  }
+
+  public TokenSupplyType getSupplyType() {
+    return supplyType;
+  }
+
+  public TokenCreateTransaction withSupplyType(@NonNull final TokenSupplyType supplyType) {
+    Objects.requireNonNull(supplyType, "supplyType must not be null");
+    this.supplyType = supplyType;
+    return this;
+  }
+
+  public long getMaxSupply() {
+    return maxSupply;
+  }
+
+  /**
+   * Set the maximum supply of a {@link TokenSupplyType#FINITE} token.
+   *
+   * @param maxSupply the maximum supply
+   * @return this {@code TokenCreateTransaction}
+   */
+  public TokenCreateTransaction withMaxSupply(final long maxSupply) {
+    if (maxSupply < 0) {
+      throw new IllegalArgumentException("maxSupply must not be negative");
+    }
+    this.maxSupply = maxSupply;
+    return this;
+  }
+
+  public ByteString getMetadata() {
+    return metadata;
+  }
+
+  public TokenCreateTransaction withMetadata(@NonNull final byte[] metadata) {
+    Objects.requireNonNull(metadata, "metadata must not be null");
+    return withMetadata(ByteString.copyFrom(metadata));
+  }
+
+  public TokenCreateTransaction withMetadata(@NonNull final ByteString metadata) {
+    Objects.requireNonNull(metadata, "metadata must not be null");
+    this.metadata = metadata;
+    return this;
+  }
+
+  public TokenCreateTransactionBody toProto() {
+    final var builder =
+        TokenCreateTransactionBody.newBuilder()
+            .setName(tokenName)
+            .setSymbol(tokenSymbol)
+            .setDecimals(decimals)
+            .setInitialSupply(initialSupply)
+            .setFreezeDefault(freezeDefault)
+            .setAutoRenewPeriod(autoRenewPeriod.toProto())
+            .setMemo(tokenMemo)
+            .setTokenType(tokenType.toProto())
+            .setSupplyType(supplyType.toProto())
+            .setMaxSupply(maxSupply)
+            .setMetadata(metadata);
+
+    if (treasuryAccountId != null) {
+      builder.setTreasury(treasuryAccountId.toProto());
+    }
+    if (autoRenewAccountId != null) {
+      builder.setAutoRenewAccount(autoRenewAccountId.toProto());
+    }
+    if (expirationTime != null) {
+      builder.setExpiry(
+          Timestamp.newBuilder()
+              .setSeconds(expirationTime.getEpochSecond())
+              .setNanos(expirationTime.getNano()));
+    }
+
+    if (adminKey != null) {
+      builder.setAdminKey(adminKey.toProto());
+    }
+    if (kycKey != null) {
+      builder.setKycKey(kycKey.toProto());
+    }
+    if (freezeKey != null) {
+      builder.setFreezeKey(freezeKey.toProto());
+    }
+    if (wipeKey != null) {
+      builder.setWipeKey(wipeKey.toProto());
+    }
+    if (supplyKey != null) {
+      builder.setSupplyKey(supplyKey.toProto());
+    }
+    if (pauseKey != null) {
+      builder.setPauseKey(pauseKey.toProto());
+    }
+    if (metadataKey != null) {
+      builder.setMetadataKey(metadataKey.toProto());
+    }
+
+    return builder.build();
+  }
+
+  @Override
+  public TokenCreateTransaction fromProto(@NonNull final TransactionBody transactionBodyProto) {
+    Objects.requireNonNull(transactionBodyProto, "transactionBodyProto must not be null");
+
+    TokenCreateTransactionBody proto = transactionBodyProto.getTokenCreation();
+    TokenCreateTransaction transaction =
+        new TokenCreateTransaction()
+            .withTokenName(proto.getName())
+            .withTokenSymbol(proto.getSymbol())
+            .withDecimals(proto.getDecimals())
+            .withInitialSupply(proto.getInitialSupply())
+            .withFreezeDefault(proto.getFreezeDefault())
+            .withAutoRenewPeriod(Duration.fromProto(proto.getAutoRenewPeriod()))
+            .withTokenMemo(proto.getMemo())
+            .withTokenType(TokenType.fromProto(proto.getTokenType()))
+            .withSupplyType(TokenSupplyType.fromProto(proto.getSupplyType()))
+            .withMaxSupply(proto.getMaxSupply())
+            .withMetadata(proto.getMetadata());
+
+    if (proto.hasTreasury()) {
+      transaction.withTreasuryAccountId(AccountId.fromProto(proto.getTreasury()));
+    }
+    if (proto.hasAutoRenewAccount()) {
+      transaction.withAutoRenewAccountId(AccountId.fromProto(proto.getAutoRenewAccount()));
+    }
+    if (proto.hasExpiry()) {
+      transaction.withExpirationTime(
+          Instant.ofEpochSecond(proto.getExpiry().getSeconds(), proto.getExpiry().getNanos()));
+    }
+
+    if (proto.hasAdminKey()) {
+      transaction.withAdminKey(PublicKey.fromProto(proto.getAdminKey()));
+    }
+    if (proto.hasKycKey()) {
+      transaction.withKycKey(PublicKey.fromProto(proto.getKycKey()));
+    }
+    if (proto.hasFreezeKey()) {
+      transaction.withFreezeKey(PublicKey.fromProto(proto.getFreezeKey()));
+    }
+    if (proto.hasWipeKey()) {
+      transaction.withWipeKey(PublicKey.fromProto(proto.getWipeKey()));
+    }
+    if (proto.hasSupplyKey()) {
+      transaction.withSupplyKey(PublicKey.fromProto(proto.getSupplyKey()));
+    }
+    if (proto.hasPauseKey()) {
+      transaction.withPauseKey(PublicKey.fromProto(proto.getPauseKey()));
+    }
+    if (proto.hasMetadataKey()) {
+      transaction.withMetadataKey(PublicKey.fromProto(proto.getMetadataKey()));
+    }
+
+    return transaction;
+  }
+
+  @Override
+  protected void buildTransaction(@NonNull final Client client) {
+    Objects.requireNonNull(client, "client must not be null");
+
+    final var body = this.toProto().toBuilder();
+    final var operator = client.getOperatorAccountId().toProto();
+    if (treasuryAccountId == null) {
+      body.setTreasury(operator);
+    }
+    if (autoRenewAccountId == null && expirationTime == null) {
+      body.setAutoRenewAccount(operator);
+    }
+
+    this.transactionBodyBuilder.setTokenCreation(body);
+  }
+
+  @Override
+  protected MethodDescriptor<com.hedera.hashgraph.sdk.proto.Transaction, TransactionResponse>
+      getMethodDescriptor() {
+    return TokenServiceGrpc.getCreateTokenMethod();
+  }
+}
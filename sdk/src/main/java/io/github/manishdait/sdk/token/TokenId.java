@@ -0,0 +1,43 @@
+package io.github.manishdait.sdk.token;
+
+import com.hedera.hashgraph.sdk.proto.TokenID;
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+
+public record TokenId(long shard, long realm, long num) {
+  public TokenId {
+    if (shard < 0) {
+      throw new RuntimeException("shard must be non-negative number.");
+    }
+
+    if (realm < 0) {
+      throw new RuntimeException("realm must be non-negative number.");
+    }
+  }
+
+  public static TokenId fromString(@NonNull final String tokenId) {
+    Objects.requireNonNull(tokenId, "tokenId must not be null.");
+    String[] parts = tokenId.split("\\.");
+
+    return new TokenId(
+        Long.parseLong(parts[0]), Long.parseLong(parts[1]), Long.parseLong(parts[2]));
+  }
+
+  public static TokenId fromProto(@NonNull final TokenID proto) {
+    Objects.requireNonNull(proto, "proto must not be null.");
+    return new TokenId(proto.getShardNum(), proto.getRealmNum(), proto.getTokenNum());
+  }
+
+  public TokenID toProto() {
+    return TokenID.newBuilder()
+        .setShardNum(this.shard)
+        .setRealmNum(this.realm)
+        .setTokenNum(this.num)
+        .build();
+  }
+
+  @Override
+  public String toString() {
+    return "%d.%d.%d".formatted(shard, realm, num);
+  }
+}
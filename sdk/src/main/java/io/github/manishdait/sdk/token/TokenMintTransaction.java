@@ -0,0 +1,116 @@
+package io.github.manishdait.sdk.token;
+
+import com.google.protobuf.ByteString;
+import com.hedera.hashgraph.sdk.proto.TokenMintTransactionBody;
+import com.hedera.hashgraph.sdk.proto.TokenServiceGrpc;
+import com.hedera.hashgraph.sdk.proto.TransactionBody;
+import com.hedera.hashgraph.sdk.proto.TransactionResponse;
+import io.github.manishdait.sdk.Client;
+import io.github.manishdait.sdk.transaction.Transaction;
+import io.grpc.MethodDescriptor;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Mints an amount of a fungible token, or one non-fungible token per metadata entry. Minting must
+ * be signed with the token's supply key. Use {@link NftMintPlanner} to mint more non-fungible
+ * tokens than fit in one transaction.
+ */
+public class TokenMintTransaction extends Transaction<TokenMintTransaction> {
+  private TokenId tokenId;
+  private long amount;
+  private final List<ByteString> metadata = new ArrayList<>();
+
+  public TokenMintTransaction() {}
+
+  public TokenId getTokenId() {
+    return tokenId;
+  }
+
+  public TokenMintTransaction withTokenId(@NonNull final TokenId tokenId) {
+    Objects.requireNonNull(tokenId, "tokenId must not be null");
+    this.tokenId = tokenId;
+    return this;
+  }
+
+  public long getAmount() {
+    return amount;
+  }
+
+  /**
+   * Set the amount of a fungible token to mint, in its smallest denomination.
+   *
+   * @param amount the amount
+   * @return this {@code TokenMintTransaction}
+   */
+  public TokenMintTransaction withAmount(final long amount) {
+    if (amount < 0) {
+      throw new IllegalArgumentException("amount must not be negative");
+    }
+    this.amount = amount;
+    return this;
+  }
+
+  public List<ByteString> getMetadata() {
+    return Collections.unmodifiableList(metadata);
+  }
+
+  public TokenMintTransaction addMetadata(@NonNull final byte[] metadata) {
+    Objects.requireNonNull(metadata, "metadata must not be null");
+    return addMetadata(ByteString.copyFrom(metadata));
+  }
+
+  /**
+   * Add the metadata of one non-fungible token to mint.
+   *
+   * @param metadata the metadata
+   * @return this {@code TokenMintTransaction}
+   */
+  public TokenMintTransaction addMetadata(@NonNull final ByteString metadata) {
+    Objects.requireNonNull(metadata, "metadata must not be null");
+    this.metadata.add(metadata);
+    return this;
+  }
+
+  public TokenMintTransactionBody toProto() {
+    return TokenMintTransactionBody.newBuilder()
+        .setToken(tokenId.toProto())
+        .setAmount(amount)
+        .addAllMetadata(metadata)
+        .build();
+  }
+
+  @Override
+  public TokenMintTransaction fromProto(@NonNull final TransactionBody transactionBodyProto) {
+    Objects.requireNonNull(transactionBodyProto, "transactionBodyProto must not be null");
+
+    TokenMintTransactionBody proto = transactionBodyProto.getTokenMint();
+    TokenMintTransaction transaction =
+        new TokenMintTransaction()
+            .withTokenId(TokenId.fromProto(proto.getToken()))
+            .withAmount(proto.getAmount());
+    transaction.metadata.addAll(proto.getMetadataList());
+    return transaction;
+  }
+
+  @Override
+  protected void buildTransaction(@NonNull final Client client) {
+    Objects.requireNonNull(client, "client must not be null");
+    Objects.requireNonNull(tokenId, "tokenId must not be null");
+
+    if (amount != 0 && !metadata.isEmpty()) {
+      throw new IllegalStateException("a mint must set either an amount or metadata, not both");
+    }
+
+    this.transactionBodyBuilder.setTokenMint(this.toProto());
+  }
+
+  @Override
+  protected MethodDescriptor<com.hedera.hashgraph.sdk.proto.Transaction, TransactionResponse>
+      getMethodDescriptor() {
+    return TokenServiceGrpc.getMintTokenMethod();
+  }
+}
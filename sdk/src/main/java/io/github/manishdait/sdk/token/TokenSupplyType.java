@@ -0,0 +1,16 @@
+package io.github.manishdait.sdk.token;
+
+/** Enum representing TokenSupplyType. */
+public enum TokenSupplyType {
+  INFINITE,
+  FINITE;
+
+  public com.hedera.hashgraph.sdk.proto.TokenSupplyType toProto() {
+    return com.hedera.hashgraph.sdk.proto.TokenSupplyType.valueOf(name());
+  }
+
+  public static TokenSupplyType fromProto(
+      final com.hedera.hashgraph.sdk.proto.TokenSupplyType proto) {
+    return valueOf(proto.name());
+  }
+}
@@ -0,0 +1,15 @@
+package io.github.manishdait.sdk.token;
+
+/** Enum representing TokenType. */
+public enum TokenType {
+  FUNGIBLE_COMMON,
+  NON_FUNGIBLE_UNIQUE;
+
+  public com.hedera.hashgraph.sdk.proto.TokenType toProto() {
+    return com.hedera.hashgraph.sdk.proto.TokenType.valueOf(name());
+  }
+
+  public static TokenType fromProto(final com.hedera.hashgraph.sdk.proto.TokenType proto) {
+    return valueOf(proto.name());
+  }
+}
@@ -0,0 +1,43 @@
+package io.github.manishdait.sdk.topic;
+
+import com.hedera.hashgraph.sdk.proto.TopicID;
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+
+public record TopicId(long shard, long realm, long num) {
+  public TopicId {
+    if (shard < 0) {
+      throw new RuntimeException("shard must be non-negative number.");
+    }
+
+    if (realm < 0) {
+      throw new RuntimeException("realm must be non-negative number.");
+    }
+  }
+
+  public static TopicId fromString(@NonNull final String topicId) {
+    Objects.requireNonNull(topicId, "topicId must not be null.");
+    String[] parts = topicId.split("\\.");
+
+    return new TopicId(
+        Long.parseLong(parts[0]), Long.parseLong(parts[1]), Long.parseLong(parts[2]));
+  }
+
+  public static TopicId fromProto(@NonNull final TopicID proto) {
+    Objects.requireNonNull(proto, "proto must not be null.");
+    return new TopicId(proto.getShardNum(), proto.getRealmNum(), proto.getTopicNum());
+  }
+
+  public TopicID toProto() {
+    return TopicID.newBuilder()
+        .setShardNum(this.shard)
+        .setRealmNum(this.realm)
+        .setTopicNum(this.num)
+        .build();
+  }
+
+  @Override
+  public String toString() {
+    return "%d.%d.%d".formatted(shard, realm, num);
+  }
+}
@@ -0,0 +1,29 @@
+package io.github.manishdait.sdk.topic;
+
+import com.google.protobuf.ByteString;
+import io.github.manishdait.sdk.transaction.TransactionId;
+import java.time.Instant;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A message received from a topic subscription.
+ *
+ * <p>For a message submitted in several chunks, the consensus timestamp, running hash and sequence
+ * number are those of the last chunk, and {@code contents} is a view over the chunk payloads in
+ * order rather than a copy of them.
+ *
+ * @param consensusTimestamp the consensus timestamp of the (last chunk of the) message
+ * @param contents the message payload
+ * @param runningHash the running hash of the topic after the message
+ * @param sequenceNumber the sequence number of the (last chunk of the) message
+ * @param chunks the number of chunks the message was submitted in
+ * @param transactionId the id of the transaction that submitted the first chunk, or {@code null}
+ *     when the mirror node did not report chunk information
+ */
+public record TopicMessage(
+    Instant consensusTimestamp,
+    ByteString contents,
+    ByteString runningHash,
+    long sequenceNumber,
+    int chunks,
+    @Nullable TransactionId transactionId) {}
@@ -0,0 +1,171 @@
+package io.github.manishdait.sdk.topic;
+
+import io.github.manishdait.sdk.Client;
+import io.github.manishdait.sdk.internal.Config;
+import io.grpc.Channel;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.concurrent.Flow;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Subscribes to the messages of a topic from the mirror node.
+ *
+ * <p>Messages are published through a {@link Flow.Publisher}: the mirror node stream is only read
+ * as fast as the subscriber requests messages, so a slow subscriber holds the stream back instead
+ * of buffering it. If the stream is interrupted, the subscription resumes right after the last
+ * message received, up to {@link #getMaxAttempts()} consecutive times. Messages submitted in
+ * several chunks are delivered once, after their last chunk arrives.
+ */
+public class TopicMessageQuery {
+  private TopicId topicId;
+  private Instant startTime;
+  private Instant endTime;
+  private long limit = 0;
+  private int maxAttempts = Config.DEFAULT_TOPIC_MAX_ATTEMPTS;
+  private Duration minBackoff = Config.DEFAULT_MIN_BACKOFF;
+  private Duration maxBackoff = Config.DEFAULT_MAX_BACKOFF;
+
+  public TopicId getTopicId() {
+    return topicId;
+  }
+
+  public TopicMessageQuery withTopicId(@NonNull final TopicId topicId) {
+    Objects.requireNonNull(topicId, "topicId must not be null");
+    this.topicId = topicId;
+    return this;
+  }
+
+  public @Nullable Instant getStartTime() {
+    return startTime;
+  }
+
+  /**
+   * Set the consensus timestamp of the first message to receive.
+   *
+   * @param startTime the inclusive start, or {@code null} to let the mirror node decide
+   * @return this {@code TopicMessageQuery}
+   */
+  public TopicMessageQuery withStartTime(@Nullable final Instant startTime) {
+    this.startTime = startTime;
+    return this;
+  }
+
+  public @Nullable Instant getEndTime() {
+    return endTime;
+  }
+
+  /**
+   * Set the consensus timestamp at which the subscription completes.
+   *
+   * @param endTime the exclusive end, or {@code null} to keep streaming new messages
+   * @return this {@code TopicMessageQuery}
+   */
+  public TopicMessageQuery withEndTime(@Nullable final Instant endTime) {
+    this.endTime = endTime;
+    return this;
+  }
+
+  public long getLimit() {
+    return limit;
+  }
+
+  /**
+   * Set the maximum number of messages to receive, counting each chunk of a chunked message.
+   *
+   * @param limit the maximum number of messages, or {@code 0} for no limit
+   * @return this {@code TopicMessageQuery}
+   */
+  public TopicMessageQuery withLimit(final long limit) {
+    if (limit < 0) {
+      throw new IllegalArgumentException("limit must not be negative");
+    }
+    this.limit = limit;
+    return this;
+  }
+
+  public int getMaxAttempts() {
+    return maxAttempts;
+  }
+
+  /**
+   * Set how many times in a row the stream is reopened after a retryable failure before the
+   * subscriber is failed. The count resets whenever a message arrives.
+   *
+   * @param maxAttempts the maximum number of consecutive attempts
+   * @return this {@code TopicMessageQuery}
+   */
+  public TopicMessageQuery withMaxAttempts(final int maxAttempts) {
+    if (maxAttempts <= 0) {
+      throw new IllegalArgumentException("maxAttempts must be greater than 0");
+    }
+    this.maxAttempts = maxAttempts;
+    return this;
+  }
+
+  public Duration getMinBackoff() {
+    return minBackoff;
+  }
+
+  public TopicMessageQuery withMinBackoff(@NonNull final Duration minBackoff) {
+    Objects.requireNonNull(minBackoff, "minBackoff must not be null");
+    if (minBackoff.isNegative() || minBackoff.compareTo(maxBackoff) > 0) {
+      throw new IllegalArgumentException("minBackoff must be between 0 and maxBackoff");
+    }
+    this.minBackoff = minBackoff;
+    return this;
+  }
+
+  public Duration getMaxBackoff() {
+    return maxBackoff;
+  }
+
+  public TopicMessageQuery withMaxBackoff(@NonNull final Duration maxBackoff) {
+    Objects.requireNonNull(maxBackoff, "maxBackoff must not be null");
+    if (maxBackoff.compareTo(minBackoff) < 0) {
+      throw new IllegalArgumentException("maxBackoff must not be less than minBackoff");
+    }
+    this.maxBackoff = maxBackoff;
+    return this;
+  }
+
+  /**
+   * Create a publisher of the topic's messages served by the client's mirror node.
+   *
+   * <p>Every subscriber gets its own stream, opened when it subscribes and closed when it cancels.
+   * Signals are delivered on the gRPC callback threads and must not block. Changing this query
+   * afterwards does not affect the returned publisher.
+   *
+   * @param client the client whose mirror node serves the topic
+   * @return a {@code Flow.Publisher} of {@code TopicMessage}s
+   */
+  public Flow.Publisher<TopicMessage> subscribe(@NonNull final Client client) {
+    Objects.requireNonNull(client, "client must not be null");
+    return subscribe(client.getMirrorChannel());
+  }
+
+  Flow.Publisher<TopicMessage> subscribe(@NonNull final Channel channel) {
+    Objects.requireNonNull(channel, "channel must not be null");
+    Objects.requireNonNull(topicId, "topicId must not be null");
+
+    final var query = copy();
+    return subscriber -> {
+      Objects.requireNonNull(subscriber, "subscriber must not be null");
+      new TopicSubscription(channel, query, subscriber).start();
+    };
+  }
+
+  private TopicMessageQuery copy() {
+    final var copy = new TopicMessageQuery();
+    copy.topicId = topicId;
+    copy.startTime = startTime;
+    copy.endTime = endTime;
+    copy.limit = limit;
+    copy.maxAttempts = maxAttempts;
+    copy.minBackoff = minBackoff;
+    copy.maxBackoff = maxBackoff;
+    return copy;
+  }
+}
@@ -0,0 +1,305 @@
+package io.github.manishdait.sdk.topic;
+
+import com.google.protobuf.ByteString;
+import com.hedera.hashgraph.sdk.proto.ConsensusMessageChunkInfo;
+import com.hedera.hashgraph.sdk.proto.ConsensusServiceGrpc;
+import com.hedera.hashgraph.sdk.proto.ConsensusSubmitMessageTransactionBody;
+import com.hedera.hashgraph.sdk.proto.TransactionBody;
+import com.hedera.hashgraph.sdk.proto.TransactionID;
+import com.hedera.hashgraph.sdk.proto.TransactionResponse;
+import io.github.manishdait.sdk.Client;
+import io.github.manishdait.sdk.internal.Config;
+import io.github.manishdait.sdk.internal.Futures;
+import io.github.manishdait.sdk.network.Node;
+import io.github.manishdait.sdk.transaction.PackedTransaction;
+import io.github.manishdait.sdk.transaction.Transaction;
+import io.github.manishdait.sdk.transaction.TransactionId;
+import io.grpc.MethodDescriptor;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Submits a message to a topic, splitting it into chunks of {@link #getChunkSize()} bytes.
+ *
+ * <p>Every chunk is its own transaction carrying a {@link ConsensusMessageChunkInfo} that points at
+ * the transaction of the first chunk, so mirror nodes and {@link TopicMessageQuery} can put the
+ * message back together. Chunks are views over the message, not copies. {@link #send(Client)} keeps
+ * up to {@link #getMaxInFlight()} chunks in flight at once instead of waiting for each one in turn,
+ * and packs and signs each chunk only when it is about to be sent, so the transactions of the last
+ * chunks do not age while the first ones are submitted. A chunk whose node does not take it is
+ * packed again for another node.
+ *
+ * <p>Packing is serialized on the instance, so one instance may be packed or sent from several
+ * threads at once; every send submits the message again under new transaction ids.
+ */
+public class TopicMessageSubmitTransaction extends Transaction<TopicMessageSubmitTransaction> {
+  private TopicId topicId;
+  private ByteString message = ByteString.EMPTY;
+  private int chunkSize = Config.DEFAULT_TOPIC_CHUNK_SIZE;
+  private int maxChunks = Config.DEFAULT_TOPIC_MAX_CHUNKS;
+  private int maxInFlight = Config.DEFAULT_MAX_IN_FLIGHT_TRANSACTIONS;
+
+  private int chunk = 0;
+  private TransactionID initialTransactionId;
+
+  public TopicMessageSubmitTransaction() {}
+
+  public TopicId getTopicId() {
+    return topicId;
+  }
+
+  public TopicMessageSubmitTransaction withTopicId(@NonNull final TopicId topicId) {
+    Objects.requireNonNull(topicId, "topicId must not be null");
+    this.topicId = topicId;
+    return this;
+  }
+
+  public ByteString getMessage() {
+    return message;
+  }
+
+  public TopicMessageSubmitTransaction withMessage(@NonNull final byte[] message) {
+    Objects.requireNonNull(message, "message must not be null");
+    this.message = ByteString.copyFrom(message);
+    return this;
+  }
+
+  public TopicMessageSubmitTransaction withMessage(@NonNull final String message) {
+    Objects.requireNonNull(message, "message must not be null");
+    this.message = ByteString.copyFrom(message, StandardCharsets.UTF_8);
+    return this;
+  }
+
+  public TopicMessageSubmitTransaction withMessage(@NonNull final ByteString message) {
+    Objects.requireNonNull(message, "message must not be null");
+    this.message = message;
+    return this;
+  }
+
+  public int getChunkSize() {
+    return chunkSize;
+  }
+
+  public TopicMessageSubmitTransaction withChunkSize(final int chunkSize) {
+    if (chunkSize <= 0) {
+      throw new IllegalArgumentException("chunkSize must be greater than 0");
+    }
+    this.chunkSize = chunkSize;
+    return this;
+  }
+
+  public int getMaxChunks() {
+    return maxChunks;
+  }
+
+  /**
+   * Set the maximum number of chunks a message may be split into, as a guard against submitting an
+   * unexpectedly large message.
+   *
+   * @param maxChunks the maximum number of chunks
+   * @return this {@code TopicMessageSubmitTransaction}
+   */
+  public TopicMessageSubmitTransaction withMaxChunks(final int maxChunks) {
+    if (maxChunks <= 0) {
+      throw new IllegalArgumentException("maxChunks must be greater than 0");
+    }
+    this.maxChunks = maxChunks;
+    return this;
+  }
+
+  public int getMaxInFlight() {
+    return maxInFlight;
+  }
+
+  /**
+   * Set how many chunks {@link #send(Client)} submits before waiting for a response.
+   *
+   * @param maxInFlight the maximum number of chunks in flight
+   * @return this {@code TopicMessageSubmitTransaction}
+   */
+  public TopicMessageSubmitTransaction withMaxInFlight(final int maxInFlight) {
+    if (maxInFlight <= 0) {
+      throw new IllegalArgumentException("maxInFlight must be greater than 0");
+    }
+    this.maxInFlight = maxInFlight;
+    return this;
+  }
+
+  public int getChunkCount() {
+    return Math.max(1, (message.size() + chunkSize - 1) / chunkSize);
+  }
+
+  public ConsensusSubmitMessageTransactionBody toProto() {
+    final var start = chunk * chunkSize;
+    final var end = Math.min(start + chunkSize, message.size());
+
+    final var builder =
+        ConsensusSubmitMessageTransactionBody.newBuilder()
+            .setTopicID(topicId.toProto())
+            .setMessage(message.substring(start, end));
+
+    if (initialTransactionId != null) {
+      builder.setChunkInfo(
+          ConsensusMessageChunkInfo.newBuilder()
+              .setInitialTransactionID(initialTransactionId)
+              .setNumber(chunk + 1)
+              .setTotal(getChunkCount())
+              .build());
+    }
+
+    return builder.build();
+  }
+
+  @Override
+  public TopicMessageSubmitTransaction fromProto(
+      @NonNull final TransactionBody transactionBodyProto) {
+    Objects.requireNonNull(transactionBodyProto, "transactionBodyProto must not be null");
+
+    ConsensusSubmitMessageTransactionBody proto = transactionBodyProto.getConsensusSubmitMessage();
+    return new TopicMessageSubmitTransaction()
+        .withTopicId(TopicId.fromProto(proto.getTopicID()))
+        .withMessage(proto.getMessage());
+  }
+
+  /**
+   * Pack a message that fits in a single chunk.
+   *
+   * @param client the client the transaction is sent with
+   * @param transactionId the id of the transaction
+   * @param node the node to submit to
+   * @return the {@code PackedTransaction}
+   * @throws IllegalStateException if the message needs more than one chunk
+   */
+  @Override
+  public PackedTransaction<TopicMessageSubmitTransaction> pack(
+      @NonNull final Client client,
+      @NonNull final TransactionId transactionId,
+      @NonNull final Node node) {
+    if (getChunkCount() > 1) {
+      throw new IllegalStateException(
+          "message needs " + getChunkCount() + " chunks, use packChunks or send instead");
+    }
+    return packChunk(client, 0, transactionId, transactionId, node);
+  }
+
+  /**
+   * Pack one transaction per chunk and sign them all with the operator key in parallel.
+   *
+   * @param client the client the transactions are sent with
+   * @return the chunk transactions, first chunk first
+   * @throws IllegalStateException if the message needs more than {@link #getMaxChunks()} chunks
+   */
+  public List<PackedTransaction<TopicMessageSubmitTransaction>> packChunks(
+      @NonNull final Client client) {
+    Objects.requireNonNull(client, "client must not be null");
+
+    final var total = checkChunkCount();
+    final var node = this.node != null ? this.node : client.getNode();
+    final var initialTransactionId = TransactionId.fromAccountId(client.getOperatorAccountId());
+
+    final var chunks = new ArrayList<PackedTransaction<TopicMessageSubmitTransaction>>(total);
+    for (int i = 0; i < total; i++) {
+      final var transactionId =
+          i == 0
+              ? initialTransactionId
+              : TransactionId.fromAccountId(client.getOperatorAccountId());
+      chunks.add(packChunk(client, i, initialTransactionId, transactionId, node));
+    }
+
+    PackedTransaction.signAllWithOperator(chunks);
+    return chunks;
+  }
+
+  /**
+   * Pack one chunk of the message. The chunk fields are only set for the duration of the call,
+   * which holds the instance lock like every other pack.
+   */
+  private synchronized PackedTransaction<TopicMessageSubmitTransaction> packChunk(
+      final Client client,
+      final int chunk,
+      final TransactionId initialTransactionId,
+      final TransactionId transactionId,
+      final Node node) {
+    this.chunk = chunk;
+    this.initialTransactionId = initialTransactionId.toProto();
+    try {
+      return super.pack(client, transactionId, node);
+    } finally {
+      this.chunk = 0;
+      this.initialTransactionId = null;
+    }
+  }
+
+  private int checkChunkCount() {
+    Objects.requireNonNull(topicId, "topicId must not be null");
+
+    final var total = getChunkCount();
+    if (total > maxChunks) {
+      throw new IllegalStateException(
+          "message needs " + total + " chunks, more than maxChunks " + maxChunks);
+    }
+    return total;
+  }
+
+  /**
+   * Submit every chunk, blocking until the nodes have answered all of them. Receipts are not
+   * awaited.
+   *
+   * @param client the client to send with
+   * @return the responses, first chunk first
+   */
+  public List<io.github.manishdait.sdk.transaction.TransactionResponse> send(
+      @NonNull final Client client) {
+    return Futures.join(sendAsync(client));
+  }
+
+  /**
+   * Submit every chunk with up to {@link #getMaxInFlight()} chunks in flight at once, packing and
+   * signing each chunk when its turn comes.
+   *
+   * @param client the client to send with
+   * @return a future of the responses, first chunk first, failing as soon as a chunk fails; chunks
+   *     not yet submitted by then are not sent
+   */
+  public CompletableFuture<List<io.github.manishdait.sdk.transaction.TransactionResponse>>
+      sendAsync(@NonNull final Client client) {
+    Objects.requireNonNull(client, "client must not be null");
+
+    final var total = checkChunkCount();
+    final var initialTransactionId = TransactionId.fromAccountId(client.getOperatorAccountId());
+
+    return Futures.all(
+        maxInFlight,
+        IntStream.range(0, total).boxed().toList(),
+        chunk -> {
+          final var transactionId =
+              chunk == 0
+                  ? initialTransactionId
+                  : TransactionId.fromAccountId(client.getOperatorAccountId());
+          return PackedTransaction.sendWithFailoverAsync(
+              client,
+              this.node,
+              node ->
+                  packChunk(client, chunk, initialTransactionId, transactionId, node)
+                      .signWithOperator());
+        });
+  }
+
+  @Override
+  protected void buildTransaction(@NonNull final Client client) {
+    Objects.requireNonNull(client, "client must not be null");
+
+    this.transactionBodyBuilder.setConsensusSubmitMessage(this.toProto());
+  }
+
+  @Override
+  protected MethodDescriptor<com.hedera.hashgraph.sdk.proto.Transaction, TransactionResponse>
+      getMethodDescriptor() {
+    return ConsensusServiceGrpc.getSubmitMessageMethod();
+  }
+}
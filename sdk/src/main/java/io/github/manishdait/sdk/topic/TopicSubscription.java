@@ -0,0 +1,378 @@
+package io.github.manishdait.sdk.topic;
+
+import com.google.protobuf.ByteString;
+import com.hedera.hashgraph.sdk.proto.Timestamp;
+import com.hedera.hashgraph.sdk.proto.TransactionID;
+import com.hedera.hashgraph.sdk.proto.mirror.ConsensusServiceGrpc;
+import com.hedera.hashgraph.sdk.proto.mirror.ConsensusTopicQuery;
+import com.hedera.hashgraph.sdk.proto.mirror.ConsensusTopicResponse;
+import io.github.manishdait.sdk.internal.Config;
+import io.github.manishdait.sdk.transaction.TransactionId;
+import io.grpc.Channel;
+import io.grpc.Status;
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.ClientResponseObserver;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One subscriber's stream of a {@link TopicMessageQuery}.
+ *
+ * <p>Subscriber demand is translated into gRPC flow control: at most {@link
+ * Config#DEFAULT_TOPIC_REQUEST_BATCH} responses are requested ahead, and none once the subscriber
+ * stops requesting. Partially received chunked messages are kept across reconnects, which resume
+ * right after the last response received, so no chunk is fetched twice.
+ *
+ * <p>A chunked message whose chunks do not all arrive within {@link
+ * Config#DEFAULT_TOPIC_CHUNK_WINDOW} of consensus time of its first received chunk is dropped, as
+ * are the oldest incomplete messages beyond {@link Config#DEFAULT_TOPIC_MAX_PENDING_MESSAGES}. This
+ * covers messages whose first chunks precede the start time, which can never complete.
+ */
+final class TopicSubscription implements Flow.Subscription {
+  private final Channel channel;
+  private final TopicMessageQuery query;
+  private final Flow.Subscriber<? super TopicMessage> subscriber;
+
+  private final Map<TransactionID, PendingMessage> pending = new LinkedHashMap<>();
+  private ClientCallStreamObserver<ConsensusTopicQuery> call;
+  private long demand = 0;
+  private int requested = 0;
+  private int attempt = 0;
+  private long received = 0;
+  private Instant lastTimestamp;
+  private boolean done = false;
+  private Throwable failure;
+
+  TopicSubscription(
+      final Channel channel,
+      final TopicMessageQuery query,
+      final Flow.Subscriber<? super TopicMessage> subscriber) {
+    this.channel = channel;
+    this.query = query;
+    this.subscriber = subscriber;
+  }
+
+  void start() {
+    subscriber.onSubscribe(this);
+    connect();
+  }
+
+  @Override
+  public void request(final long n) {
+    if (n <= 0) {
+      fail(new IllegalArgumentException("request must be greater than 0"));
+      return;
+    }
+
+    synchronized (this) {
+      if (done) {
+        return;
+      }
+      demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+      requestMore();
+    }
+  }
+
+  @Override
+  public void cancel() {
+    final ClientCallStreamObserver<ConsensusTopicQuery> current;
+    synchronized (this) {
+      if (done) {
+        return;
+      }
+      done = true;
+      current = call;
+      pending.clear();
+    }
+
+    if (current != null) {
+      current.cancel("topic subscription cancelled", null);
+    }
+  }
+
+  private void fail(final Throwable error) {
+    final ClientCallStreamObserver<ConsensusTopicQuery> current;
+    synchronized (this) {
+      if (done) {
+        return;
+      }
+      done = true;
+      current = call;
+      if (current != null) {
+        // Delivered by the call's onError, keeping the signals to the subscriber serial
+        failure = error;
+      }
+    }
+
+    if (current != null) {
+      current.cancel("topic subscription failed", error);
+    } else {
+      subscriber.onError(error);
+    }
+  }
+
+  private void connect() {
+    final var builder = ConsensusTopicQuery.newBuilder().setTopicID(query.getTopicId().toProto());
+    final boolean complete;
+
+    synchronized (this) {
+      if (done) {
+        return;
+      }
+
+      if (query.getLimit() > 0) {
+        done = received >= query.getLimit();
+        builder.setLimit(query.getLimit() - received);
+      }
+      complete = done;
+
+      final var start = lastTimestamp != null ? lastTimestamp.plusNanos(1) : query.getStartTime();
+      if (start != null) {
+        builder.setConsensusStartTime(toProto(start));
+      }
+    }
+
+    if (complete) {
+      subscriber.onComplete();
+      return;
+    }
+
+    if (query.getEndTime() != null) {
+      builder.setConsensusEndTime(toProto(query.getEndTime()));
+    }
+
+    ConsensusServiceGrpc.newStub(channel).subscribeTopic(builder.build(), new Observer());
+  }
+
+  private void requestMore() {
+    if (call == null || demand == 0) {
+      return;
+    }
+
+    final var target = (int) Math.min(demand, Config.DEFAULT_TOPIC_REQUEST_BATCH);
+    if (requested < target) {
+      final var n = target - requested;
+      requested = target;
+      call.request(n);
+    }
+  }
+
+  private TopicMessage accept(final ConsensusTopicResponse response) {
+    final var consensusTime = fromProto(response.getConsensusTimestamp());
+    expirePending(consensusTime);
+
+    if (response.hasChunkInfo() && response.getChunkInfo().getTotal() <= 0) {
+      // A chunk of no message, nothing can ever complete it
+      return null;
+    }
+
+    if (!response.hasChunkInfo() || response.getChunkInfo().getTotal() == 1) {
+      return new TopicMessage(
+          consensusTime,
+          response.getMessage(),
+          response.getRunningHash(),
+          response.getSequenceNumber(),
+          1,
+          response.hasChunkInfo()
+              ? TransactionId.fromProto(response.getChunkInfo().getInitialTransactionID())
+              : null);
+    }
+
+    final var chunkInfo = response.getChunkInfo();
+    final var key = chunkInfo.getInitialTransactionID();
+    final var message =
+        pending.computeIfAbsent(key, k -> new PendingMessage(chunkInfo.getTotal(), consensusTime));
+
+    if (!message.add(chunkInfo.getNumber(), response.getMessage())) {
+      return null;
+    }
+
+    pending.remove(key);
+    return new TopicMessage(
+        consensusTime,
+        message.contents(),
+        response.getRunningHash(),
+        response.getSequenceNumber(),
+        chunkInfo.getTotal(),
+        TransactionId.fromProto(key));
+  }
+
+  /** Drop incomplete messages that are too old to complete, and the oldest beyond the bound. */
+  private void expirePending(final Instant consensusTime) {
+    final var cutoff = consensusTime.minus(Config.DEFAULT_TOPIC_CHUNK_WINDOW);
+    final var iterator = pending.values().iterator();
+
+    // Insertion order is the order of the first chunks, so expired messages are at the head
+    while (iterator.hasNext()) {
+      final var message = iterator.next();
+      if (pending.size() < Config.DEFAULT_TOPIC_MAX_PENDING_MESSAGES
+          && !message.firstChunkTime.isBefore(cutoff)) {
+        break;
+      }
+      iterator.remove();
+    }
+  }
+
+  private static boolean isRetryable(final Throwable t) {
+    final var status = Status.fromThrowable(t);
+    return switch (status.getCode()) {
+      case UNAVAILABLE, RESOURCE_EXHAUSTED, NOT_FOUND -> true;
+      case INTERNAL ->
+          status.getDescription() != null && status.getDescription().contains("RST_STREAM");
+      default -> false;
+    };
+  }
+
+  private long backoffMillis(final int attempt) {
+    final var backoff = query.getMinBackoff().toMillis() << Math.min(attempt - 1, 20);
+    return Math.min(backoff, query.getMaxBackoff().toMillis());
+  }
+
+  private static Timestamp toProto(final Instant instant) {
+    return Timestamp.newBuilder()
+        .setSeconds(instant.getEpochSecond())
+        .setNanos(instant.getNano())
+        .build();
+  }
+
+  private static Instant fromProto(final Timestamp timestamp) {
+    return Instant.ofEpochSecond(timestamp.getSeconds(), timestamp.getNanos());
+  }
+
+  private final class Observer
+      implements ClientResponseObserver<ConsensusTopicQuery, ConsensusTopicResponse> {
+    @Override
+    public void beforeStart(final ClientCallStreamObserver<ConsensusTopicQuery> call) {
+      synchronized (TopicSubscription.this) {
+        if (!done) {
+          TopicSubscription.this.call = call;
+          requested = (int) Math.min(demand, Config.DEFAULT_TOPIC_REQUEST_BATCH);
+          call.disableAutoRequestWithInitial(requested);
+          return;
+        }
+      }
+
+      // Cancelled after connect() checked, close the stream before it opens
+      call.cancel("topic subscription cancelled", null);
+    }
+
+    @Override
+    public void onNext(final ConsensusTopicResponse response) {
+      final TopicMessage message;
+      synchronized (TopicSubscription.this) {
+        requested--;
+        if (done) {
+          return;
+        }
+
+        attempt = 0;
+        received++;
+        lastTimestamp = fromProto(response.getConsensusTimestamp());
+        message = accept(response);
+
+        if (message != null) {
+          demand--;
+        }
+        requestMore();
+      }
+
+      if (message != null) {
+        try {
+          subscriber.onNext(message);
+        } catch (RuntimeException e) {
+          cancel();
+        }
+      }
+    }
+
+    @Override
+    public void onError(final Throwable t) {
+      final Throwable error;
+      synchronized (TopicSubscription.this) {
+        call = null;
+        requested = 0;
+
+        if (done) {
+          error = failure;
+          failure = null;
+        } else if (isRetryable(t) && attempt < query.getMaxAttempts()) {
+          attempt++;
+          CompletableFuture.delayedExecutor(backoffMillis(attempt), TimeUnit.MILLISECONDS)
+              .execute(TopicSubscription.this::connect);
+          return;
+        } else {
+          done = true;
+          pending.clear();
+          error = t;
+        }
+      }
+
+      if (error != null) {
+        subscriber.onError(error);
+      }
+    }
+
+    @Override
+    public void onCompleted() {
+      final Throwable error;
+      synchronized (TopicSubscription.this) {
+        call = null;
+        if (done && failure == null) {
+          return;
+        }
+        done = true;
+        pending.clear();
+        error = failure;
+        failure = null;
+      }
+
+      if (error != null) {
+        subscriber.onError(error);
+      } else {
+        subscriber.onComplete();
+      }
+    }
+  }
+
+  /**
+   * The chunks received so far of a message submitted in several chunks. Chunks are kept by number
+   * as they arrive, so memory follows the chunks received rather than the total reported by the
+   * server.
+   */
+  private static final class PendingMessage {
+    private final int total;
+    private final Instant firstChunkTime;
+    private final Map<Integer, ByteString> chunks = new HashMap<>();
+
+    PendingMessage(final int total, final Instant firstChunkTime) {
+      this.total = total;
+      this.firstChunkTime = firstChunkTime;
+    }
+
+    /**
+     * Record a chunk, ignoring duplicates and numbers outside the message.
+     *
+     * @return {@code true} once every chunk has been received
+     */
+    boolean add(final int number, final ByteString chunk) {
+      if (number >= 1 && number <= total) {
+        chunks.putIfAbsent(number, chunk);
+      }
+      return chunks.size() == total;
+    }
+
+    /** Join the chunks into a rope over their buffers instead of copying them. */
+    ByteString contents() {
+      var contents = ByteString.EMPTY;
+      for (int number = 1; number <= total; number++) {
+        contents = contents.concat(chunks.get(number));
+      }
+      return contents;
+    }
+  }
+}
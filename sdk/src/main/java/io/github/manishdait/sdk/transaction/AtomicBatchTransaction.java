@@ -0,0 +1,100 @@
+package io.github.manishdait.sdk.transaction;
+
+import com.google.protobuf.ByteString;
+import com.hedera.hashgraph.sdk.proto.AtomicBatchTransactionBody;
+import com.hedera.hashgraph.sdk.proto.TransactionBody;
+import com.hedera.hashgraph.sdk.proto.TransactionResponse;
+import com.hedera.hashgraph.sdk.proto.UtilServiceGrpc;
+import io.github.manishdait.sdk.Client;
+import io.github.manishdait.sdk.internal.Config;
+import io.grpc.MethodDescriptor;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Submits several transactions as one, so they all succeed or all fail together.
+ *
+ * <p>Inner transactions are packed with {@link Transaction#withBatchKey} set, signed by their own
+ * signers, and added here. When the batch is packed, every inner transaction is signed with the
+ * operator key and serialized in parallel. The packed batch must be signed with each inner
+ * transaction's batch key, unless that is the operator key.
+ */
+public class AtomicBatchTransaction extends Transaction<AtomicBatchTransaction> {
+  private final List<PackedTransaction<?>> innerTransactions = new ArrayList<>();
+  private final List<ByteString> innerTransactionBytes = new ArrayList<>();
+
+  public AtomicBatchTransaction() {}
+
+  public List<PackedTransaction<?>> getInnerTransactions() {
+    return Collections.unmodifiableList(innerTransactions);
+  }
+
+  /**
+   * Add an inner transaction. Inner transactions run in the order they are added.
+   *
+   * @param transaction the packed inner transaction
+   * @return this {@code AtomicBatchTransaction}
+   * @throws IllegalArgumentException if the transaction has no batch key
+   */
+  public AtomicBatchTransaction addInnerTransaction(
+      @NonNull final PackedTransaction<?> transaction) {
+    Objects.requireNonNull(transaction, "transaction must not be null");
+
+    if (!transaction.getTransactionBody().hasBatchKey()) {
+      throw new IllegalArgumentException("inner transaction must have a batch key");
+    }
+
+    innerTransactions.add(transaction);
+    return this;
+  }
+
+  public AtomicBatchTransactionBody toProto() {
+    final var size = innerTransactionBytes.size() + innerTransactions.size();
+    if (size == 0) {
+      throw new IllegalStateException("batch must have at least one inner transaction");
+    }
+
+    if (size > Config.DEFAULT_MAX_BATCH_TRANSACTIONS) {
+      throw new IllegalStateException(
+          "batch has "
+              + size
+              + " inner transactions, more than "
+              + Config.DEFAULT_MAX_BATCH_TRANSACTIONS);
+    }
+
+    final var signed =
+        innerTransactions.parallelStream()
+            .map(PackedTransaction::toSignedTransactionBytes)
+            .toList();
+
+    return AtomicBatchTransactionBody.newBuilder()
+        .addAllTransactions(innerTransactionBytes)
+        .addAllTransactions(signed)
+        .build();
+  }
+
+  @Override
+  public AtomicBatchTransaction fromProto(@NonNull final TransactionBody transactionBodyProto) {
+    Objects.requireNonNull(transactionBodyProto, "transactionBodyProto must not be null");
+
+    AtomicBatchTransaction transaction = new AtomicBatchTransaction();
+    transaction.innerTransactionBytes.addAll(
+        transactionBodyProto.getAtomicBatch().getTransactionsList());
+    return transaction;
+  }
+
+  @Override
+  protected void buildTransaction(@NonNull final Client client) {
+    Objects.requireNonNull(client, "client must not be null");
+    this.transactionBodyBuilder.setAtomicBatch(this.toProto());
+  }
+
+  @Override
+  protected MethodDescriptor<com.hedera.hashgraph.sdk.proto.Transaction, TransactionResponse>
+      getMethodDescriptor() {
+    return UtilServiceGrpc.getAtomicBatchMethod();
+  }
+}
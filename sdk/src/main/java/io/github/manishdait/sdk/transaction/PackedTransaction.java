@@ -3,31 +3,45 @@ package io.github.manishdait.sdk.transaction;
 import com.google.protobuf.ByteString;
 import com.hedera.hashgraph.sdk.proto.SignatureMap;
 import com.hedera.hashgraph.sdk.proto.SignaturePair;
+import com.hedera.hashgraph.sdk.proto.SignedTransaction;
 import com.hedera.hashgraph.sdk.proto.TransactionBody;
 import com.hedera.hashgraph.sdk.proto.TransactionResponse;
 import io.github.manishdait.sdk.Client;
 import io.github.manishdait.sdk.Status;
+import io.github.manishdait.sdk.account.AccountId;
+import io.github.manishdait.sdk.exception.PrecheckException;
 import io.github.manishdait.sdk.internal.Executable;
 import io.github.manishdait.sdk.internal.ExecutionState;
-import io.github.manishdait.sdk.key.KeyType;
+import io.github.manishdait.sdk.internal.key.SignatureUtils;
 import io.github.manishdait.sdk.key.PrivateKey;
 import io.github.manishdait.sdk.key.PublicKey;
+import io.github.manishdait.sdk.network.Node;
 import io.grpc.MethodDescriptor;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
 import java.util.function.Function;
 import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
 
 public class PackedTransaction<T extends Transaction<T>>
     extends Executable<com.hedera.hashgraph.sdk.proto.Transaction, TransactionResponse> {
+  private static final Executor SENDER =
+      Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("hiero-send-", 0).factory());
+
   private final TransactionBody transactionBody;
   private final Function<TransactionBody, T> unpacker;
   private final MethodDescriptor<com.hedera.hashgraph.sdk.proto.Transaction, TransactionResponse>
       methodDescriptor;
   private final Client client;
 
-  private final Map<PublicKey, byte[]> signatures = new HashMap<>();
+  private final Map<PublicKey, SignaturePair> signatures = new HashMap<>();
 
   protected PackedTransaction(
       @NonNull final Client client,
@@ -41,45 +55,118 @@ public class PackedTransaction<T extends Transaction<T>>
     this.methodDescriptor = methodDescriptor;
   }
 
+  public TransactionBody getTransactionBody() {
+    return transactionBody;
+  }
+
   public T unpack() {
     return this.unpacker.apply(this.transactionBody);
   }
 
   public PackedTransaction<T> signWith(PrivateKey key) {
-    if (signatures.containsKey(key.getPublicKey())) {
+    return signWith(key, key.getPublicKey());
+  }
+
+  /**
+   * Sign with a key whose public key is already known, skipping its derivation.
+   *
+   * @param key the signing key
+   * @param publicKey the public key of {@code key}
+   * @return this {@code PackedTransaction}
+   */
+  public synchronized PackedTransaction<T> signWith(
+      @NonNull final PrivateKey key, @NonNull final PublicKey publicKey) {
+    Objects.requireNonNull(key, "key must not be null");
+    Objects.requireNonNull(publicKey, "publicKey must not be null");
+
+    if (signatures.containsKey(publicKey)) {
       return this;
     }
 
     byte[] signature = key.sign(transactionBody.toByteArray());
-    signatures.put(key.getPublicKey(), signature);
+    signatures.put(publicKey, SignatureUtils.toSignaturePair(publicKey, signature));
     return this;
   }
 
-  private SignatureMap buildSignatureMap() {
-    final var signatureMapBuilder = SignatureMap.newBuilder();
-
-    for (PublicKey key : signatures.keySet()) {
-      if (key.getType() == KeyType.ED25519) {
-        signatureMapBuilder.addSigPair(
-            SignaturePair.newBuilder()
-                .setPubKeyPrefix(ByteString.copyFrom(key.getBytes()))
-                .setEd25519(ByteString.copyFrom(signatures.get(key)))
-                .build());
-      } else if (key.getType() == KeyType.ECDSA) {
-        signatureMapBuilder.addSigPair(
-            SignaturePair.newBuilder()
-                .setPubKeyPrefix(ByteString.copyFrom(key.getBytes()))
-                .setECDSASecp256K1(ByteString.copyFrom(signatures.get(key)))
-                .build());
-      }
+  /**
+   * Add a signature made elsewhere, such as by an offline signer or a hardware key, over the bytes
+   * of {@link #getTransactionBody()}.
+   *
+   * @param publicKey the public key of the signer
+   * @param signature the signature
+   * @return this {@code PackedTransaction}
+   * @throws IllegalArgumentException if the signature does not verify against the body
+   */
+  public synchronized PackedTransaction<T> addSignature(
+      @NonNull final PublicKey publicKey, @NonNull final byte[] signature) {
+    Objects.requireNonNull(publicKey, "publicKey must not be null");
+    Objects.requireNonNull(signature, "signature must not be null");
+
+    if (!publicKey.verify(transactionBody.toByteArray(), signature)) {
+      throw new IllegalArgumentException("signature does not verify for key " + publicKey);
     }
 
-    return signatureMapBuilder.build();
+    signatures.putIfAbsent(publicKey, SignatureUtils.toSignaturePair(publicKey, signature));
+    return this;
+  }
+
+  /**
+   * Sign every transaction with the same key, spreading the signing over the common pool.
+   *
+   * @param transactions the transactions to sign
+   * @param key the signing key
+   */
+  public static void signAll(
+      @NonNull final Collection<? extends PackedTransaction<?>> transactions,
+      @NonNull final PrivateKey key) {
+    Objects.requireNonNull(transactions, "transactions must not be null");
+    Objects.requireNonNull(key, "key must not be null");
+
+    final var publicKey = key.getPublicKey();
+    transactions.parallelStream().forEach(transaction -> transaction.signWith(key, publicKey));
+  }
+
+  /**
+   * Sign every transaction with the operator key of its client ahead of sending, instead of on the
+   * sending thread.
+   *
+   * @param transactions the transactions to sign
+   */
+  public static void signAllWithOperator(
+      @NonNull final Collection<? extends PackedTransaction<?>> transactions) {
+    Objects.requireNonNull(transactions, "transactions must not be null");
+
+    transactions.parallelStream().forEach(PackedTransaction::signWithOperator);
+  }
+
+  public PackedTransaction<T> signWithOperator() {
+    final var operator = client.getOperatorAccount();
+    return signWith(operator.privateKey(), operator.publicKey());
+  }
+
+  private synchronized SignatureMap buildSignatureMap() {
+    return SignatureMap.newBuilder().addAllSigPair(signatures.values()).build();
+  }
+
+  /**
+   * Sign with the operator key and serialize the body with its signatures, as carried by an {@link
+   * AtomicBatchTransaction}.
+   *
+   * @return the serialized {@code SignedTransaction}
+   */
+  public ByteString toSignedTransactionBytes() {
+    signWithOperator();
+
+    return SignedTransaction.newBuilder()
+        .setBodyBytes(this.transactionBody.toByteString())
+        .setSigMap(this.buildSignatureMap())
+        .build()
+        .toByteString();
   }
 
   @Override
   protected com.hedera.hashgraph.sdk.proto.Transaction buildRequest() {
-    signWith(client.getOperatorPrivateKey());
+    signWithOperator();
 
     return com.hedera.hashgraph.sdk.proto.Transaction.newBuilder()
         .setBodyBytes(this.transactionBody.toByteString())
@@ -112,10 +199,113 @@ public class PackedTransaction<T extends Transaction<T>>
     return this.methodDescriptor;
   }
 
+  /**
+   * Send to the node the body was packed for, moving to another proxy of the same node account
+   * while that one is backed off or has left the network.
+   */
+  @Override
+  protected Node resolveNode(@NonNull final Client client) {
+    final var pinned = getNode();
+    if (pinned == null || (pinned.isHealthy() && !pinned.isClosed())) {
+      return super.resolveNode(client);
+    }
+
+    for (var proxy : client.getNetwork().getProxies(pinned.getAccountId())) {
+      if (proxy.isHealthy() && !proxy.isClosed()) {
+        return proxy;
+      }
+    }
+    return pinned;
+  }
+
   public io.github.manishdait.sdk.transaction.TransactionResponse send() {
     final var protoResponse = execute(this.client);
+    final var transactionId = TransactionId.fromProto(transactionBody.getTransactionID());
+
+    final var cache = client.getAccountQueryCache();
+    if (cache != null) {
+      cache.transactionSubmitted(transactionId, transactionBody);
+    }
 
     return io.github.manishdait.sdk.transaction.TransactionResponse.fromProto(
-        client, TransactionId.fromProto(transactionBody.getTransactionID()), protoResponse);
+        client, transactionId, protoResponse);
+  }
+
+  /**
+   * Send the transaction on a virtual thread, so many transactions can be in flight without waiting
+   * for each other or for their receipts.
+   *
+   * @return a future of the node's response
+   */
+  public CompletableFuture<io.github.manishdait.sdk.transaction.TransactionResponse> sendAsync() {
+    return CompletableFuture.supplyAsync(this::send, SENDER);
+  }
+
+  /**
+   * Pack and send a transaction, packing it again for another node account when the node it was
+   * packed for does not take it.
+   *
+   * <p>A precheck failure is the answer of the network and is thrown as is. Any other failure backs
+   * the node off and moves on to a node account not tried yet, preferring healthy ones, until none
+   * is left. {@code pack} should keep the transaction id across nodes, so a node that did receive
+   * an earlier attempt makes the next one a duplicate rather than apply the transaction twice.
+   *
+   * @param client the client to send with
+   * @param node the node to send to only, or {@code null} to start at the client's current node and
+   *     fail over to the others
+   * @param pack packs and signs the transaction for a node
+   * @return the node's response
+   * @param <T> the transaction type
+   */
+  public static <T extends Transaction<T>>
+      io.github.manishdait.sdk.transaction.TransactionResponse sendWithFailover(
+          @NonNull final Client client,
+          @Nullable final Node node,
+          @NonNull final Function<Node, PackedTransaction<T>> pack) {
+    Objects.requireNonNull(client, "client must not be null");
+    Objects.requireNonNull(pack, "pack must not be null");
+
+    if (node != null) {
+      return pack.apply(node).send();
+    }
+
+    final var tried = new HashSet<AccountId>();
+    var current = client.getNode();
+
+    while (true) {
+      final var packed = pack.apply(current);
+      try {
+        return packed.send();
+      } catch (PrecheckException e) {
+        throw e;
+      } catch (RuntimeException e) {
+        current.increaseBackoff();
+        tried.add(current.getAccountId());
+
+        current = client.getNetwork().selectNodeExcluding(tried);
+        if (current == null) {
+          throw e;
+        }
+      }
+    }
+  }
+
+  /**
+   * Run {@link #sendWithFailover(Client, Node, Function)} on a virtual thread, so the transaction
+   * is packed and signed only once it is about to be sent.
+   *
+   * @param client the client to send with
+   * @param node the node to send to only, or {@code null} to fail over between nodes
+   * @param pack packs and signs the transaction for a node
+   * @return a future of the node's response
+   * @param <T> the transaction type
+   */
+  public static <T extends Transaction<T>>
+      CompletableFuture<io.github.manishdait.sdk.transaction.TransactionResponse>
+          sendWithFailoverAsync(
+              @NonNull final Client client,
+              @Nullable final Node node,
+              @NonNull final Function<Node, PackedTransaction<T>> pack) {
+    return CompletableFuture.supplyAsync(() -> sendWithFailover(client, node, pack), SENDER);
   }
 }
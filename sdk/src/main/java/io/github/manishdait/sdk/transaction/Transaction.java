@@ -5,6 +5,9 @@ import com.hedera.hashgraph.sdk.proto.TransactionResponse;
 import io.github.manishdait.sdk.Client;
 import io.github.manishdait.sdk.Duration;
 import io.github.manishdait.sdk.Hbar;
+import io.github.manishdait.sdk.account.AccountId;
+import io.github.manishdait.sdk.key.Key;
+import io.github.manishdait.sdk.network.Node;
 import io.grpc.MethodDescriptor;
 import java.util.Objects;
 import org.jspecify.annotations.NonNull;
@@ -12,10 +15,13 @@ import org.jspecify.annotations.NonNull;
 /** Abstract Transaction Class */
 public abstract class Transaction<T extends Transaction<T>> {
   private static final Hbar MAX_TRANSACTION_FEE = Hbar.of(1);
+  private static final AccountId BATCH_NODE_ACCOUNT_ID = new AccountId(0, 0, 0);
 
   protected TransactionId transactionId;
   protected Duration validDuration;
   protected String memo;
+  protected Key batchKey;
+  protected Node node;
 
   protected TransactionBody.Builder transactionBodyBuilder;
 
@@ -37,6 +43,40 @@ public abstract class Transaction<T extends Transaction<T>> {
     return this.withValidDuration(Duration.of(validDuration));
   }
 
+  public Node getNode() {
+    return node;
+  }
+
+  /**
+   * Address this transaction to the given node and send it only there, instead of to the client's
+   * current node.
+   *
+   * @param node the node to submit to
+   * @return this {@code Transaction}
+   */
+  public Transaction<T> withNode(@NonNull final Node node) {
+    Objects.requireNonNull(node, "node must not be null");
+    this.node = node;
+    return this;
+  }
+
+  public Key getBatchKey() {
+    return batchKey;
+  }
+
+  /**
+   * Mark this transaction as an inner transaction of an {@link AtomicBatchTransaction}. The batch
+   * must then be signed with {@code batchKey}, and this transaction is no longer sent on its own.
+   *
+   * @param batchKey the key of the trusted batch assembler
+   * @return this {@code Transaction}
+   */
+  public Transaction<T> withBatchKey(@NonNull final Key batchKey) {
+    Objects.requireNonNull(batchKey, "batchKey must not be null");
+    this.batchKey = batchKey;
+    return this;
+  }
+
   public abstract T fromProto(final TransactionBody proto);
 
   protected abstract void buildTransaction(final Client client);
@@ -48,22 +88,75 @@ public abstract class Transaction<T extends Transaction<T>> {
   public void buildBaseTransaction(@NonNull final Client client) {
     Objects.requireNonNull(client, "client must not be null");
 
-    this.transactionId = TransactionId.fromAccountId(client.getOperatorAccountId());
+    buildBaseTransaction(
+        TransactionId.fromAccountId(client.getOperatorAccountId()), resolveNode(client));
+  }
+
+  private void buildBaseTransaction(final TransactionId transactionId, final Node node) {
+    this.transactionId = transactionId;
 
     this.transactionBodyBuilder =
         TransactionBody.newBuilder()
             .setTransactionID(this.transactionId.toProto())
             .setTransactionValidDuration(this.validDuration.toProto())
             .setMemo(this.memo == null ? "" : memo)
-            .setNodeAccountID(client.getNode().getAccountId().toProto())
+            .setNodeAccountID(node.getAccountId().toProto())
             .setTransactionFee(MAX_TRANSACTION_FEE.getValueInTinybar());
+
+    // Inner transactions of a batch are not addressed to a node
+    if (this.batchKey != null) {
+      this.transactionBodyBuilder
+          .setBatchKey(this.batchKey.toProto())
+          .setNodeAccountID(BATCH_NODE_ACCOUNT_ID.toProto());
+    }
   }
 
+  /**
+   * Pack this transaction with a new transaction id for the node set by {@link #withNode(Node)}, or
+   * the client's current node.
+   *
+   * @param client the client the transaction is sent with
+   * @return the {@code PackedTransaction}
+   */
   public PackedTransaction<T> pack(@NonNull final Client client) {
-    buildBaseTransaction(client);
+    Objects.requireNonNull(client, "client must not be null");
+
+    return pack(
+        client, TransactionId.fromAccountId(client.getOperatorAccountId()), resolveNode(client));
+  }
+
+  /**
+   * Pack this transaction with the given id for the given node.
+   *
+   * <p>The body names the node, so the packed transaction is pinned to it: retries go to proxies of
+   * the same node account, never to another node. To fail over, pack again for another node with
+   * the same transaction id, so a node that did receive the first attempt rejects the second as a
+   * duplicate instead of applying the transaction twice.
+   *
+   * @param client the client the transaction is sent with
+   * @param transactionId the id of the transaction
+   * @param node the node to submit to
+   * @return the {@code PackedTransaction}
+   */
+  public synchronized PackedTransaction<T> pack(
+      @NonNull final Client client,
+      @NonNull final TransactionId transactionId,
+      @NonNull final Node node) {
+    Objects.requireNonNull(client, "client must not be null");
+    Objects.requireNonNull(transactionId, "transactionId must not be null");
+    Objects.requireNonNull(node, "node must not be null");
+
+    buildBaseTransaction(transactionId, node);
     buildTransaction(client);
 
-    return new PackedTransaction<T>(
-        client, transactionBodyBuilder.build(), this::fromProto, getMethodDescriptor());
+    final var packed =
+        new PackedTransaction<T>(
+            client, transactionBodyBuilder.build(), this::fromProto, getMethodDescriptor());
+    packed.setNode(node);
+    return packed;
+  }
+
+  private Node resolveNode(final Client client) {
+    return this.node != null ? this.node : client.getNode();
   }
 }
@@ -5,10 +5,13 @@ import com.hedera.hashgraph.sdk.proto.TransactionID;
 import io.github.manishdait.sdk.account.AccountId;
 import java.time.Instant;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
 import org.jspecify.annotations.NonNull;
 
 /** Represent a TransactionID class. */
 public class TransactionId {
+  private static final AtomicLong LAST_VALID_START = new AtomicLong();
+
   private final Instant transactionValidStart;
   private final AccountId accountId;
   private boolean scheduled;
@@ -67,12 +70,22 @@ public class TransactionId {
   /**
    * Creates a {@link TransactionId} for a given {@link AccountId}.
    *
+   * <p>Valid start times handed out by this method strictly increase, so ids generated in quick
+   * succession, even from several threads, never collide.
+   *
    * @param accountId {@link AccountId} for which the transactionId is to be generated
    * @return an instance of {@link TransactionId}
    */
   public static TransactionId fromAccountId(@NonNull final AccountId accountId) {
     Objects.requireNonNull(accountId, "accountId must not be null.");
-    return new TransactionId(Instant.now(), accountId);
+    return new TransactionId(nextValidStart(), accountId);
+  }
+
+  private static Instant nextValidStart() {
+    final var now = Instant.now();
+    final var nowNanos = now.getEpochSecond() * 1_000_000_000L + now.getNano();
+    final var nanos = LAST_VALID_START.updateAndGet(last -> Math.max(nowNanos, last + 1));
+    return Instant.ofEpochSecond(0, nanos);
   }
 
   /**
@@ -3,15 +3,34 @@ package io.github.manishdait.sdk.transaction;
 import io.github.manishdait.sdk.ExchangeRate;
 import io.github.manishdait.sdk.Status;
 import io.github.manishdait.sdk.account.AccountId;
+import io.github.manishdait.sdk.file.FileId;
+import io.github.manishdait.sdk.schedule.ScheduleId;
+import io.github.manishdait.sdk.token.TokenId;
+import java.util.List;
 
 public record TransactionReceipt(
-    Status status, AccountId accountId, ExchangeRate currentRate, ExchangeRate nextRate) {
+    Status status,
+    AccountId accountId,
+    ExchangeRate currentRate,
+    ExchangeRate nextRate,
+    FileId fileId,
+    TokenId tokenId,
+    List<Long> serialNumbers,
+    ScheduleId scheduleId,
+    TransactionId scheduledTransactionId) {
   public static TransactionReceipt fromProto(
       com.hedera.hashgraph.sdk.proto.TransactionReceipt proto) {
     return new TransactionReceipt(
         Status.valueOf(proto.getStatus()),
         proto.hasAccountID() ? AccountId.fromProto(proto.getAccountID()) : null,
         ExchangeRate.fromProto(proto.getExchangeRate().getCurrentRate()),
-        ExchangeRate.fromProto(proto.getExchangeRate().getNextRate()));
+        ExchangeRate.fromProto(proto.getExchangeRate().getNextRate()),
+        proto.hasFileID() ? FileId.fromProto(proto.getFileID()) : null,
+        proto.hasTokenID() ? TokenId.fromProto(proto.getTokenID()) : null,
+        List.copyOf(proto.getSerialNumbersList()),
+        proto.hasScheduleID() ? ScheduleId.fromProto(proto.getScheduleID()) : null,
+        proto.hasScheduledTransactionID()
+            ? TransactionId.fromProto(proto.getScheduledTransactionID())
+            : null);
   }
 }
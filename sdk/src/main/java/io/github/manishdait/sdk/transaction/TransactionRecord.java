@@ -0,0 +1,237 @@
+package io.github.manishdait.sdk.transaction;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.hedera.hashgraph.sdk.proto.Timestamp;
+import io.github.manishdait.sdk.Hbar;
+import io.github.manishdait.sdk.HbarUnit;
+import io.github.manishdait.sdk.account.AccountId;
+import io.github.manishdait.sdk.schedule.ScheduleId;
+import io.github.manishdait.sdk.token.TokenId;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * The record of a transaction that reached consensus.
+ *
+ * <p>Fields are decoded on first access and kept, so reading the receipt of a record does not pay
+ * for its transfer lists or child records. A record built from bytes is not parsed until a field is
+ * read, which keeps stored records cheap to load in bulk.
+ */
+public final class TransactionRecord {
+  private final ByteString bytes;
+  private final List<com.hedera.hashgraph.sdk.proto.TransactionRecord> children;
+  private final List<com.hedera.hashgraph.sdk.proto.TransactionRecord> duplicates;
+
+  private volatile com.hedera.hashgraph.sdk.proto.TransactionRecord proto;
+  private volatile TransactionReceipt receipt;
+  private volatile Map<AccountId, Long> hbarTransfers;
+  private volatile Map<TokenId, Map<AccountId, Long>> tokenTransfers;
+  private volatile List<TransactionRecord> childRecords;
+  private volatile List<TransactionRecord> duplicateRecords;
+
+  private TransactionRecord(
+      final ByteString bytes,
+      final com.hedera.hashgraph.sdk.proto.TransactionRecord proto,
+      final List<com.hedera.hashgraph.sdk.proto.TransactionRecord> children,
+      final List<com.hedera.hashgraph.sdk.proto.TransactionRecord> duplicates) {
+    this.bytes = bytes;
+    this.proto = proto;
+    this.children = children;
+    this.duplicates = duplicates;
+  }
+
+  public static TransactionRecord fromProto(
+      final com.hedera.hashgraph.sdk.proto.TransactionRecord proto) {
+    return fromProto(proto, List.of(), List.of());
+  }
+
+  /**
+   * Wrap a record together with the records of its child and duplicate transactions, as returned by
+   * a record query.
+   *
+   * @param proto the record
+   * @param children the records of the child transactions
+   * @param duplicates the records of the duplicate transactions
+   * @return the {@code TransactionRecord}
+   */
+  public static TransactionRecord fromProto(
+      final com.hedera.hashgraph.sdk.proto.TransactionRecord proto,
+      @NonNull final List<com.hedera.hashgraph.sdk.proto.TransactionRecord> children,
+      @NonNull final List<com.hedera.hashgraph.sdk.proto.TransactionRecord> duplicates) {
+    Objects.requireNonNull(proto, "proto must not be null");
+    Objects.requireNonNull(children, "children must not be null");
+    Objects.requireNonNull(duplicates, "duplicates must not be null");
+    return new TransactionRecord(null, proto, List.copyOf(children), List.copyOf(duplicates));
+  }
+
+  /**
+   * Wrap a serialized record without parsing it.
+   *
+   * @param bytes the serialized {@code TransactionRecord}
+   * @return the {@code TransactionRecord}
+   */
+  public static TransactionRecord fromBytes(@NonNull final ByteString bytes) {
+    Objects.requireNonNull(bytes, "bytes must not be null");
+    return new TransactionRecord(bytes, null, List.of(), List.of());
+  }
+
+  public static TransactionRecord fromBytes(@NonNull final byte[] bytes) {
+    Objects.requireNonNull(bytes, "bytes must not be null");
+    return fromBytes(ByteString.copyFrom(bytes));
+  }
+
+  /**
+   * Get the record message, parsing it on first access when built from bytes.
+   *
+   * @return the record message
+   * @throws IllegalStateException if the bytes are not a valid record
+   */
+  public com.hedera.hashgraph.sdk.proto.TransactionRecord toProto() {
+    var parsed = proto;
+    if (parsed == null) {
+      try {
+        parsed = com.hedera.hashgraph.sdk.proto.TransactionRecord.parseFrom(bytes);
+      } catch (InvalidProtocolBufferException e) {
+        throw new IllegalStateException("bytes are not a valid transaction record", e);
+      }
+      proto = parsed;
+    }
+    return parsed;
+  }
+
+  public ByteString toBytes() {
+    return bytes != null ? bytes : toProto().toByteString();
+  }
+
+  public TransactionReceipt getReceipt() {
+    var decoded = receipt;
+    if (decoded == null) {
+      decoded = TransactionReceipt.fromProto(toProto().getReceipt());
+      receipt = decoded;
+    }
+    return decoded;
+  }
+
+  public TransactionId getTransactionId() {
+    return TransactionId.fromProto(toProto().getTransactionID());
+  }
+
+  public ByteString getTransactionHash() {
+    return toProto().getTransactionHash();
+  }
+
+  public Instant getConsensusTimestamp() {
+    return toInstant(toProto().getConsensusTimestamp());
+  }
+
+  public @Nullable Instant getParentConsensusTimestamp() {
+    final var record = toProto();
+    return record.hasParentConsensusTimestamp()
+        ? toInstant(record.getParentConsensusTimestamp())
+        : null;
+  }
+
+  public String getTransactionMemo() {
+    return toProto().getMemo();
+  }
+
+  public Hbar getTransactionFee() {
+    return Hbar.of(toProto().getTransactionFee(), HbarUnit.TINYBAR);
+  }
+
+  public @Nullable ScheduleId getScheduleRef() {
+    final var record = toProto();
+    return record.hasScheduleRef() ? ScheduleId.fromProto(record.getScheduleRef()) : null;
+  }
+
+  /**
+   * Get the net hbar transfer of every account, including fees.
+   *
+   * @return the amounts in tinybar by account, in the order of the transfer list
+   */
+  public Map<AccountId, Long> getHbarTransfers() {
+    var decoded = hbarTransfers;
+    if (decoded == null) {
+      final var transfers = new LinkedHashMap<AccountId, Long>();
+      for (var transfer : toProto().getTransferList().getAccountAmountsList()) {
+        transfers.merge(
+            AccountId.fromProto(transfer.getAccountID()), transfer.getAmount(), Math::addExact);
+      }
+      decoded = Collections.unmodifiableMap(transfers);
+      hbarTransfers = decoded;
+    }
+    return decoded;
+  }
+
+  /**
+   * Get the net fungible token transfer of every account.
+   *
+   * @return the amounts by token and account, in the order of the token transfer lists
+   */
+  public Map<TokenId, Map<AccountId, Long>> getTokenTransfers() {
+    var decoded = tokenTransfers;
+    if (decoded == null) {
+      final var tokens = new LinkedHashMap<TokenId, Map<AccountId, Long>>();
+      for (var list : toProto().getTokenTransferListsList()) {
+        if (list.getTransfersCount() == 0) {
+          continue;
+        }
+
+        final var transfers =
+            tokens.computeIfAbsent(
+                TokenId.fromProto(list.getToken()), ignored -> new LinkedHashMap<>());
+        for (var transfer : list.getTransfersList()) {
+          transfers.merge(
+              AccountId.fromProto(transfer.getAccountID()), transfer.getAmount(), Math::addExact);
+        }
+      }
+
+      tokens.replaceAll((token, transfers) -> Collections.unmodifiableMap(transfers));
+      decoded = Collections.unmodifiableMap(tokens);
+      tokenTransfers = decoded;
+    }
+    return decoded;
+  }
+
+  /**
+   * Get the records of the transactions this transaction triggered, such as the transfers of a
+   * scheduled transaction or the inner transactions of a batch. Only returned by a query that asked
+   * for them.
+   *
+   * @return the child records in consensus order
+   */
+  public List<TransactionRecord> getChildren() {
+    var decoded = childRecords;
+    if (decoded == null) {
+      decoded = children.stream().map(TransactionRecord::fromProto).toList();
+      childRecords = decoded;
+    }
+    return decoded;
+  }
+
+  /**
+   * Get the records of transactions submitted with the same transaction id. Only returned by a
+   * query that asked for them.
+   *
+   * @return the duplicate records
+   */
+  public List<TransactionRecord> getDuplicates() {
+    var decoded = duplicateRecords;
+    if (decoded == null) {
+      decoded = duplicates.stream().map(TransactionRecord::fromProto).toList();
+      duplicateRecords = decoded;
+    }
+    return decoded;
+  }
+
+  private static Instant toInstant(final Timestamp timestamp) {
+    return Instant.ofEpochSecond(timestamp.getSeconds(), timestamp.getNanos());
+  }
+}
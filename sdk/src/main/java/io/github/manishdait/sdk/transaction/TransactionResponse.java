@@ -26,6 +26,13 @@ public record TransactionResponse(
   }
 
   public TransactionReceipt queryReceipt() {
-    return new TransactionReceiptQuery().withTransactionId(this.transactionId).query(client);
+    var receipt = new TransactionReceiptQuery().withTransactionId(this.transactionId).query(client);
+
+    var cache = client.getAccountQueryCache();
+    if (cache != null) {
+      cache.receiptFetched(this.transactionId, receipt.status());
+    }
+
+    return receipt;
   }
 }
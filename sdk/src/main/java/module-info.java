@@ -1,6 +1,7 @@
 module io.github.manishdait.sdk {
   requires transitive io.github.manishdait.hapi;
   requires io.grpc;
+  requires io.grpc.netty.shaded;
   requires org.bouncycastle.provider;
   requires org.jspecify;
   requires com.google.protobuf;
@@ -17,4 +18,13 @@ module io.github.manishdait.sdk {
   exports io.github.manishdait.sdk.transaction;
   exports io.github.manishdait.sdk.query;
   exports io.github.manishdait.sdk.address_book;
+  exports io.github.manishdait.sdk.exception;
+  exports io.github.manishdait.sdk.mirror;
+  exports io.github.manishdait.sdk.topic;
+  exports io.github.manishdait.sdk.file;
+  exports io.github.manishdait.sdk.token;
+  exports io.github.manishdait.sdk.schedule;
+
+  opens io.github.manishdait.sdk.mirror to
+      com.fasterxml.jackson.databind;
 }
@@ -0,0 +1,26 @@
+package io.github.manishdait.sdk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.manishdait.sdk.network.ChannelFactory;
+import io.github.manishdait.sdk.network.NetworkType;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+public class ClientTest {
+  @Test
+  void shouldReportNodesThatCannotConnectAsFailedWarmUp() {
+    // The built-in nodes have no certificate hash, so a TLS factory refuses to connect them
+    try (var channelFactory =
+        new ChannelFactory().withTransportSecurity(true).withEagerConnect(true)) {
+      var client = Client.forNetwork(NetworkType.SOLO, channelFactory, null);
+
+      try {
+        assertThat(client.warmUp(Duration.ofSeconds(1)))
+            .containsExactlyElementsOf(client.getNetwork().getNodes());
+      } finally {
+        client.close(Duration.ZERO);
+      }
+    }
+  }
+}
@@ -1,6 +1,7 @@
 package io.github.manishdait.sdk;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 
 import com.hedera.hashgraph.sdk.proto.ResponseCodeEnum;
 import org.junit.jupiter.api.Test;
@@ -29,4 +30,14 @@ public class StatusTest {
       assertThat(status.toResponseCode()).isEqualTo(responseCodeEnum.getNumber());
     }
   }
+
+  @Test
+  void shouldThrowForUnknownResponseCode() {
+    assertThatThrownBy(() -> Status.fromResponseCode(-1))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> Status.fromResponseCode(Integer.MAX_VALUE))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> Status.valueOf(ResponseCodeEnum.UNRECOGNIZED))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
 }
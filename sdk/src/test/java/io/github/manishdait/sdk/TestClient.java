@@ -0,0 +1,40 @@
+package io.github.manishdait.sdk;
+
+import io.github.manishdait.sdk.account.AccountId;
+import io.github.manishdait.sdk.key.PrivateKey;
+import io.github.manishdait.sdk.network.ChannelFactory;
+import io.github.manishdait.sdk.network.NetworkType;
+import java.time.Duration;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+/**
+ * A client on the built-in {@link NetworkType#SOLO} nodes with a generated operator key, for tests
+ * that pack and sign transactions without a network. Register it as an instance field with {@code
+ * RegisterExtension}, and every test gets its own client, closed once the test ends.
+ */
+public final class TestClient implements AfterEachCallback {
+  public static final AccountId OPERATOR_ACCOUNT_ID = new AccountId(0, 0, 2);
+
+  private final ChannelFactory channelFactory = new ChannelFactory();
+  private final PrivateKey operatorKey = PrivateKey.generate();
+  private final Client client = Client.forNetwork(NetworkType.SOLO, channelFactory, null);
+
+  public TestClient() {
+    client.setOperatorAccount(OPERATOR_ACCOUNT_ID, operatorKey);
+  }
+
+  public Client get() {
+    return client;
+  }
+
+  public PrivateKey getOperatorKey() {
+    return operatorKey;
+  }
+
+  @Override
+  public void afterEach(final ExtensionContext context) {
+    client.close(Duration.ZERO);
+    channelFactory.close();
+  }
+}
@@ -0,0 +1,114 @@
+package io.github.manishdait.sdk.account;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class TransferPlannerTest {
+  private static final AccountId PAYER = new AccountId(0, 0, 1001);
+
+  @Test
+  void shouldPackSinglePayerPayoutsIntoFewestTransactions() {
+    final var planner = new TransferPlanner();
+    for (int i = 0; i < 1000; i++) {
+      planner.addPayout(PAYER, new AccountId(0, 0, 5000 + i), 100 + i);
+    }
+
+    final var plan = planner.plan();
+
+    // One payer plus nine payees per transaction
+    assertThat(plan).hasSize(112);
+    assertBalancedAndWithinLimit(plan, 10);
+    assertThat(netTransfers(plan)).isEqualTo(expectedPayroll());
+  }
+
+  @Test
+  void shouldSplitAmountsAcrossTransactionsForSeveralPayers() {
+    final var planner = new TransferPlanner().withMaxTransfersPerTransaction(4);
+    for (int payer = 0; payer < 5; payer++) {
+      for (int payee = 0; payee < 7; payee++) {
+        planner.addPayout(
+            new AccountId(0, 0, 100 + payer), new AccountId(0, 0, 200 + payee), 10 + payer);
+      }
+    }
+
+    final var plan = planner.plan();
+
+    assertBalancedAndWithinLimit(plan, 4);
+    final var net = netTransfers(plan);
+    for (int payer = 0; payer < 5; payer++) {
+      assertThat(net.get(new AccountId(0, 0, 100 + payer))).isEqualTo(-7L * (10 + payer));
+    }
+    for (int payee = 0; payee < 7; payee++) {
+      assertThat(net.get(new AccountId(0, 0, 200 + payee))).isEqualTo(10 + 11 + 12 + 13 + 14);
+    }
+  }
+
+  @Test
+  void shouldNetTransfersPerAccount() {
+    final var payee = new AccountId(0, 0, 2002);
+    final var plan =
+        new TransferPlanner()
+            .addPayout(PAYER, payee, 50)
+            .addPayout(PAYER, payee, 25)
+            .addPayout(payee, PAYER, 75)
+            .plan();
+
+    assertThat(plan).isEmpty();
+  }
+
+  @Test
+  void shouldRejectUnbalancedTransfers() {
+    final var planner = new TransferPlanner().addTransfer(PAYER, -10);
+
+    assertThatThrownBy(planner::plan).isInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  void shouldBuildTransferListFromTransaction() {
+    final var payee = new AccountId(0, 0, 2002);
+    final var proto =
+        new TransferTransaction()
+            .addHbarTransfer(PAYER, -30)
+            .addHbarTransfer(payee, 10)
+            .addHbarTransfer(payee, 20)
+            .toProto();
+
+    assertThat(proto.getTransfers().getAccountAmountsList()).hasSize(2);
+    assertThat(proto.getTransfers().getAccountAmounts(1).getAmount()).isEqualTo(30);
+  }
+
+  private static void assertBalancedAndWithinLimit(
+      final List<TransferTransaction> plan, final int limit) {
+    for (var transaction : plan) {
+      final var transfers = transaction.getHbarTransfers();
+      assertThat(transfers.size()).isBetween(2, limit);
+      assertThat(transfers.values().stream().mapToLong(Long::longValue).sum()).isZero();
+    }
+  }
+
+  private static Map<AccountId, Long> netTransfers(final List<TransferTransaction> plan) {
+    final var net = new HashMap<AccountId, Long>();
+    for (var transaction : plan) {
+      transaction
+          .getHbarTransfers()
+          .forEach((account, amount) -> net.merge(account, amount, Long::sum));
+    }
+    return net;
+  }
+
+  private static Map<AccountId, Long> expectedPayroll() {
+    final var expected = new HashMap<AccountId, Long>();
+    long total = 0;
+    for (int i = 0; i < 1000; i++) {
+      expected.put(new AccountId(0, 0, 5000 + i), 100L + i);
+      total += 100 + i;
+    }
+    expected.put(PAYER, -total);
+    return expected;
+  }
+}
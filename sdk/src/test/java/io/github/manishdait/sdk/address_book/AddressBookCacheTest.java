@@ -0,0 +1,68 @@
+package io.github.manishdait.sdk.address_book;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.manishdait.sdk.account.AccountId;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class AddressBookCacheTest {
+  @TempDir Path dir;
+
+  private static NodeAddress nodeAddress(long nodeId, int lastOctet) {
+    return new NodeAddress(
+        "308201a2300d",
+        nodeId,
+        new AccountId(0, 0, nodeId + 3),
+        "48d8ffe6".getBytes(StandardCharsets.UTF_8),
+        "node " + nodeId,
+        0,
+        List.of(
+            new ServiceEndpoint(new byte[] {10, 0, 0, (byte) lastOctet}, "", 50211),
+            new ServiceEndpoint(new byte[] {10, 0, 0, (byte) lastOctet}, "", 50212)));
+  }
+
+  @Test
+  void shouldRoundTripAddressBook() {
+    var cache = new AddressBookCache(dir.resolve("nested").resolve("testnet.pb"));
+    var addressBook = List.of(nodeAddress(0, 1), nodeAddress(1, 2));
+
+    cache.store(addressBook);
+    var loaded = cache.load();
+
+    assertThat(loaded).hasSize(2);
+    for (int i = 0; i < loaded.size(); i++) {
+      assertThat(loaded.get(i).toProto()).isEqualTo(addressBook.get(i).toProto());
+    }
+  }
+
+  @Test
+  void shouldReplaceCachedAddressBook() throws Exception {
+    var cache = new AddressBookCache(dir.resolve("testnet.pb"));
+
+    cache.store(List.of(nodeAddress(0, 1), nodeAddress(1, 2)));
+    cache.store(List.of(nodeAddress(2, 3)));
+
+    assertThat(cache.load()).extracting(NodeAddress::nodeId).containsExactly(2L);
+    try (var files = Files.list(dir)) {
+      assertThat(files).containsExactly(dir.resolve("testnet.pb"));
+    }
+  }
+
+  @Test
+  void shouldLoadNothingWhenFileIsMissing() {
+    assertThat(new AddressBookCache(dir.resolve("missing.pb")).load()).isEmpty();
+  }
+
+  @Test
+  void shouldLoadNothingWhenFileIsCorrupt() throws Exception {
+    var file = dir.resolve("corrupt.pb");
+    Files.write(file, new byte[] {0x7f, 0x01, 0x02});
+
+    assertThat(new AddressBookCache(file).load()).isEmpty();
+  }
+}
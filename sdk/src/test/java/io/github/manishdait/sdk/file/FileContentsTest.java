@@ -0,0 +1,68 @@
+package io.github.manishdait.sdk.file;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.protobuf.ByteString;
+import java.io.ByteArrayInputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class FileContentsTest {
+  private static final byte[] DATA = randomBytes(10_000);
+
+  @TempDir Path dir;
+
+  @Test
+  void shouldChunkBytes() {
+    assertChunks(FileContents.of(ByteString.copyFrom(DATA)));
+  }
+
+  @Test
+  void shouldChunkStream() {
+    assertChunks(FileContents.of(new ByteArrayInputStream(DATA)));
+  }
+
+  @Test
+  void shouldChunkMappedFileFromPosition() throws Exception {
+    final var file = dir.resolve("contents.bin");
+    final var prefixed = new byte[DATA.length + 100];
+    System.arraycopy(DATA, 0, prefixed, 100, DATA.length);
+    Files.write(file, prefixed);
+
+    try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      channel.position(100);
+      assertChunks(FileContents.of(channel));
+    }
+  }
+
+  @Test
+  void shouldHandOutSingleEmptyChunkForEmptyContents() {
+    final var contents = FileContents.of(new ByteArrayInputStream(new byte[0]));
+
+    assertThat(contents.hasNext()).isFalse();
+    assertThat(contents.next(4096).isEmpty()).isTrue();
+  }
+
+  private static void assertChunks(final FileContents contents) {
+    final List<ByteString> chunks = new ArrayList<>();
+    while (contents.hasNext()) {
+      chunks.add(contents.next(4096));
+    }
+
+    assertThat(chunks).extracting(ByteString::size).containsExactly(4096, 4096, 1808);
+    assertThat(ByteString.copyFrom(chunks).toByteArray()).isEqualTo(DATA);
+  }
+
+  private static byte[] randomBytes(final int size) {
+    final var bytes = new byte[size];
+    new Random(42).nextBytes(bytes);
+    return bytes;
+  }
+}
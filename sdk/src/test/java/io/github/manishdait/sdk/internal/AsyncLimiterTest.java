@@ -0,0 +1,106 @@
+package io.github.manishdait.sdk.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.Test;
+
+public class AsyncLimiterTest {
+  @Test
+  void shouldQueueOperationsBeyondLimit() {
+    var limiter = new AsyncLimiter(2);
+    var operations = new ArrayList<CompletableFuture<Integer>>();
+
+    var results = new ArrayList<CompletableFuture<Integer>>();
+    for (int i = 0; i < 3; i++) {
+      results.add(
+          limiter.submit(
+              () -> {
+                var operation = new CompletableFuture<Integer>();
+                operations.add(operation);
+                return operation;
+              }));
+    }
+
+    assertThat(operations).hasSize(2);
+    assertThat(limiter.getRunning()).isEqualTo(2);
+    assertThat(limiter.getPending()).isEqualTo(1);
+
+    operations.get(0).complete(1);
+
+    assertThat(results.get(0)).isCompletedWithValue(1);
+    assertThat(operations).hasSize(3);
+    assertThat(limiter.getRunning()).isEqualTo(2);
+    assertThat(limiter.getPending()).isZero();
+
+    operations.get(1).complete(2);
+    operations.get(2).completeExceptionally(new IllegalStateException("failed"));
+
+    assertThat(results.get(2)).isCompletedExceptionally();
+    assertThat(limiter.getRunning()).isZero();
+  }
+
+  @Test
+  void shouldReleaseSlotWhenOperationThrows() {
+    var limiter = new AsyncLimiter(1);
+
+    var failed =
+        limiter.<Integer>submit(
+            () -> {
+              throw new IllegalStateException("failed");
+            });
+    var next = limiter.submit(() -> CompletableFuture.completedFuture(1));
+
+    assertThat(failed).isCompletedExceptionally();
+    assertThat(next).isCompletedWithValue(1);
+    assertThat(limiter.getRunning()).isZero();
+  }
+
+  @Test
+  void shouldCountRunningOperationsAgainstChangedLimit() {
+    var limiter = new AsyncLimiter(2);
+    var operations = new ArrayList<CompletableFuture<Integer>>();
+
+    for (int i = 0; i < 4; i++) {
+      limiter.submit(
+          () -> {
+            var operation = new CompletableFuture<Integer>();
+            operations.add(operation);
+            return operation;
+          });
+    }
+
+    limiter.setMaxConcurrency(1);
+    operations.get(0).complete(0);
+
+    assertThat(operations).hasSize(2);
+    assertThat(limiter.getRunning()).isEqualTo(1);
+
+    limiter.setMaxConcurrency(3);
+
+    assertThat(operations).hasSize(4);
+    assertThat(limiter.getRunning()).isEqualTo(3);
+    assertThat(limiter.getPending()).isZero();
+  }
+
+  @Test
+  void shouldDrainLongQueueOfImmediateOperations() {
+    var limiter = new AsyncLimiter(1);
+    var first = new CompletableFuture<Integer>();
+    limiter.submit(() -> first);
+
+    var results = new ArrayList<CompletableFuture<Integer>>();
+    for (int i = 0; i < 10_000; i++) {
+      var value = i;
+      results.add(limiter.submit(() -> CompletableFuture.completedFuture(value)));
+    }
+
+    first.complete(-1);
+
+    assertThat(results).allMatch(result -> result.isDone() && !result.isCompletedExceptionally());
+    assertThat(results.getLast()).isCompletedWithValue(9_999);
+    assertThat(limiter.getRunning()).isZero();
+    assertThat(limiter.getPending()).isZero();
+  }
+}
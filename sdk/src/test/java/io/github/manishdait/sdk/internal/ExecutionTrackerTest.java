@@ -0,0 +1,58 @@
+package io.github.manishdait.sdk.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+public class ExecutionTrackerTest {
+  @Test
+  void shouldCloseImmediatelyWhenIdle() throws InterruptedException {
+    var tracker = new ExecutionTracker();
+
+    assertThat(tracker.close(Duration.ZERO)).isTrue();
+    assertThat(tracker.isClosed()).isTrue();
+  }
+
+  @Test
+  void shouldRejectExecutionsOnceClosed() throws InterruptedException {
+    var tracker = new ExecutionTracker();
+    tracker.close(Duration.ZERO);
+
+    assertThatThrownBy(tracker::enter).isInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  void shouldWaitForInFlightExecutions() throws Exception {
+    var tracker = new ExecutionTracker();
+    tracker.enter();
+
+    var closing =
+        CompletableFuture.supplyAsync(
+            () -> {
+              try {
+                return tracker.close(Duration.ofSeconds(5));
+              } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+              }
+            });
+
+    Thread.sleep(100);
+    assertThat(closing).isNotDone();
+
+    tracker.exit();
+    assertThat(closing.get(5, TimeUnit.SECONDS)).isTrue();
+  }
+
+  @Test
+  void shouldGiveUpAfterTimeout() throws InterruptedException {
+    var tracker = new ExecutionTracker();
+    tracker.enter();
+
+    assertThat(tracker.close(Duration.ofMillis(50))).isFalse();
+    assertThat(tracker.getInFlight()).isEqualTo(1);
+  }
+}
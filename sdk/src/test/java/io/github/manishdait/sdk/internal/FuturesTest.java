@@ -0,0 +1,67 @@
+package io.github.manishdait.sdk.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.Test;
+
+public class FuturesTest {
+  @Test
+  void shouldThrowCauseOfFailure() {
+    var failure = new IllegalStateException("failed");
+
+    assertThatThrownBy(() -> Futures.join(CompletableFuture.failedFuture(failure)))
+        .isSameAs(failure);
+    assertThat(Futures.join(CompletableFuture.completedFuture(1))).isEqualTo(1);
+  }
+
+  @Test
+  void shouldCollectResultsInItemOrder() {
+    var operations = new ArrayList<CompletableFuture<Integer>>();
+
+    var result =
+        Futures.all(
+            2,
+            List.of(1, 2, 3),
+            item -> {
+              var operation = new CompletableFuture<Integer>();
+              operations.add(operation);
+              return operation;
+            });
+
+    assertThat(operations).hasSize(2);
+    operations.get(1).complete(20);
+    operations.get(0).complete(10);
+    operations.get(2).complete(30);
+
+    assertThat(result).isCompletedWithValue(List.of(10, 20, 30));
+  }
+
+  @Test
+  void shouldFailOnFirstFailureWithoutStartingQueuedOperations() {
+    var operations = new ArrayList<CompletableFuture<Integer>>();
+    var failure = new IllegalStateException("failed");
+
+    var result =
+        Futures.all(
+            2,
+            List.of(1, 2, 3, 4),
+            item -> {
+              var operation = new CompletableFuture<Integer>();
+              operations.add(operation);
+              return operation;
+            });
+
+    operations.get(0).completeExceptionally(failure);
+
+    // The failure is reported while the second operation is still running
+    assertThat(result).isCompletedExceptionally();
+    assertThatThrownBy(() -> Futures.join(result)).isSameAs(failure);
+
+    operations.get(1).complete(2);
+    assertThat(operations).hasSize(2);
+  }
+}
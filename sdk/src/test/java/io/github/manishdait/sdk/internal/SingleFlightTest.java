@@ -0,0 +1,93 @@
+package io.github.manishdait.sdk.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+public class SingleFlightTest {
+  @Test
+  void shouldShareResultBetweenConcurrentCallers() throws Exception {
+    var singleFlight = new SingleFlight<String, Integer>();
+    var calls = new AtomicInteger();
+    var started = new CountDownLatch(1);
+    var followersReady = new CountDownLatch(7);
+    var release = new CountDownLatch(1);
+
+    try (var executor = Executors.newFixedThreadPool(8)) {
+      var results = new ArrayList<Future<Integer>>();
+      results.add(
+          executor.submit(
+              () ->
+                  singleFlight.execute(
+                      "key",
+                      () -> {
+                        started.countDown();
+                        await(release);
+                        return calls.incrementAndGet();
+                      })));
+
+      assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+      for (int i = 0; i < 7; i++) {
+        results.add(
+            executor.submit(
+                () -> {
+                  followersReady.countDown();
+                  return singleFlight.execute("key", calls::incrementAndGet);
+                }));
+      }
+
+      assertThat(followersReady.await(5, TimeUnit.SECONDS)).isTrue();
+      Thread.sleep(200);
+      release.countDown();
+
+      for (var result : results) {
+        assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo(1);
+      }
+    }
+
+    assertThat(calls.get()).isEqualTo(1);
+    assertThat(singleFlight.inFlightCount()).isZero();
+  }
+
+  @Test
+  void shouldRunAgainOnceCompleted() {
+    var singleFlight = new SingleFlight<String, Integer>();
+    var calls = new AtomicInteger();
+
+    singleFlight.execute("key", calls::incrementAndGet);
+    singleFlight.execute("key", calls::incrementAndGet);
+
+    assertThat(calls.get()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldPropagateFailure() {
+    var singleFlight = new SingleFlight<String, Integer>();
+
+    assertThatThrownBy(
+            () ->
+                singleFlight.execute(
+                    "key",
+                    () -> {
+                      throw new IllegalStateException("boom");
+                    }))
+        .isInstanceOf(IllegalStateException.class);
+    assertThat(singleFlight.inFlightCount()).isZero();
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      throw new RuntimeException(e);
+    }
+  }
+}
@@ -0,0 +1,38 @@
+package io.github.manishdait.sdk.internal.key;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+import com.hedera.hashgraph.sdk.proto.SignaturePair;
+import io.github.manishdait.sdk.key.KeyType;
+import io.github.manishdait.sdk.key.PrivateKey;
+import org.junit.jupiter.api.Test;
+
+public class SignatureUtilsTest {
+  private static final byte[] MESSAGE = "hello".getBytes();
+
+  @Test
+  void shouldPlaceEd25519SignatureInEd25519Field() {
+    var privateKey = PrivateKey.generate(KeyType.ED25519);
+    var signature = privateKey.sign(MESSAGE);
+
+    var pair = SignatureUtils.toSignaturePair(privateKey.getPublicKey(), signature);
+
+    assertThat(pair.getSignatureCase()).isEqualTo(SignaturePair.SignatureCase.ED25519);
+    assertThat(pair.getEd25519().toByteArray()).isEqualTo(signature);
+    assertThat(pair.getPubKeyPrefix().toByteArray())
+        .isEqualTo(privateKey.getPublicKey().getBytes());
+  }
+
+  @Test
+  void shouldPlaceEcdsaSignatureInEcdsaField() {
+    var privateKey = PrivateKey.generate(KeyType.ECDSA);
+    var signature = privateKey.sign(MESSAGE);
+
+    var pair = SignatureUtils.toSignaturePair(privateKey.getPublicKey(), signature);
+
+    assertThat(pair.getSignatureCase()).isEqualTo(SignaturePair.SignatureCase.ECDSA_SECP256K1);
+    assertThat(pair.getECDSASecp256K1().toByteArray()).isEqualTo(signature);
+    assertThat(pair.getPubKeyPrefix().toByteArray())
+        .isEqualTo(privateKey.getPublicKey().getBytes());
+  }
+}
@@ -0,0 +1,74 @@
+package io.github.manishdait.sdk.internal.network;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.cert.CertificateException;
+import java.security.cert.CertificateFactory;
+import java.security.cert.X509Certificate;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+public class NodeCertificateTrustManagerTest {
+  private static final String CERTIFICATE_PEM =
+      ""
+          + "-----BEGIN CERTIFICATE-----\n"
+          + "MIIBdTCCARugAwIBAgIUS36G9n8qCma227fndmzGylxCNwcwCgYIKoZIzj0EAwIw\n"
+          + "DzENMAsGA1UEAwwEbm9kZTAgFw0yNjEwMTgyMTE2MTRaGA8yMTI2MDkyNDIxMTYx\n"
+          + "NFowDzENMAsGA1UEAwwEbm9kZTBZMBMGByqGSM49AgEGCCqGSM49AwEHA0IABJ/P\n"
+          + "8dOFhdkfIXAXb2F+bUHcPQ4silKtp7Tnr9VwgzQwBSLRBdyRGOcWtPf1gx8pZori\n"
+          + "UeSAySHPaU20jdcHHc6jUzBRMB0GA1UdDgQWBBRpbTgg3SCmZjpGvALA0kqgKsUs\n"
+          + "EjAfBgNVHSMEGDAWgBRpbTgg3SCmZjpGvALA0kqgKsUsEjAPBgNVHRMBAf8EBTAD\n"
+          + "AQH/MAoGCCqGSM49BAMCA0gAMEUCIFf+4/qrgSpqVFezJYDeeUgRIzbSUte4cpkx\n"
+          + "B5KoVYU3AiEAuiYal5mlrWqLDahIuQFRFkLpXhRp2tr5sL9yDveFa9Y=\n"
+          + "-----END CERTIFICATE-----\n";
+
+  // sha384sum of the PEM file above
+  private static final String CERTIFICATE_HASH =
+      "48d8ffe68da23670f0255e50cccd2124873027c534492b24bcbfa560c79ecd6b0eecf909f8be32c19e6eef0ca950cb56";
+
+  private static X509Certificate certificate;
+
+  @BeforeAll
+  static void setup() throws CertificateException {
+    certificate =
+        (X509Certificate)
+            CertificateFactory.getInstance("X.509")
+                .generateCertificate(
+                    new ByteArrayInputStream(CERTIFICATE_PEM.getBytes(StandardCharsets.UTF_8)));
+  }
+
+  @Test
+  void shouldHashCertificateInPemFormat() throws CertificateException {
+    assertThat(NodeCertificateTrustManager.hash(certificate)).isEqualTo(CERTIFICATE_HASH);
+  }
+
+  @Test
+  void shouldTrustCertificateMatchingHash() {
+    var trustManager =
+        new NodeCertificateTrustManager(CERTIFICATE_HASH.getBytes(StandardCharsets.UTF_8));
+
+    assertThatCode(
+            () -> trustManager.checkServerTrusted(new X509Certificate[] {certificate}, "ECDHE"))
+        .doesNotThrowAnyException();
+  }
+
+  @Test
+  void shouldRejectCertificateNotMatchingHash() {
+    var trustManager =
+        new NodeCertificateTrustManager("00".repeat(48).getBytes(StandardCharsets.UTF_8));
+
+    assertThatThrownBy(
+            () -> trustManager.checkServerTrusted(new X509Certificate[] {certificate}, "ECDHE"))
+        .isInstanceOf(CertificateException.class);
+  }
+
+  @Test
+  void shouldRejectEmptyHash() {
+    assertThatThrownBy(() -> new NodeCertificateTrustManager(new byte[0]))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
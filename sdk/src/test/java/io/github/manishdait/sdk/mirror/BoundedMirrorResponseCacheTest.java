@@ -0,0 +1,92 @@
+package io.github.manishdait.sdk.mirror;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class BoundedMirrorResponseCacheTest {
+  @TempDir Path dir;
+
+  private static URI uri(String path) {
+    return URI.create("https://mirror.example" + path);
+  }
+
+  private static CachedResponse response(int size, boolean pinned) {
+    return new CachedResponse(new byte[size], "\"etag\"", 0, pinned);
+  }
+
+  @Test
+  void shouldEvictLeastRecentlyUsedEntries() {
+    var cache = new BoundedMirrorResponseCache(100);
+
+    cache.put(uri("/a"), response(40, false));
+    cache.put(uri("/b"), response(40, false));
+    cache.get(uri("/a"));
+    cache.put(uri("/c"), response(40, false));
+
+    assertThat(cache.get(uri("/a"))).isNotNull();
+    assertThat(cache.get(uri("/b"))).isNull();
+    assertThat(cache.get(uri("/c"))).isNotNull();
+    assertThat(cache.getHeapBytes()).isEqualTo(80);
+  }
+
+  @Test
+  void shouldEvictPinnedEntriesLast() {
+    var cache = new BoundedMirrorResponseCache(100);
+
+    cache.put(uri("/pinned"), response(40, true));
+    cache.put(uri("/a"), response(40, false));
+    cache.put(uri("/b"), response(40, false));
+
+    assertThat(cache.get(uri("/pinned"))).isNotNull();
+    assertThat(cache.get(uri("/a"))).isNull();
+  }
+
+  @Test
+  void shouldSpillEvictedEntriesToDisk() {
+    var cache = new BoundedMirrorResponseCache(100, dir);
+    var spilled = new CachedResponse(new byte[] {1, 2, 3}, "\"v1\"", 42, false);
+
+    cache.put(uri("/blocks/1"), spilled);
+    cache.put(uri("/big"), response(100, false));
+
+    assertThat(cache.size()).isEqualTo(1);
+
+    var restored = new BoundedMirrorResponseCache(100, dir).get(uri("/blocks/1"));
+    assertThat(restored).isNotNull();
+    assertThat(restored.body()).containsExactly(1, 2, 3);
+    assertThat(restored.etag()).isEqualTo("\"v1\"");
+    assertThat(restored.expiresAt()).isEqualTo(42);
+    assertThat(restored.pinned()).isFalse();
+  }
+
+  @Test
+  void shouldSkipResponsesLargerThanHeap() {
+    var cache = new BoundedMirrorResponseCache(10);
+
+    cache.put(uri("/huge"), response(11, false));
+
+    assertThat(cache.size()).isZero();
+  }
+
+  @Test
+  void shouldClearSpilledEntries() throws Exception {
+    var cache = new BoundedMirrorResponseCache(100, dir);
+
+    cache.put(uri("/blocks/1"), response(60, false));
+    cache.put(uri("/blocks/2"), response(60, false));
+    Files.writeString(dir.resolve("unrelated.txt"), "kept");
+
+    cache.clear();
+
+    assertThat(cache.size()).isZero();
+    assertThat(cache.getHeapBytes()).isZero();
+    assertThat(cache.get(uri("/blocks/1"))).isNull();
+    assertThat(new BoundedMirrorResponseCache(100, dir).get(uri("/blocks/1"))).isNull();
+    assertThat(dir.resolve("unrelated.txt")).exists();
+  }
+}
@@ -0,0 +1,244 @@
+package io.github.manishdait.sdk.mirror;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.github.manishdait.sdk.exception.MirrorNodeException;
+import io.github.manishdait.sdk.mirror.StubMirrorNode.Response;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class MirrorNodeRestClientTest {
+  record MirrorAccount(String account, String evmAddress, Balance balance) {}
+
+  record Balance(long balance, long timestamp) {}
+
+  record MirrorTransaction(String transactionId) {}
+
+  private static Response transactionsPage(int page, int lastPage, String... transactionIds) {
+    var items =
+        Arrays.stream(transactionIds)
+            .map(id -> "{\"transaction_id\":\"" + id + "\"}")
+            .collect(Collectors.joining(","));
+    var next = page < lastPage ? "\"/api/v1/transactions?page=" + (page + 1) + "\"" : "null";
+    return Response.json("{\"transactions\":[" + items + "],\"links\":{\"next\":" + next + "}}");
+  }
+
+  private StubMirrorNode paginatedMirrorNode() {
+    return mirrorNode.handler(
+        request ->
+            switch (request.path()) {
+              case "/api/v1/transactions" -> transactionsPage(1, 3, "a", "b");
+              case "/api/v1/transactions?page=2" -> transactionsPage(2, 3, "c");
+              case "/api/v1/transactions?page=3" -> transactionsPage(3, 3, "d", "e");
+              default -> Response.status(404);
+            });
+  }
+
+  private StubMirrorNode mirrorNode;
+  private MirrorNodeRestClient client;
+
+  @BeforeEach
+  void setup() throws Exception {
+    mirrorNode = new StubMirrorNode();
+    client =
+        new MirrorNodeRestClient(mirrorNode.uri())
+            .withMinBackoff(Duration.ofMillis(10))
+            .withMaxBackoff(Duration.ofMillis(50));
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    mirrorNode.close();
+  }
+
+  @Test
+  void shouldParseGzipResponseIntoRecord() throws Exception {
+    mirrorNode.enqueue(
+        Response.gzipJson(
+            """
+            {"account":"0.0.2","evm_address":"0x02","balance":{"balance":100,"timestamp":7},
+             "unknown_field":true}
+            """));
+
+    var account =
+        client.sendAsync("/api/v1/accounts/0.0.2", MirrorAccount.class).get(10, TimeUnit.SECONDS);
+
+    assertThat(account).isEqualTo(new MirrorAccount("0.0.2", "0x02", new Balance(100, 7)));
+    assertThat(mirrorNode.requests())
+        .singleElement()
+        .satisfies(
+            request -> {
+              assertThat(request.path()).isEqualTo("/api/v1/accounts/0.0.2");
+              assertThat(request.headers()).containsEntry("accept-encoding", "gzip");
+            });
+  }
+
+  @Test
+  void shouldParseIntoJsonTree() {
+    mirrorNode.enqueue(Response.json("{\"nodes\":[{\"node_id\":3}]}"));
+
+    var tree = client.send("/api/v1/network/nodes", JsonNode.class);
+
+    assertThat(tree.at("/nodes/0/node_id").asInt()).isEqualTo(3);
+  }
+
+  @Test
+  void shouldRetryThrottledRequests() {
+    mirrorNode
+        .enqueue(Response.status(429))
+        .enqueue(Response.status(503))
+        .enqueue(Response.json("{\"account\":\"0.0.2\"}"));
+
+    var account = client.send("/api/v1/accounts/0.0.2", MirrorAccount.class);
+
+    assertThat(account.account()).isEqualTo("0.0.2");
+    assertThat(mirrorNode.requests()).hasSize(3);
+  }
+
+  @Test
+  void shouldFailWithoutRetryOnClientError() {
+    mirrorNode.enqueue(Response.status(404));
+
+    assertThatThrownBy(() -> client.send("/api/v1/accounts/0.0.9", MirrorAccount.class))
+        .isInstanceOfSatisfying(
+            MirrorNodeException.class,
+            e -> {
+              assertThat(e.getStatusCode()).isEqualTo(404);
+              assertThat(e.isRetryable()).isFalse();
+            });
+    assertThat(mirrorNode.requests()).hasSize(1);
+  }
+
+  @Test
+  void shouldGiveUpAfterMaxAttempts() {
+    mirrorNode.handler(request -> Response.status(503));
+    client.withMaxAttempts(2);
+
+    assertThatThrownBy(() -> client.send("/api/v1/accounts/0.0.2", MirrorAccount.class))
+        .isInstanceOfSatisfying(
+            MirrorNodeException.class,
+            e -> {
+              assertThat(e.getStatusCode()).isEqualTo(503);
+              assertThat(e.isRetryable()).isTrue();
+            });
+    assertThat(mirrorNode.requests()).hasSize(2);
+  }
+
+  @Test
+  void shouldReportInvalidJson() {
+    mirrorNode.enqueue(Response.json("{not json"));
+
+    assertThatThrownBy(() -> client.send("/api/v1/accounts/0.0.2", MirrorAccount.class))
+        .isInstanceOfSatisfying(
+            MirrorNodeException.class, e -> assertThat(e.isRetryable()).isFalse());
+  }
+
+  @Test
+  void shouldStreamItemsAcrossPages() {
+    paginatedMirrorNode();
+
+    try (var transactions =
+        client.stream("/api/v1/transactions", "transactions", MirrorTransaction.class)) {
+      assertThat(transactions.map(MirrorTransaction::transactionId))
+          .containsExactly("a", "b", "c", "d", "e");
+    }
+    assertThat(mirrorNode.requests()).hasSize(3);
+  }
+
+  @Test
+  void shouldPrefetchNextPageWhileCurrentPageIsProcessed() throws Exception {
+    paginatedMirrorNode();
+
+    try (var pages =
+        client.pages("/api/v1/transactions", "transactions", MirrorTransaction.class, 1)) {
+      var first = pages.next();
+
+      assertThat(first.items())
+          .extracting(MirrorTransaction::transactionId)
+          .containsExactly("a", "b");
+      assertThat(first.hasNext()).isTrue();
+
+      var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+      while (mirrorNode.requests().size() < 2 && System.nanoTime() < deadline) {
+        Thread.sleep(10);
+      }
+      assertThat(mirrorNode.requests()).hasSize(2);
+    }
+  }
+
+  @Test
+  void shouldStopFollowingPagesWhenStreamIsClosed() throws Exception {
+    paginatedMirrorNode();
+
+    try (var transactions =
+        client.stream("/api/v1/transactions", "transactions", MirrorTransaction.class)) {
+      assertThat(transactions.limit(1).toList()).hasSize(1);
+    }
+
+    Thread.sleep(200);
+    assertThat(mirrorNode.requests()).hasSizeLessThanOrEqualTo(2);
+  }
+
+  @Test
+  void shouldServeFreshResponsesFromCache() {
+    client.withResponseCache(new BoundedMirrorResponseCache(1024 * 1024));
+    mirrorNode.enqueue(
+        Response.json("{\"account\":\"0.0.2\"}", Map.of("Cache-Control", "public, max-age=60")));
+
+    var first = client.send("/api/v1/accounts/0.0.2", MirrorAccount.class);
+    var second = client.send("/api/v1/accounts/0.0.2", MirrorAccount.class);
+
+    assertThat(second).isEqualTo(first);
+    assertThat(mirrorNode.requests()).hasSize(1);
+  }
+
+  @Test
+  void shouldRevalidateExpiredResponsesWithEtag() {
+    client.withResponseCache(new BoundedMirrorResponseCache(1024 * 1024));
+    mirrorNode
+        .enqueue(
+            Response.json(
+                "{\"account\":\"0.0.2\"}", Map.of("Cache-Control", "no-cache", "ETag", "\"v1\"")))
+        .enqueue(Response.notModified("\"v1\""));
+
+    client.send("/api/v1/accounts/0.0.2", MirrorAccount.class);
+    var revalidated = client.send("/api/v1/accounts/0.0.2", MirrorAccount.class);
+
+    assertThat(revalidated.account()).isEqualTo("0.0.2");
+    assertThat(mirrorNode.requests()).hasSize(2);
+    assertThat(mirrorNode.requests().get(1).headers()).containsEntry("if-none-match", "\"v1\"");
+  }
+
+  @Test
+  void shouldPinFinalResources() {
+    client.withResponseCache(new BoundedMirrorResponseCache(1024 * 1024));
+    mirrorNode.handler(request -> Response.json("{\"transactions\":[]}"));
+
+    client.send("/api/v1/transactions/0.0.2-1700000000-000000001", JsonNode.class);
+    client.send("/api/v1/transactions/0.0.2-1700000000-000000001", JsonNode.class);
+    client.send("/api/v1/transactions?limit=1", JsonNode.class);
+    client.send("/api/v1/transactions?limit=1", JsonNode.class);
+
+    assertThat(mirrorNode.requests()).hasSize(3);
+  }
+
+  @Test
+  void shouldNotCacheNoStoreResponses() {
+    client.withResponseCache(new BoundedMirrorResponseCache(1024 * 1024));
+    mirrorNode.handler(
+        request -> Response.json("{\"blocks\":[]}", Map.of("Cache-Control", "no-store")));
+
+    client.send("/api/v1/blocks/10", JsonNode.class);
+    client.send("/api/v1/blocks/10", JsonNode.class);
+
+    assertThat(mirrorNode.requests()).hasSize(2);
+  }
+}
@@ -0,0 +1,141 @@
+package io.github.manishdait.sdk.mirror;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+import java.util.zip.GZIPOutputStream;
+
+/** Minimal HTTP/1.1 server answering mirror node REST requests from a handler. */
+final class StubMirrorNode implements AutoCloseable {
+  record Request(String path, Map<String, String> headers) {}
+
+  record Response(int status, Map<String, String> headers, byte[] body) {
+    static Response json(final String body) {
+      return json(body, Map.of());
+    }
+
+    static Response json(final String body, final Map<String, String> headers) {
+      return new Response(200, headers, body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static Response notModified(final String etag) {
+      return new Response(304, Map.of("ETag", etag), new byte[0]);
+    }
+
+    static Response gzipJson(final String body) {
+      try {
+        var out = new ByteArrayOutputStream();
+        try (var gzip = new GZIPOutputStream(out)) {
+          gzip.write(body.getBytes(StandardCharsets.UTF_8));
+        }
+        return new Response(200, Map.of("Content-Encoding", "gzip"), out.toByteArray());
+      } catch (IOException e) {
+        throw new RuntimeException(e);
+      }
+    }
+
+    static Response status(final int status) {
+      return new Response(status, Map.of(), "{}".getBytes(StandardCharsets.UTF_8));
+    }
+  }
+
+  private final ServerSocket serverSocket;
+  private final List<Request> requests = new CopyOnWriteArrayList<>();
+  private final ConcurrentLinkedQueue<Response> queued = new ConcurrentLinkedQueue<>();
+  private volatile Function<Request, Response> handler = request -> Response.status(404);
+
+  StubMirrorNode() throws IOException {
+    this.serverSocket = new ServerSocket(0);
+    Thread.ofVirtual().start(this::acceptLoop);
+  }
+
+  URI uri() {
+    return URI.create("http://localhost:" + serverSocket.getLocalPort());
+  }
+
+  List<Request> requests() {
+    return requests;
+  }
+
+  StubMirrorNode enqueue(final Response response) {
+    queued.add(response);
+    return this;
+  }
+
+  StubMirrorNode handler(final Function<Request, Response> handler) {
+    this.handler = handler;
+    return this;
+  }
+
+  private void acceptLoop() {
+    while (!serverSocket.isClosed()) {
+      try {
+        final var socket = serverSocket.accept();
+        Thread.ofVirtual().start(() -> serve(socket));
+      } catch (IOException e) {
+        return;
+      }
+    }
+  }
+
+  private void serve(final Socket socket) {
+    try (socket) {
+      final var reader =
+          new BufferedReader(
+              new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+      final var requestLine = reader.readLine();
+      if (requestLine == null) {
+        return;
+      }
+
+      final var headers = new LinkedHashMap<String, String>();
+      String line;
+      while ((line = reader.readLine()) != null && !line.isEmpty()) {
+        final var separator = line.indexOf(':');
+        headers.put(
+            line.substring(0, separator).trim().toLowerCase(),
+            line.substring(separator + 1).trim());
+      }
+
+      final var request = new Request(requestLine.split(" ")[1], headers);
+      requests.add(request);
+
+      final var queuedResponse = queued.poll();
+      final var response = queuedResponse != null ? queuedResponse : handler.apply(request);
+      write(socket.getOutputStream(), response);
+    } catch (IOException e) {
+      // The client went away
+    }
+  }
+
+  private static void write(final OutputStream out, final Response response) throws IOException {
+    final var head = new ArrayList<String>();
+    head.add("HTTP/1.1 " + response.status() + " Stub");
+    head.add("Content-Type: application/json");
+    head.add("Content-Length: " + response.body().length);
+    head.add("Connection: close");
+    response.headers().forEach((name, value) -> head.add(name + ": " + value));
+
+    out.write((String.join("\r\n", head) + "\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+    out.write(response.body());
+    out.flush();
+  }
+
+  @Override
+  public void close() throws IOException {
+    serverSocket.close();
+  }
+}
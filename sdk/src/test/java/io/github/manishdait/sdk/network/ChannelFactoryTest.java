@@ -0,0 +1,58 @@
+package io.github.manishdait.sdk.network;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+public class ChannelFactoryTest {
+  @Test
+  void shouldCreateChannelsWithSharedSettings() {
+    var factory =
+        new ChannelFactory()
+            .withEventLoopThreads(1)
+            .withOffloadThreads(0)
+            .withKeepAliveTime(Duration.ofMinutes(1))
+            .withIdleTimeout(Duration.ofMinutes(1))
+            .withFlowControlWindow(2 * 1024 * 1024)
+            .withMaxInboundMessageSize(8 * 1024 * 1024);
+
+    var first = factory.createChannel("localhost:50211", true);
+    var second = factory.createChannel("localhost:50212", true);
+
+    assertThat(first).isNotSameAs(second);
+    assertThat(first.isShutdown()).isFalse();
+
+    first.shutdownNow();
+    second.shutdownNow();
+  }
+
+  @Test
+  void shouldCreatePinnedTlsChannel() {
+    var factory = new ChannelFactory().withTransportSecurity(true);
+    var certHash = "00".repeat(48).getBytes(StandardCharsets.UTF_8);
+
+    var channel = factory.createNodeTlsChannel("localhost:50212", certHash);
+
+    assertThat(factory.isTransportSecurity()).isTrue();
+    assertThat(channel.isShutdown()).isFalse();
+
+    channel.shutdownNow();
+  }
+
+  @Test
+  void shouldRejectInvalidSettings() {
+    var factory = new ChannelFactory();
+
+    assertThatThrownBy(() -> factory.withEventLoopThreads(0))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> factory.withOffloadThreads(-1))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> factory.withFlowControlWindow(0))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> factory.withMaxInboundMessageSize(0))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -0,0 +1,206 @@
+package io.github.manishdait.sdk.network;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.manishdait.sdk.account.AccountId;
+import io.github.manishdait.sdk.address_book.NodeAddress;
+import io.github.manishdait.sdk.address_book.ServiceEndpoint;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class NetworkTest {
+  private static final AccountId NODE_3 = new AccountId(0, 0, 3);
+  private static final AccountId NODE_4 = new AccountId(0, 0, 4);
+
+  private static NodeAddress nodeAddress(AccountId accountId, int port, int... lastOctets) {
+    return nodeAddress(accountId, new byte[0], port, lastOctets);
+  }
+
+  private static NodeAddress nodeAddress(
+      AccountId accountId, byte[] certHash, int port, int... lastOctets) {
+    var endpoints =
+        Arrays.stream(lastOctets)
+            .mapToObj(octet -> new ServiceEndpoint(new byte[] {10, 0, 0, (byte) octet}, "", port))
+            .toList();
+    return new NodeAddress("", accountId.num() - 3, accountId, certHash, "", 0, endpoints);
+  }
+
+  @Test
+  void shouldGroupEveryProxyByNodeAccount() {
+    var network = new Network(NetworkType.SOLO);
+    var proxyA = new Node("10.0.0.1", 50211, NODE_3);
+    var proxyB = new Node("10.0.0.2", 50211, NODE_3);
+    var other = new Node("10.0.0.3", 50211, NODE_4);
+
+    network.setNodes(List.of(proxyA, other, proxyB));
+
+    assertThat(network.getNodeAccountIds()).containsExactly(NODE_3, NODE_4);
+    assertThat(network.getProxies(NODE_3)).containsExactly(proxyA, proxyB);
+    assertThat(network.getProxies(NODE_4)).containsExactly(other);
+    assertThat(network.getNodes()).containsExactlyInAnyOrder(proxyA, proxyB, other);
+  }
+
+  @Test
+  void shouldSpreadRequestsAcrossProxies() {
+    var network = new Network(NetworkType.SOLO);
+    var proxyA = new Node("10.0.0.1", 50211, NODE_3);
+    var proxyB = new Node("10.0.0.2", 50211, NODE_3);
+    network.setNodes(List.of(proxyA, proxyB));
+
+    var selected = new HashSet<Node>();
+    for (int i = 0; i < 4; i++) {
+      var node = network.getNode();
+      assertThat(node.getAccountId()).isEqualTo(NODE_3);
+      selected.add(node);
+    }
+
+    assertThat(selected).containsExactlyInAnyOrder(proxyA, proxyB);
+  }
+
+  @Test
+  void shouldFailOverToHealthyProxy() {
+    var network = new Network(NetworkType.SOLO);
+    var proxyA = new Node("10.0.0.1", 50211, NODE_3);
+    var proxyB = new Node("10.0.0.2", 50211, NODE_3);
+    network.setNodes(List.of(proxyA, proxyB));
+
+    proxyA.increaseBackoff();
+
+    for (int i = 0; i < 4; i++) {
+      assertThat(network.getNode()).isSameAs(proxyB);
+    }
+    assertThat(network.getHealthyNodes()).containsExactly(proxyB);
+  }
+
+  @Test
+  void shouldUseSoonestReadmittedProxyWhenAllAreBackedOff() {
+    var network = new Network(NetworkType.SOLO);
+    var proxyA = new Node("10.0.0.1", 50211, NODE_3);
+    var proxyB = new Node("10.0.0.2", 50211, NODE_3);
+    network.setNodes(List.of(proxyA, proxyB));
+
+    proxyA.increaseBackoff();
+    proxyA.increaseBackoff();
+    proxyB.increaseBackoff();
+
+    assertThat(network.getNode()).isSameAs(proxyB);
+  }
+
+  @Test
+  void shouldSkipNodeAccountsWithoutHealthyProxies() {
+    var network = new Network(NetworkType.SOLO);
+    var node3 = new Node("10.0.0.1", 50211, NODE_3);
+    var node4 = new Node("10.0.0.2", 50211, NODE_4);
+    network.setNodes(List.of(node3, node4));
+
+    node4.increaseBackoff();
+
+    assertThat(network.selectNode()).isSameAs(node3);
+  }
+
+  @Test
+  void shouldSelectNodeOfAccountNotTriedYet() {
+    var network = new Network(NetworkType.SOLO);
+    var node3 = new Node("10.0.0.1", 50211, NODE_3);
+    var node4 = new Node("10.0.0.2", 50211, NODE_4);
+    var node5 = new Node("10.0.0.3", 50211, new AccountId(0, 0, 5));
+    network.setNodes(List.of(node3, node4, node5));
+
+    node4.increaseBackoff();
+
+    assertThat(network.selectNodeExcluding(List.of(NODE_3))).isSameAs(node5);
+    assertThat(network.selectNodeExcluding(List.of(NODE_3, node5.getAccountId()))).isSameAs(node4);
+    assertThat(network.selectNodeExcluding(network.getNodeAccountIds())).isNull();
+  }
+
+  @Test
+  void shouldKeepExistingNodesForUnchangedEndpoints() {
+    var network = new Network(NetworkType.SOLO);
+    var kept = new Node("10.0.0.1", 50211, NODE_3);
+    network.setNodes(List.of(kept, new Node("10.0.0.2", 50211, NODE_4)));
+
+    network.setNodes(
+        List.of(new Node("10.0.0.1", 50211, NODE_3), new Node("10.0.0.5", 50211, NODE_4)));
+
+    assertThat(network.getProxies(NODE_3)).singleElement().isSameAs(kept);
+    assertThat(network.getProxies(NODE_4))
+        .singleElement()
+        .extracting(Node::getAddress)
+        .isEqualTo("10.0.0.5");
+  }
+
+  @Test
+  void shouldCloseNodesThatLeftTheNetwork() {
+    var network = new Network(NetworkType.SOLO);
+    var removed = new Node("localhost", 1, NODE_4);
+    network.setNodes(List.of(new Node("localhost", 1, NODE_3), removed));
+
+    try (var factory = new ChannelFactory()) {
+      var pool = (NodeChannelPool) removed.getChannel(factory);
+
+      network.setNodes(List.of(new Node("localhost", 1, NODE_3)));
+
+      assertThat(pool.isShutdown()).isTrue();
+      assertThat(network.getNodeAccountIds()).containsExactly(NODE_3);
+    }
+  }
+
+  @Test
+  void shouldAdmitNodeAccountsAsTheyArrive() {
+    var network = new Network(NetworkType.TESTNET);
+
+    assertThat(network.admit(nodeAddress(NODE_3, 50211, 1, 2), false)).isTrue();
+    assertThat(network.getNodeAccountIds()).containsExactly(NODE_3);
+    assertThat(network.getNode().getAccountId()).isEqualTo(NODE_3);
+
+    assertThat(network.admit(nodeAddress(NODE_4, 50211, 3), false)).isTrue();
+    assertThat(network.getNodeAccountIds()).containsExactly(NODE_3, NODE_4);
+    assertThat(network.getNodes()).hasSize(3);
+  }
+
+  @Test
+  void shouldReplaceProxiesOfReadmittedNodeAccount() {
+    var network = new Network(NetworkType.TESTNET);
+    network.admit(nodeAddress(NODE_3, 50211, 1, 2), false);
+    var kept = network.getProxies(NODE_3).getFirst();
+
+    network.admit(nodeAddress(NODE_3, 50211, 1, 5), false);
+
+    assertThat(network.getProxies(NODE_3))
+        .extracting(Node::getAddress)
+        .containsExactly("10.0.0.1", "10.0.0.5");
+    assertThat(network.getProxies(NODE_3).getFirst()).isSameAs(kept);
+  }
+
+  @Test
+  void shouldNotAdmitNodeAccountWithoutEndpointOnPort() {
+    var network = new Network(NetworkType.TESTNET);
+
+    assertThat(network.admit(nodeAddress(NODE_3, 50212, 1), false)).isFalse();
+    assertThat(network.getNodes()).isEmpty();
+  }
+
+  @Test
+  void shouldNotAdmitTlsNodeWithoutCertHash() {
+    var network = new Network(NetworkType.TESTNET);
+
+    assertThat(network.admit(nodeAddress(NODE_3, 50212, 1), true)).isFalse();
+    assertThat(network.admit(nodeAddress(NODE_4, new byte[] {1, 2, 3}, 50212, 2), true)).isTrue();
+    assertThat(network.getNodes())
+        .singleElement()
+        .satisfies(node -> assertThat(node.isTransportSecurity()).isTrue());
+  }
+
+  @Test
+  void shouldRejectNodeSelectionWithoutNodes() {
+    var network = new Network(NetworkType.SOLO);
+
+    assertThatThrownBy(network::getNode)
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessage("network has no nodes");
+    assertThatThrownBy(network::selectNode).isInstanceOf(IllegalStateException.class);
+  }
+}
@@ -0,0 +1,158 @@
+package io.github.manishdait.sdk.network;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.grpc.CallOptions;
+import io.grpc.ClientCall;
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class NodeChannelPoolTest {
+  private final List<ManagedChannel> created = new ArrayList<>();
+
+  private NodeChannelPool newPool(final int maxChannels, final int maxStreamsPerChannel) {
+    return new NodeChannelPool(
+        () -> {
+          var channel = ManagedChannelBuilder.forTarget("localhost:1").usePlaintext().build();
+          created.add(channel);
+          return channel;
+        },
+        maxChannels,
+        maxStreamsPerChannel);
+  }
+
+  @AfterEach
+  void tearDown() throws InterruptedException {
+    for (var channel : created) {
+      channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+    }
+  }
+
+  @Test
+  void shouldOpenChannelsAsLoadGrows() {
+    var pool = newPool(3, 2);
+
+    var acquired = new ArrayList<NodeChannelPool.Subchannel>();
+    for (int i = 0; i < 6; i++) {
+      acquired.add(pool.acquire());
+    }
+
+    assertThat(pool.size()).isEqualTo(3);
+    assertThat(acquired).extracting(NodeChannelPool.Subchannel::getOutstanding).containsOnly(2);
+  }
+
+  @Test
+  void shouldNotExceedMaxChannels() {
+    var pool = newPool(2, 1);
+
+    for (int i = 0; i < 5; i++) {
+      pool.acquire();
+    }
+
+    assertThat(pool.size()).isEqualTo(2);
+    assertThat(created).hasSize(2);
+  }
+
+  @Test
+  void shouldRetireIdleChannelsWhenLoadDrops() {
+    var pool = newPool(4, 2);
+
+    var acquired = new ArrayList<NodeChannelPool.Subchannel>();
+    for (int i = 0; i < 8; i++) {
+      acquired.add(pool.acquire());
+    }
+    assertThat(pool.size()).isEqualTo(4);
+
+    for (var subchannel : acquired) {
+      pool.release(subchannel);
+    }
+
+    assertThat(pool.size()).isEqualTo(1);
+    assertThat(created.stream().filter(ManagedChannel::isShutdown)).hasSize(3);
+  }
+
+  @Test
+  void shouldRejectCallsAfterShutdown() throws InterruptedException {
+    var pool = newPool(2, 1);
+    pool.acquire();
+
+    pool.shutdownNow();
+
+    assertThat(pool.isShutdown()).isTrue();
+    assertThat(pool.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(pool.isTerminated()).isTrue();
+    assertThatThrownBy(pool::acquire).isInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  void shouldNotHoldChannelForCallThatNeverStarts() {
+    var pool = newPool(2, 1);
+
+    for (int i = 0; i < 5; i++) {
+      pool.newCall(StubMethod.DESCRIPTOR, CallOptions.DEFAULT);
+    }
+
+    assertThat(pool.size()).isZero();
+    assertThat(created).isEmpty();
+  }
+
+  @Test
+  void shouldCloseCallCancelledBeforeStartWithoutAcquiring() {
+    var pool = newPool(2, 1);
+    var closed = new AtomicReference<Status>();
+
+    var call = pool.newCall(StubMethod.DESCRIPTOR, CallOptions.DEFAULT);
+    call.cancel("not needed", null);
+    call.start(
+        new ClientCall.Listener<>() {
+          @Override
+          public void onClose(Status status, Metadata trailers) {
+            closed.set(status);
+          }
+        },
+        new Metadata());
+
+    assertThat(closed.get().getCode()).isEqualTo(Status.Code.CANCELLED);
+    assertThat(pool.size()).isZero();
+  }
+
+  private static final class StubMethod {
+    private static final MethodDescriptor<byte[], byte[]> DESCRIPTOR =
+        MethodDescriptor.<byte[], byte[]>newBuilder()
+            .setType(MethodDescriptor.MethodType.UNARY)
+            .setFullMethodName("test/Stub")
+            .setRequestMarshaller(new BytesMarshaller())
+            .setResponseMarshaller(new BytesMarshaller())
+            .build();
+  }
+
+  private static final class BytesMarshaller implements MethodDescriptor.Marshaller<byte[]> {
+    @Override
+    public InputStream stream(byte[] value) {
+      return new ByteArrayInputStream(value);
+    }
+
+    @Override
+    public byte[] parse(InputStream stream) {
+      try {
+        return stream.readAllBytes();
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+  }
+}
@@ -0,0 +1,111 @@
+package io.github.manishdait.sdk.network;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.manishdait.sdk.account.AccountId;
+import io.grpc.ConnectivityState;
+import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.junit.jupiter.api.Test;
+
+public class NodeTest {
+  private static final AccountId NODE_ACCOUNT_ID = new AccountId(0, 0, 3);
+
+  @Test
+  void shouldConnectToReachableNode() throws Exception {
+    var server = NettyServerBuilder.forPort(0).build().start();
+    var factory = new ChannelFactory();
+    var node = new Node("localhost", server.getPort(), NODE_ACCOUNT_ID);
+
+    try {
+      node.connect(factory).get(10, TimeUnit.SECONDS);
+      var pool = (NodeChannelPool) node.getChannel(factory);
+      assertThat(pool.primary().getState(false)).isEqualTo(ConnectivityState.READY);
+    } finally {
+      node.close();
+      server.shutdownNow();
+    }
+  }
+
+  @Test
+  void shouldNotBecomeReadyWhenNodeIsUnreachable() throws Exception {
+    int port;
+    try (var socket = new ServerSocket(0)) {
+      port = socket.getLocalPort();
+    }
+
+    var node = new Node("localhost", port, NODE_ACCOUNT_ID);
+
+    try {
+      assertThatThrownBy(() -> node.connect(new ChannelFactory()).get(500, TimeUnit.MILLISECONDS))
+          .isInstanceOfAny(TimeoutException.class, ExecutionException.class);
+    } finally {
+      node.close();
+    }
+  }
+
+  @Test
+  void shouldRejectSecondChannelFactory() {
+    var node = new Node("localhost", 1, NODE_ACCOUNT_ID);
+
+    try (var first = new ChannelFactory();
+        var second = new ChannelFactory()) {
+      assertThat(node.getChannel(first)).isSameAs(node.getChannel(first));
+      assertThatThrownBy(() -> node.getChannel(second)).isInstanceOf(IllegalStateException.class);
+    } finally {
+      node.close();
+    }
+  }
+
+  @Test
+  void shouldRefusePlaintextChannelWhenFactoryUsesTls() {
+    var node = new Node("localhost", 50212, NODE_ACCOUNT_ID);
+
+    try (var factory = new ChannelFactory().withTransportSecurity(true)) {
+      assertThatThrownBy(() -> node.getChannel(factory))
+          .isInstanceOf(IllegalStateException.class)
+          .hasMessageContaining("certificate hash");
+    }
+  }
+
+  @Test
+  void shouldNotReconnectAfterClose() {
+    var node = new Node("localhost", 1, NODE_ACCOUNT_ID);
+
+    try (var factory = new ChannelFactory()) {
+      var pool = (NodeChannelPool) node.getChannel(factory);
+      node.close();
+
+      assertThat(pool.isShutdown()).isTrue();
+      assertThat(node.isClosed()).isTrue();
+      assertThatThrownBy(() -> node.getChannel(factory))
+          .isInstanceOf(IllegalStateException.class)
+          .hasMessageContaining("closed");
+    }
+  }
+
+  @Test
+  @SuppressWarnings("deprecation")
+  void shouldKeepNoArgChannelAccessor() throws InterruptedException {
+    var connected = new Node("localhost", 1, NODE_ACCOUNT_ID);
+    var standalone = new Node("localhost", 1, new AccountId(0, 0, 4));
+
+    try (var factory = new ChannelFactory()) {
+      var channel = connected.getChannel(factory);
+
+      assertThat(connected.getChannel()).isSameAs(channel);
+      assertThat(standalone.getChannel()).isSameAs(standalone.getChannel());
+    } finally {
+      connected.close();
+      standalone.close();
+    }
+
+    assertThat(standalone.awaitTermination(Duration.ofSeconds(5))).isTrue();
+    assertThatThrownBy(standalone::getChannel).isInstanceOf(IllegalStateException.class);
+  }
+}
@@ -0,0 +1,75 @@
+package io.github.manishdait.sdk.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.manishdait.sdk.Status;
+import io.github.manishdait.sdk.account.AccountBalance;
+import io.github.manishdait.sdk.account.AccountId;
+import io.github.manishdait.sdk.exception.PrecheckException;
+import io.github.manishdait.sdk.network.Node;
+import java.util.List;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.Test;
+
+public class AccountBalanceQueryTest {
+  private static final List<Node> NODES =
+      List.of(
+          new Node("localhost", 50211, new AccountId(0, 0, 3)),
+          new Node("localhost", 50212, new AccountId(0, 0, 4)));
+
+  private static List<AccountId> accounts(final int count) {
+    return LongStream.rangeClosed(1001, 1000 + count)
+        .mapToObj(num -> new AccountId(0, 0, num))
+        .toList();
+  }
+
+  @Test
+  void shouldReturnBalanceOfEveryAccount() {
+    try (var balances =
+        AccountBalanceQuery.queryAll(
+            NODES,
+            accounts(20),
+            2,
+            (node, accountId) -> new AccountBalance(accountId, accountId.num()))) {
+      assertThat(balances.map(AccountBalance::balance))
+          .containsExactlyInAnyOrderElementsOf(LongStream.rangeClosed(1001, 1020).boxed().toList());
+    }
+  }
+
+  @Test
+  void shouldEndRunOnPrecheckFailure() {
+    var missing = new AccountId(0, 0, 1010);
+    var failure = new PrecheckException(Status.INVALID_ACCOUNT_ID, "account does not exist");
+
+    try (var balances =
+        AccountBalanceQuery.queryAll(
+            NODES,
+            accounts(20),
+            1,
+            (node, accountId) -> {
+              if (accountId.equals(missing)) {
+                throw failure;
+              }
+              return new AccountBalance(accountId, 0);
+            })) {
+      assertThatThrownBy(balances::toList).isSameAs(failure);
+    }
+  }
+
+  @Test
+  void shouldRethrowErrorOfWorker() {
+    var failure = new AssertionError("fetch failed");
+
+    try (var balances =
+        AccountBalanceQuery.queryAll(
+            NODES,
+            accounts(4),
+            1,
+            (node, accountId) -> {
+              throw failure;
+            })) {
+      assertThatThrownBy(balances::toList).isSameAs(failure);
+    }
+  }
+}
@@ -0,0 +1,167 @@
+package io.github.manishdait.sdk.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.hedera.hashgraph.sdk.proto.CryptoDeleteTransactionBody;
+import com.hedera.hashgraph.sdk.proto.CryptoUpdateTransactionBody;
+import com.hedera.hashgraph.sdk.proto.TransactionBody;
+import io.github.manishdait.sdk.Status;
+import io.github.manishdait.sdk.account.AccountBalance;
+import io.github.manishdait.sdk.account.AccountId;
+import io.github.manishdait.sdk.transaction.TransactionId;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+public class AccountQueryCacheTest {
+  private static final AccountId ACCOUNT_ID = new AccountId(0, 0, 1001);
+
+  @Test
+  void shouldLoadBalanceOnceWithinTtl() {
+    var cache = new AccountQueryCache(10, Duration.ofMinutes(1), Duration.ofMinutes(1));
+    var loads = new AtomicInteger();
+
+    for (int i = 0; i < 5; i++) {
+      var balance =
+          cache.getBalance(
+              ACCOUNT_ID,
+              () -> {
+                loads.incrementAndGet();
+                return new AccountBalance(ACCOUNT_ID, 100);
+              });
+      assertThat(balance.balance()).isEqualTo(100);
+    }
+
+    assertThat(loads.get()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldReloadBalanceAfterTtl() {
+    var cache = new AccountQueryCache(10, Duration.ZERO, Duration.ofMinutes(1));
+    var loads = new AtomicInteger();
+
+    cache.getBalance(ACCOUNT_ID, () -> new AccountBalance(ACCOUNT_ID, loads.incrementAndGet()));
+    var balance =
+        cache.getBalance(ACCOUNT_ID, () -> new AccountBalance(ACCOUNT_ID, loads.incrementAndGet()));
+
+    assertThat(balance.balance()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldEvictLeastRecentlyUsedAccount() {
+    var cache = new AccountQueryCache(2, Duration.ofMinutes(1), Duration.ofMinutes(1));
+    var first = new AccountId(0, 0, 1);
+    var second = new AccountId(0, 0, 2);
+    var third = new AccountId(0, 0, 3);
+
+    cache.getBalance(first, () -> new AccountBalance(first, 1));
+    cache.getBalance(second, () -> new AccountBalance(second, 2));
+    cache.getBalance(first, () -> new AccountBalance(first, -1));
+    cache.getBalance(third, () -> new AccountBalance(third, 3));
+
+    assertThat(cache.size()).isEqualTo(2);
+    assertThat(cache.getBalance(first, () -> new AccountBalance(first, -1)).balance()).isEqualTo(1);
+    assertThat(cache.getBalance(second, () -> new AccountBalance(second, -2)).balance())
+        .isEqualTo(-2);
+  }
+
+  @Test
+  void shouldInvalidateAccount() {
+    var cache = new AccountQueryCache(10, Duration.ofMinutes(1), Duration.ofMinutes(1));
+
+    cache.getBalance(ACCOUNT_ID, () -> new AccountBalance(ACCOUNT_ID, 1));
+    cache.invalidate(ACCOUNT_ID);
+
+    assertThat(cache.size()).isZero();
+  }
+
+  @Test
+  void shouldNotCacheLoadThatRacedWithInvalidate() {
+    var cache = new AccountQueryCache(10, Duration.ofMinutes(1), Duration.ofMinutes(1));
+
+    var stale =
+        cache.getBalance(
+            ACCOUNT_ID,
+            () -> {
+              cache.invalidate(ACCOUNT_ID);
+              return new AccountBalance(ACCOUNT_ID, 1);
+            });
+
+    assertThat(stale.balance()).isEqualTo(1);
+    assertThat(cache.size()).isZero();
+    assertThat(cache.getBalance(ACCOUNT_ID, () -> new AccountBalance(ACCOUNT_ID, 2)).balance())
+        .isEqualTo(2);
+  }
+
+  @Test
+  void shouldCacheAgainAfterFailedLoad() {
+    var cache = new AccountQueryCache(10, Duration.ofMinutes(1), Duration.ofMinutes(1));
+
+    assertThatThrownBy(
+            () ->
+                cache.getBalance(
+                    ACCOUNT_ID,
+                    () -> {
+                      throw new IllegalStateException("unreachable");
+                    }))
+        .isInstanceOf(IllegalStateException.class);
+
+    cache.getBalance(ACCOUNT_ID, () -> new AccountBalance(ACCOUNT_ID, 1));
+    assertThat(cache.getBalance(ACCOUNT_ID, () -> new AccountBalance(ACCOUNT_ID, -1)).balance())
+        .isEqualTo(1);
+  }
+
+  @Test
+  void shouldResolveAccountsModifiedByUpdateAndDelete() {
+    var transferId = new AccountId(0, 0, 2);
+
+    var update =
+        TransactionBody.newBuilder()
+            .setCryptoUpdateAccount(
+                CryptoUpdateTransactionBody.newBuilder().setAccountIDToUpdate(ACCOUNT_ID.toProto()))
+            .build();
+
+    var delete =
+        TransactionBody.newBuilder()
+            .setCryptoDelete(
+                CryptoDeleteTransactionBody.newBuilder()
+                    .setDeleteAccountID(ACCOUNT_ID.toProto())
+                    .setTransferAccountID(transferId.toProto()))
+            .build();
+
+    assertThat(AccountQueryCache.accountsModifiedBy(update)).containsExactly(ACCOUNT_ID);
+    assertThat(AccountQueryCache.accountsModifiedBy(delete))
+        .containsExactly(ACCOUNT_ID, transferId);
+    assertThat(AccountQueryCache.accountsModifiedBy(TransactionBody.getDefaultInstance()))
+        .isEmpty();
+  }
+
+  @Test
+  void shouldInvalidateAccountsOfSubmittedTransactionOnSuccessfulReceipt() {
+    var cache = new AccountQueryCache(10, Duration.ofMinutes(1), Duration.ofMinutes(1));
+    var update =
+        TransactionBody.newBuilder()
+            .setCryptoUpdateAccount(
+                CryptoUpdateTransactionBody.newBuilder().setAccountIDToUpdate(ACCOUNT_ID.toProto()))
+            .build();
+    var failed = TransactionId.fromAccountId(new AccountId(0, 0, 2));
+    var succeeded = TransactionId.fromAccountId(new AccountId(0, 0, 2));
+
+    cache.getBalance(ACCOUNT_ID, () -> new AccountBalance(ACCOUNT_ID, 1));
+    cache.transactionSubmitted(failed, update);
+    cache.transactionSubmitted(succeeded, update);
+
+    cache.receiptFetched(failed, Status.INVALID_SIGNATURE);
+    assertThat(cache.size()).isEqualTo(1);
+
+    cache.receiptFetched(succeeded, Status.SUCCESS);
+    assertThat(cache.size()).isZero();
+  }
+
+  @Test
+  void shouldRejectNonPositiveMaxEntries() {
+    assertThatThrownBy(() -> new AccountQueryCache(0, Duration.ZERO, Duration.ZERO))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -0,0 +1,53 @@
+package io.github.manishdait.sdk.schedule;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.hedera.hashgraph.sdk.proto.AccountID;
+import com.hedera.hashgraph.sdk.proto.CryptoTransferTransactionBody;
+import com.hedera.hashgraph.sdk.proto.ScheduleSignTransactionBody;
+import com.hedera.hashgraph.sdk.proto.TokenMintTransactionBody;
+import com.hedera.hashgraph.sdk.proto.TransactionBody;
+import org.junit.jupiter.api.Test;
+
+class ScheduleCreateTransactionTest {
+  @Test
+  void shouldConvertBodyByTransactionType() {
+    final var transfer = CryptoTransferTransactionBody.newBuilder().build();
+    final var body =
+        TransactionBody.newBuilder()
+            .setTransactionFee(100_000_000L)
+            .setMemo("payroll")
+            .setNodeAccountID(AccountID.newBuilder().setAccountNum(3))
+            .setCryptoTransfer(transfer)
+            .build();
+
+    final var schedulable = ScheduleCreateTransaction.toSchedulable(body);
+
+    assertThat(schedulable.getTransactionFee()).isEqualTo(100_000_000L);
+    assertThat(schedulable.getMemo()).isEqualTo("payroll");
+    assertThat(schedulable.getCryptoTransfer()).isEqualTo(transfer);
+  }
+
+  @Test
+  void shouldConvertTypesNumberedDifferently() {
+    final var mint = TokenMintTransactionBody.newBuilder().setAmount(10).build();
+    final var body = TransactionBody.newBuilder().setTokenMint(mint).build();
+
+    assertThat(ScheduleCreateTransaction.toSchedulable(body).getTokenMint()).isEqualTo(mint);
+  }
+
+  @Test
+  void shouldRejectTypesThatCannotBeScheduled() {
+    final var body =
+        TransactionBody.newBuilder()
+            .setScheduleSign(ScheduleSignTransactionBody.getDefaultInstance())
+            .build();
+
+    assertThatThrownBy(() -> ScheduleCreateTransaction.toSchedulable(body))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(
+            () -> ScheduleCreateTransaction.toSchedulable(TransactionBody.getDefaultInstance()))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -0,0 +1,51 @@
+package io.github.manishdait.sdk.schedule;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.manishdait.sdk.key.PrivateKey;
+import io.github.manishdait.sdk.key.PublicKey;
+import java.util.ArrayList;
+import org.junit.jupiter.api.Test;
+
+class ScheduleSignatureAggregatorTest {
+  private static final ScheduleId SCHEDULE = new ScheduleId(0, 0, 777);
+
+  @Test
+  void shouldBatchSignersUpToLimit() {
+    final var aggregator = new ScheduleSignatureAggregator(SCHEDULE);
+    final var keys = new ArrayList<PublicKey>();
+    for (int i = 0; i < 120; i++) {
+      final var key = PrivateKey.generate();
+      keys.add(key.getPublicKey());
+      aggregator.addSigner(key);
+    }
+
+    final var plan = aggregator.plan();
+
+    assertThat(plan).hasSize(3);
+    assertThat(plan.get(0)).hasSize(50);
+    assertThat(plan.get(1)).hasSize(50);
+    assertThat(plan.get(2)).hasSize(20);
+    assertThat(plan.stream().flatMap(batch -> batch.stream()).toList()).isEqualTo(keys);
+  }
+
+  @Test
+  void shouldAddEachSignerOnce() {
+    final var key = PrivateKey.generate();
+    final var plan =
+        new ScheduleSignatureAggregator(SCHEDULE)
+            .withMaxSignaturesPerTransaction(2)
+            .addSigner(key)
+            .addSigner(key.getPublicKey(), key::sign)
+            .addSigner(PrivateKey.generate())
+            .plan();
+
+    assertThat(plan).hasSize(1);
+    assertThat(plan.get(0)).hasSize(2);
+  }
+
+  @Test
+  void shouldPlanNothingWithoutSigners() {
+    assertThat(new ScheduleSignatureAggregator(SCHEDULE).plan()).isEmpty();
+  }
+}
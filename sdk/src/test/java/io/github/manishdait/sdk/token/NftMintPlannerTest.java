@@ -0,0 +1,106 @@
+package io.github.manishdait.sdk.token;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.protobuf.ByteString;
+import io.github.manishdait.sdk.Status;
+import io.github.manishdait.sdk.internal.Futures;
+import io.github.manishdait.sdk.transaction.TransactionReceipt;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.Test;
+
+class NftMintPlannerTest {
+  private static final TokenId TOKEN = new TokenId(0, 0, 4242);
+
+  @Test
+  void shouldPackMetadataIntoFullBatches() {
+    final var planner = new NftMintPlanner(TOKEN);
+    final var metadata = new ArrayList<ByteString>();
+    for (int i = 0; i < 1003; i++) {
+      metadata.add(ByteString.copyFromUtf8("ipfs://nft/" + i));
+    }
+
+    final var plan = planner.addAllMetadata(metadata).plan();
+
+    assertThat(plan).hasSize(101);
+    assertThat(plan.subList(0, 100))
+        .allSatisfy(batch -> assertThat(batch.getMetadata()).hasSize(10));
+    assertThat(plan.get(100).getMetadata()).hasSize(3);
+    assertThat(plan).allSatisfy(batch -> assertThat(batch.getTokenId()).isEqualTo(TOKEN));
+    assertThat(plan.stream().flatMap(batch -> batch.getMetadata().stream()).toList())
+        .isEqualTo(metadata);
+  }
+
+  @Test
+  void shouldHonourMaxBatchSize() {
+    final var planner = new NftMintPlanner(TOKEN).withMaxBatchSize(4);
+    for (int i = 0; i < 8; i++) {
+      planner.addMetadata(new byte[] {(byte) i});
+    }
+
+    final var plan = planner.plan();
+
+    assertThat(plan).hasSize(2);
+    assertThat(plan).allSatisfy(batch -> assertThat(batch.getMetadata()).hasSize(4));
+  }
+
+  @Test
+  void shouldPlanNothingWithoutMetadata() {
+    assertThat(new NftMintPlanner(TOKEN).plan()).isEmpty();
+  }
+
+  @Test
+  void shouldRejectOversizedMetadata() {
+    final var planner = new NftMintPlanner(TOKEN);
+
+    assertThatThrownBy(() -> planner.addMetadata(new byte[101]))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThat(planner.addMetadata(new byte[100]).plan()).hasSize(1);
+  }
+
+  @Test
+  void shouldReturnReceiptsInPlanOrder() {
+    final var planner = new NftMintPlanner(TOKEN).withMaxBatchSize(1).withMaxInFlight(3);
+    for (int i = 0; i < 5; i++) {
+      planner.addMetadata(new byte[] {(byte) i});
+    }
+
+    final var receipts =
+        Futures.join(planner.sendAsync(batch -> receipt(batch.getMetadata().getFirst().byteAt(0))));
+
+    assertThat(receipts.stream().map(receipt -> receipt.serialNumbers().getFirst()))
+        .containsExactly(0L, 1L, 2L, 3L, 4L);
+  }
+
+  @Test
+  void shouldNotStartBatchesAfterOneFails() {
+    final var planner = new NftMintPlanner(TOKEN).withMaxBatchSize(1).withMaxInFlight(1);
+    for (int i = 0; i < 4; i++) {
+      planner.addMetadata(new byte[] {(byte) i});
+    }
+
+    final var started = new CopyOnWriteArrayList<Integer>();
+    final var failure = new IllegalStateException("mint failed");
+    final var result =
+        planner.sendAsync(
+            batch -> {
+              final int serial = batch.getMetadata().getFirst().byteAt(0);
+              started.add(serial);
+              if (serial == 1) {
+                throw failure;
+              }
+              return receipt(serial);
+            });
+
+    assertThatThrownBy(() -> Futures.join(result)).isSameAs(failure);
+    assertThat(started).containsExactly(0, 1);
+  }
+
+  private static TransactionReceipt receipt(final long serialNumber) {
+    return new TransactionReceipt(
+        Status.SUCCESS, null, null, null, null, TOKEN, List.of(serialNumber), null, null);
+  }
+}
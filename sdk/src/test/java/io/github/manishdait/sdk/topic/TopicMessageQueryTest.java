@@ -0,0 +1,291 @@
+package io.github.manishdait.sdk.topic;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.protobuf.ByteString;
+import com.hedera.hashgraph.sdk.proto.ConsensusMessageChunkInfo;
+import com.hedera.hashgraph.sdk.proto.Timestamp;
+import com.hedera.hashgraph.sdk.proto.mirror.ConsensusServiceGrpc;
+import com.hedera.hashgraph.sdk.proto.mirror.ConsensusTopicQuery;
+import com.hedera.hashgraph.sdk.proto.mirror.ConsensusTopicResponse;
+import io.github.manishdait.sdk.account.AccountId;
+import io.github.manishdait.sdk.transaction.TransactionId;
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.Status;
+import io.grpc.netty.shaded.io.grpc.netty.NettyChannelBuilder;
+import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
+import io.grpc.stub.StreamObserver;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TopicMessageQueryTest {
+  private static final TopicId TOPIC = new TopicId(0, 0, 1234);
+
+  private final List<ConsensusTopicQuery> queries = new CopyOnWriteArrayList<>();
+  private volatile BiConsumer<Integer, StreamObserver<ConsensusTopicResponse>> handler;
+  private Server server;
+  private ManagedChannel channel;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    server =
+        NettyServerBuilder.forPort(0)
+            .addService(
+                new ConsensusServiceGrpc.ConsensusServiceImplBase() {
+                  @Override
+                  public void subscribeTopic(
+                      final ConsensusTopicQuery request,
+                      final StreamObserver<ConsensusTopicResponse> responseObserver) {
+                    queries.add(request);
+                    handler.accept(queries.size(), responseObserver);
+                  }
+                })
+            .build()
+            .start();
+    channel = NettyChannelBuilder.forAddress("localhost", server.getPort()).usePlaintext().build();
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+    server.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+  }
+
+  @Test
+  void shouldReassembleChunkedMessages() throws Exception {
+    final var txId = TransactionId.fromAccountId(new AccountId(0, 0, 2)).toProto();
+    handler =
+        (call, observer) -> {
+          observer.onNext(chunk(1, "hello ", txId, 1, 2));
+          observer.onNext(message(2, "single"));
+          observer.onNext(chunk(3, "world", txId, 2, 2));
+          observer.onCompleted();
+        };
+
+    final var subscriber = new TestSubscriber(Long.MAX_VALUE);
+    query().subscribe(channel).subscribe(subscriber);
+
+    subscriber.completion.get(5, TimeUnit.SECONDS);
+    assertThat(subscriber.messages).hasSize(2);
+    assertThat(subscriber.messages.get(0).contents().toStringUtf8()).isEqualTo("single");
+
+    final var chunked = subscriber.messages.get(1);
+    assertThat(chunked.contents().toStringUtf8()).isEqualTo("hello world");
+    assertThat(chunked.chunks()).isEqualTo(2);
+    assertThat(chunked.sequenceNumber()).isEqualTo(3);
+    assertThat(chunked.transactionId().toProto()).isEqualTo(txId);
+  }
+
+  @Test
+  void shouldDropChunkedMessagesThatDoNotCompleteInTime() throws Exception {
+    final var txId = TransactionId.fromAccountId(new AccountId(0, 0, 2)).toProto();
+    handler =
+        (call, observer) -> {
+          observer.onNext(chunk(1, "stale-", txId, 1, 2));
+          observer.onNext(message(400, "single"));
+          observer.onNext(chunk(401, "late", txId, 2, 2));
+          observer.onCompleted();
+        };
+
+    final var subscriber = new TestSubscriber(Long.MAX_VALUE);
+    query().subscribe(channel).subscribe(subscriber);
+
+    subscriber.completion.get(5, TimeUnit.SECONDS);
+    assertThat(subscriber.messages)
+        .extracting(message -> message.contents().toStringUtf8())
+        .containsExactly("single");
+  }
+
+  @Test
+  void shouldNotTrustChunkTotalOfServer() throws Exception {
+    final var huge = TransactionId.fromAccountId(new AccountId(0, 0, 2)).toProto();
+    final var empty = TransactionId.fromAccountId(new AccountId(0, 0, 2)).toProto();
+    handler =
+        (call, observer) -> {
+          observer.onNext(chunk(1, "huge", huge, 1, Integer.MAX_VALUE));
+          observer.onNext(chunk(2, "huge", huge, 1_000_000, Integer.MAX_VALUE));
+          observer.onNext(chunk(3, "empty", empty, 1, 0));
+          observer.onNext(chunk(4, "negative", empty, 1, -1));
+          observer.onNext(message(5, "single"));
+          observer.onCompleted();
+        };
+
+    final var subscriber = new TestSubscriber(Long.MAX_VALUE);
+    query().subscribe(channel).subscribe(subscriber);
+
+    subscriber.completion.get(5, TimeUnit.SECONDS);
+    assertThat(subscriber.messages)
+        .extracting(message -> message.contents().toStringUtf8())
+        .containsExactly("single");
+  }
+
+  @Test
+  void shouldResumeAfterLastMessageOnDisconnect() throws Exception {
+    final var txId = TransactionId.fromAccountId(new AccountId(0, 0, 2)).toProto();
+    handler =
+        (call, observer) -> {
+          if (call == 1) {
+            observer.onNext(message(1, "one"));
+            observer.onNext(chunk(2, "two-", txId, 1, 2));
+            observer.onError(Status.UNAVAILABLE.asRuntimeException());
+          } else {
+            observer.onNext(chunk(3, "three", txId, 2, 2));
+            observer.onCompleted();
+          }
+        };
+
+    final var subscriber = new TestSubscriber(Long.MAX_VALUE);
+    query().withLimit(10).subscribe(channel).subscribe(subscriber);
+
+    subscriber.completion.get(5, TimeUnit.SECONDS);
+    assertThat(subscriber.messages)
+        .extracting(message -> message.contents().toStringUtf8())
+        .containsExactly("one", "two-three");
+
+    assertThat(queries).hasSize(2);
+    assertThat(queries.get(1).getConsensusStartTime())
+        .isEqualTo(Timestamp.newBuilder().setSeconds(2).setNanos(1).build());
+    assertThat(queries.get(1).getLimit()).isEqualTo(8);
+  }
+
+  @Test
+  void shouldOnlyDeliverRequestedMessages() throws Exception {
+    handler =
+        (call, observer) -> {
+          for (int i = 1; i <= 10; i++) {
+            observer.onNext(message(i, "message-" + i));
+          }
+          observer.onCompleted();
+        };
+
+    final var subscriber = new TestSubscriber(1);
+    query().subscribe(channel).subscribe(subscriber);
+
+    Thread.sleep(200);
+    assertThat(subscriber.messages).hasSize(1);
+    assertThat(subscriber.completion).isNotDone();
+
+    subscriber.subscription.request(9);
+    subscriber.completion.get(5, TimeUnit.SECONDS);
+    assertThat(subscriber.messages).hasSize(10);
+  }
+
+  @Test
+  void shouldFailOnNonRetryableError() {
+    handler = (call, observer) -> observer.onError(Status.INVALID_ARGUMENT.asRuntimeException());
+
+    final var subscriber = new TestSubscriber(Long.MAX_VALUE);
+    query().subscribe(channel).subscribe(subscriber);
+
+    assertThatThrownBy(() -> subscriber.completion.get(5, TimeUnit.SECONDS))
+        .hasMessageContaining("INVALID_ARGUMENT");
+    assertThat(queries).hasSize(1);
+  }
+
+  @Test
+  void shouldFailAfterMaxAttempts() {
+    handler = (call, observer) -> observer.onError(Status.UNAVAILABLE.asRuntimeException());
+
+    final var subscriber = new TestSubscriber(Long.MAX_VALUE);
+    query().withMaxAttempts(3).subscribe(channel).subscribe(subscriber);
+
+    assertThatThrownBy(() -> subscriber.completion.get(5, TimeUnit.SECONDS))
+        .hasMessageContaining("UNAVAILABLE");
+    assertThat(queries).hasSize(4);
+  }
+
+  @Test
+  void shouldRejectNonPositiveRequest() {
+    handler = (call, observer) -> {};
+
+    final var subscriber = new TestSubscriber(0);
+    query().subscribe(channel).subscribe(subscriber);
+    subscriber.subscription.request(0);
+
+    assertThatThrownBy(() -> subscriber.completion.get(5, TimeUnit.SECONDS))
+        .hasCauseInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void shouldRequireTopicId() {
+    assertThatThrownBy(() -> new TopicMessageQuery().subscribe(channel))
+        .isInstanceOf(NullPointerException.class);
+  }
+
+  private static TopicMessageQuery query() {
+    return new TopicMessageQuery()
+        .withTopicId(TOPIC)
+        .withStartTime(Instant.EPOCH)
+        .withMinBackoff(Duration.ofMillis(1))
+        .withMaxBackoff(Duration.ofMillis(10));
+  }
+
+  private static ConsensusTopicResponse message(final long seconds, final String contents) {
+    return ConsensusTopicResponse.newBuilder()
+        .setConsensusTimestamp(Timestamp.newBuilder().setSeconds(seconds))
+        .setMessage(ByteString.copyFrom(contents, StandardCharsets.UTF_8))
+        .setSequenceNumber(seconds)
+        .build();
+  }
+
+  private static ConsensusTopicResponse chunk(
+      final long seconds,
+      final String contents,
+      final com.hedera.hashgraph.sdk.proto.TransactionID txId,
+      final int number,
+      final int total) {
+    return message(seconds, contents).toBuilder()
+        .setChunkInfo(
+            ConsensusMessageChunkInfo.newBuilder()
+                .setInitialTransactionID(txId)
+                .setNumber(number)
+                .setTotal(total))
+        .build();
+  }
+
+  private static final class TestSubscriber implements Flow.Subscriber<TopicMessage> {
+    private final long initialRequest;
+    private final List<TopicMessage> messages = new CopyOnWriteArrayList<>();
+    private final CompletableFuture<Void> completion = new CompletableFuture<>();
+    private volatile Flow.Subscription subscription;
+
+    TestSubscriber(final long initialRequest) {
+      this.initialRequest = initialRequest;
+    }
+
+    @Override
+    public void onSubscribe(final Flow.Subscription subscription) {
+      this.subscription = subscription;
+      if (initialRequest > 0) {
+        subscription.request(initialRequest);
+      }
+    }
+
+    @Override
+    public void onNext(final TopicMessage item) {
+      messages.add(item);
+    }
+
+    @Override
+    public void onError(final Throwable throwable) {
+      completion.completeExceptionally(throwable);
+    }
+
+    @Override
+    public void onComplete() {
+      completion.complete(null);
+    }
+  }
+}
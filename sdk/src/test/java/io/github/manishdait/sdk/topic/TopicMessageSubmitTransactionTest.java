@@ -0,0 +1,128 @@
+package io.github.manishdait.sdk.topic;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.protobuf.ByteString;
+import io.github.manishdait.sdk.TestClient;
+import io.github.manishdait.sdk.account.AccountId;
+import io.github.manishdait.sdk.network.Node;
+import io.github.manishdait.sdk.transaction.TransactionId;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+public class TopicMessageSubmitTransactionTest {
+  private static final TopicId TOPIC = new TopicId(0, 0, 1001);
+
+  @RegisterExtension final TestClient testClient = new TestClient();
+
+  @Test
+  void shouldPackOneTransactionPerChunk() {
+    final var message = ByteString.copyFrom(new byte[2500]).concat(ByteString.copyFromUtf8("end"));
+    final var transaction =
+        new TopicMessageSubmitTransaction()
+            .withTopicId(TOPIC)
+            .withMessage(message)
+            .withChunkSize(1024);
+
+    final var chunks = transaction.packChunks(testClient.get());
+
+    assertThat(chunks).hasSize(3);
+    final var initialTransactionId = chunks.getFirst().getTransactionBody().getTransactionID();
+    for (int i = 0; i < chunks.size(); i++) {
+      final var body = chunks.get(i).getTransactionBody();
+      final var submit = body.getConsensusSubmitMessage();
+
+      assertThat(submit.getTopicID()).isEqualTo(TOPIC.toProto());
+      assertThat(submit.getMessage())
+          .isEqualTo(message.substring(i * 1024, Math.min((i + 1) * 1024, message.size())));
+      assertThat(submit.getChunkInfo().getNumber()).isEqualTo(i + 1);
+      assertThat(submit.getChunkInfo().getTotal()).isEqualTo(3);
+      assertThat(submit.getChunkInfo().getInitialTransactionID()).isEqualTo(initialTransactionId);
+    }
+
+    assertThat(chunks.stream().map(packed -> packed.getTransactionBody().getTransactionID()))
+        .doesNotHaveDuplicates();
+  }
+
+  @Test
+  void shouldPinEveryChunkToNodeOfItsBody() {
+    final var transaction =
+        new TopicMessageSubmitTransaction()
+            .withTopicId(TOPIC)
+            .withMessage(new byte[25])
+            .withChunkSize(10);
+
+    for (var packed : transaction.packChunks(testClient.get())) {
+      assertThat(packed.getNode()).isNotNull();
+      assertThat(packed.getTransactionBody().getNodeAccountID())
+          .isEqualTo(packed.getNode().getAccountId().toProto());
+    }
+  }
+
+  @Test
+  void shouldPackChunkWithGivenIdForGivenNode() {
+    final var client = testClient.get();
+    final var node = new Node("localhost", 50212, new AccountId(0, 0, 4));
+    final var transactionId = TransactionId.fromAccountId(TestClient.OPERATOR_ACCOUNT_ID);
+
+    final var packed =
+        new TopicMessageSubmitTransaction()
+            .withTopicId(TOPIC)
+            .withMessage("hello")
+            .pack(client, transactionId, node);
+
+    assertThat(packed.getNode()).isSameAs(node);
+    assertThat(packed.getTransactionBody().getNodeAccountID())
+        .isEqualTo(node.getAccountId().toProto());
+    assertThat(packed.getTransactionBody().getTransactionID()).isEqualTo(transactionId.toProto());
+    assertThat(
+            packed
+                .getTransactionBody()
+                .getConsensusSubmitMessage()
+                .getChunkInfo()
+                .getInitialTransactionID())
+        .isEqualTo(transactionId.toProto());
+  }
+
+  @Test
+  void shouldPackSingleChunkMessage() {
+    final var packed =
+        new TopicMessageSubmitTransaction()
+            .withTopicId(TOPIC)
+            .withMessage("hello")
+            .pack(testClient.get());
+
+    final var submit = packed.getTransactionBody().getConsensusSubmitMessage();
+    assertThat(submit.getMessage().toStringUtf8()).isEqualTo("hello");
+    assertThat(submit.getChunkInfo().getNumber()).isEqualTo(1);
+    assertThat(submit.getChunkInfo().getTotal()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldRejectPackOfMultiChunkMessage() {
+    final var transaction =
+        new TopicMessageSubmitTransaction()
+            .withTopicId(TOPIC)
+            .withMessage(new byte[11])
+            .withChunkSize(10);
+
+    assertThatThrownBy(() -> transaction.pack(testClient.get()))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageContaining("2 chunks");
+  }
+
+  @Test
+  void shouldRejectMessageWithMoreThanMaxChunks() {
+    final var transaction =
+        new TopicMessageSubmitTransaction()
+            .withTopicId(TOPIC)
+            .withMessage(new byte[21])
+            .withChunkSize(10)
+            .withMaxChunks(2);
+
+    assertThatThrownBy(() -> transaction.packChunks(testClient.get()))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageContaining("maxChunks 2");
+  }
+}
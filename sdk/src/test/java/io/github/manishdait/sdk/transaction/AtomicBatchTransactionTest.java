@@ -0,0 +1,89 @@
+package io.github.manishdait.sdk.transaction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.hedera.hashgraph.sdk.proto.AccountID;
+import com.hedera.hashgraph.sdk.proto.SignedTransaction;
+import com.hedera.hashgraph.sdk.proto.TransactionBody;
+import io.github.manishdait.sdk.TestClient;
+import io.github.manishdait.sdk.account.AccountId;
+import io.github.manishdait.sdk.key.PrivateKey;
+import io.github.manishdait.sdk.topic.TopicId;
+import io.github.manishdait.sdk.topic.TopicMessageSubmitTransaction;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+public class AtomicBatchTransactionTest {
+  private static final TopicId TOPIC = new TopicId(0, 0, 1001);
+
+  private final PrivateKey batchKey = PrivateKey.generate();
+
+  @RegisterExtension final TestClient testClient = new TestClient();
+
+  @Test
+  void shouldCarryInnerTransactionsAddressedToNoNode() throws Exception {
+    final var batch = new AtomicBatchTransaction();
+    for (var message : new String[] {"first", "second"}) {
+      batch.addInnerTransaction(innerTransaction(message));
+    }
+
+    final var body = batch.pack(testClient.get()).getTransactionBody();
+
+    assertThat(body.getNodeAccountID()).isNotEqualTo(AccountID.getDefaultInstance());
+    assertThat(body.getAtomicBatch().getTransactionsList()).hasSize(2);
+
+    final var messages = new String[] {"first", "second"};
+    for (int i = 0; i < messages.length; i++) {
+      final var signed = SignedTransaction.parseFrom(body.getAtomicBatch().getTransactions(i));
+      final var inner = TransactionBody.parseFrom(signed.getBodyBytes());
+
+      assertThat(inner.getNodeAccountID()).isEqualTo(new AccountId(0, 0, 0).toProto());
+      assertThat(inner.getBatchKey()).isEqualTo(batchKey.getPublicKey().toProto());
+      assertThat(inner.getConsensusSubmitMessage().getMessage().toStringUtf8())
+          .isEqualTo(messages[i]);
+      assertThat(signed.getSigMap().getSigPairCount()).isEqualTo(1);
+    }
+  }
+
+  @Test
+  void shouldRejectInnerTransactionWithoutBatchKey() {
+    final var packed =
+        new TopicMessageSubmitTransaction()
+            .withTopicId(TOPIC)
+            .withMessage("m")
+            .pack(testClient.get());
+
+    assertThatThrownBy(() -> new AtomicBatchTransaction().addInnerTransaction(packed))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void shouldRejectEmptyBatch() {
+    assertThatThrownBy(() -> new AtomicBatchTransaction().toProto())
+        .isInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  void shouldRejectMoreThanMaxInnerTransactions() {
+    final var batch = new AtomicBatchTransaction();
+    for (int i = 0; i < 50; i++) {
+      batch.addInnerTransaction(innerTransaction("message " + i));
+    }
+    assertThat(batch.toProto().getTransactionsList()).hasSize(50);
+
+    batch.addInnerTransaction(innerTransaction("one too many"));
+
+    assertThatThrownBy(batch::toProto)
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageContaining("51 inner transactions");
+  }
+
+  private PackedTransaction<?> innerTransaction(final String message) {
+    return new TopicMessageSubmitTransaction()
+        .withTopicId(TOPIC)
+        .withMessage(message)
+        .withBatchKey(batchKey.getPublicKey())
+        .pack(testClient.get());
+  }
+}
@@ -0,0 +1,145 @@
+package io.github.manishdait.sdk.transaction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.hedera.hashgraph.sdk.proto.SignedTransaction;
+import io.github.manishdait.sdk.TestClient;
+import io.github.manishdait.sdk.account.AccountId;
+import io.github.manishdait.sdk.exception.PrecheckException;
+import io.github.manishdait.sdk.key.KeyType;
+import io.github.manishdait.sdk.key.PrivateKey;
+import io.github.manishdait.sdk.network.Node;
+import io.github.manishdait.sdk.schedule.ScheduleId;
+import io.github.manishdait.sdk.schedule.ScheduleSignTransaction;
+import io.github.manishdait.sdk.topic.TopicId;
+import io.github.manishdait.sdk.topic.TopicMessageSubmitTransaction;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+public class PackedTransactionTest {
+  private static final TopicMessageSubmitTransaction TRANSACTION =
+      new TopicMessageSubmitTransaction().withTopicId(new TopicId(0, 0, 1001)).withMessage("hello");
+
+  @RegisterExtension final TestClient testClient = new TestClient();
+
+  private static Node unreachableNode(final long num) throws IOException {
+    try (var socket = new ServerSocket(0)) {
+      return new Node("localhost", socket.getLocalPort(), new AccountId(0, 0, num));
+    }
+  }
+
+  @Test
+  void shouldPackAgainForAnotherNodeAccountWhenNodeDoesNotAnswer() throws IOException {
+    final var client = testClient.get().withMaxAttempts(1);
+    client.getNetwork().setNodes(List.of(unreachableNode(3), unreachableNode(4)));
+
+    final var transactionId = TransactionId.fromAccountId(TestClient.OPERATOR_ACCOUNT_ID);
+    final var packed = new ArrayList<PackedTransaction<TopicMessageSubmitTransaction>>();
+
+    assertThatThrownBy(
+            () ->
+                PackedTransaction.sendWithFailover(
+                    client,
+                    null,
+                    node -> {
+                      final var transaction = TRANSACTION.pack(client, transactionId, node);
+                      packed.add(transaction);
+                      return transaction;
+                    }))
+        .isNotInstanceOf(PrecheckException.class);
+
+    assertThat(packed)
+        .extracting(transaction -> transaction.getNode().getAccountId())
+        .containsExactlyInAnyOrderElementsOf(client.getNetwork().getNodeAccountIds());
+    assertThat(packed)
+        .extracting(transaction -> transaction.getTransactionBody().getTransactionID())
+        .containsOnly(transactionId.toProto());
+    assertThat(client.getNetwork().getHealthyNodes()).isEmpty();
+  }
+
+  @Test
+  void shouldNotFailOverFromGivenNode() throws IOException {
+    final var client = testClient.get().withMaxAttempts(1);
+    client.getNetwork().setNodes(List.of(unreachableNode(3), unreachableNode(4)));
+
+    final var node = client.getNetwork().getNode();
+    final var packedFor = new ArrayList<Node>();
+
+    assertThatThrownBy(
+            () ->
+                PackedTransaction.sendWithFailover(
+                    client,
+                    node,
+                    target -> {
+                      packedFor.add(target);
+                      return TRANSACTION.pack(
+                          client,
+                          TransactionId.fromAccountId(TestClient.OPERATOR_ACCOUNT_ID),
+                          target);
+                    }))
+        .isNotInstanceOf(PrecheckException.class);
+
+    assertThat(packedFor).containsExactly(node);
+  }
+
+  @Test
+  void shouldAcceptSignatureOfRemoteSigner() throws Exception {
+    final var packed = packScheduleSign();
+    final var ed25519 = PrivateKey.generate(KeyType.ED25519);
+    final var ecdsa = PrivateKey.generate(KeyType.ECDSA);
+
+    // A remote signer only ever sees the body bytes
+    final Function<byte[], byte[]> remote = ecdsa::sign;
+    final var bodyBytes = packed.getTransactionBody().toByteArray();
+
+    packed
+        .addSignature(ed25519.getPublicKey(), ed25519.sign(bodyBytes))
+        .addSignature(ecdsa.getPublicKey(), remote.apply(bodyBytes));
+
+    final var signed = SignedTransaction.parseFrom(packed.toSignedTransactionBytes());
+    assertThat(signed.getSigMap().getSigPairCount()).isEqualTo(3);
+  }
+
+  @Test
+  void shouldRejectSignatureOfAnotherKey() {
+    final var packed = packScheduleSign();
+    final var signer = PrivateKey.generate();
+    final var signature = signer.sign(packed.getTransactionBody().toByteArray());
+
+    assertThatThrownBy(() -> packed.addSignature(PrivateKey.generate().getPublicKey(), signature))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void shouldRejectTamperedSignature() {
+    final var packed = packScheduleSign();
+    final var signer = PrivateKey.generate();
+    final var signature = signer.sign(packed.getTransactionBody().toByteArray());
+    signature[signature.length / 2] ^= 1;
+
+    assertThatThrownBy(() -> packed.addSignature(signer.getPublicKey(), signature))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void shouldRejectSignatureOfOtherBytes() {
+    final var packed = packScheduleSign();
+    final var signer = PrivateKey.generate();
+    final var signature = signer.sign(packScheduleSign().getTransactionBody().toByteArray());
+
+    assertThatThrownBy(() -> packed.addSignature(signer.getPublicKey(), signature))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private PackedTransaction<ScheduleSignTransaction> packScheduleSign() {
+    return new ScheduleSignTransaction()
+        .withScheduleId(new ScheduleId(0, 0, 777))
+        .pack(testClient.get());
+  }
+}
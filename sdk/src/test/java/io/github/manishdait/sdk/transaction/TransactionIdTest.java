@@ -0,0 +1,35 @@
+package io.github.manishdait.sdk.transaction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.manishdait.sdk.account.AccountId;
+import java.time.Instant;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class TransactionIdTest {
+  private static final AccountId ACCOUNT = new AccountId(0, 0, 1001);
+
+  @Test
+  void shouldGenerateUniqueValidStartsAcrossThreads() {
+    final Set<Instant> validStarts = ConcurrentHashMap.newKeySet();
+
+    IntStream.range(0, 10_000)
+        .parallel()
+        .forEach(
+            i -> validStarts.add(TransactionId.fromAccountId(ACCOUNT).getTransactionValidStart()));
+
+    assertThat(validStarts).hasSize(10_000);
+  }
+
+  @Test
+  void shouldRoundTripThroughProto() {
+    final var transactionId = TransactionId.fromAccountId(ACCOUNT);
+    final var copy = TransactionId.fromProto(transactionId.toProto());
+
+    assertThat(copy.getTransactionValidStart()).isEqualTo(transactionId.getTransactionValidStart());
+    assertThat(copy.getAccountId()).isEqualTo(ACCOUNT);
+  }
+}
@@ -0,0 +1,102 @@
+package io.github.manishdait.sdk.transaction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.protobuf.ByteString;
+import com.hedera.hashgraph.sdk.proto.AccountAmount;
+import com.hedera.hashgraph.sdk.proto.AccountID;
+import com.hedera.hashgraph.sdk.proto.ResponseCodeEnum;
+import com.hedera.hashgraph.sdk.proto.Timestamp;
+import com.hedera.hashgraph.sdk.proto.TokenID;
+import com.hedera.hashgraph.sdk.proto.TokenTransferList;
+import com.hedera.hashgraph.sdk.proto.TransferList;
+import io.github.manishdait.sdk.Status;
+import io.github.manishdait.sdk.account.AccountId;
+import io.github.manishdait.sdk.token.TokenId;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class TransactionRecordTest {
+  private static final com.hedera.hashgraph.sdk.proto.TransactionRecord RECORD =
+      com.hedera.hashgraph.sdk.proto.TransactionRecord.newBuilder()
+          .setReceipt(
+              com.hedera.hashgraph.sdk.proto.TransactionReceipt.newBuilder()
+                  .setStatus(ResponseCodeEnum.SUCCESS))
+          .setConsensusTimestamp(Timestamp.newBuilder().setSeconds(1_700_000_000L).setNanos(5))
+          .setMemo("payroll")
+          .setTransactionFee(12_345L)
+          .setTransferList(
+              TransferList.newBuilder()
+                  .addAccountAmounts(amount(1001, -100))
+                  .addAccountAmounts(amount(2002, 60))
+                  .addAccountAmounts(amount(2002, 40)))
+          .addTokenTransferLists(
+              TokenTransferList.newBuilder()
+                  .setToken(TokenID.newBuilder().setTokenNum(4242))
+                  .addTransfers(amount(1001, -7))
+                  .addTransfers(amount(2002, 7)))
+          .build();
+
+  @Test
+  void shouldDecodeFields() {
+    final var record = TransactionRecord.fromProto(RECORD);
+
+    assertThat(record.getReceipt().status()).isEqualTo(Status.SUCCESS);
+    assertThat(record.getConsensusTimestamp()).isEqualTo(Instant.ofEpochSecond(1_700_000_000L, 5));
+    assertThat(record.getParentConsensusTimestamp()).isNull();
+    assertThat(record.getTransactionMemo()).isEqualTo("payroll");
+    assertThat(record.getTransactionFee().getValueInTinybar()).isEqualTo(12_345L);
+    assertThat(record.getScheduleRef()).isNull();
+  }
+
+  @Test
+  void shouldNetTransfersPerAccount() {
+    final var record = TransactionRecord.fromProto(RECORD);
+
+    assertThat(record.getHbarTransfers())
+        .containsExactly(
+            Map.entry(new AccountId(0, 0, 1001), -100L),
+            Map.entry(new AccountId(0, 0, 2002), 100L));
+    assertThat(record.getTokenTransfers().get(new TokenId(0, 0, 4242)))
+        .containsEntry(new AccountId(0, 0, 1001), -7L)
+        .containsEntry(new AccountId(0, 0, 2002), 7L);
+    assertThat(record.getHbarTransfers()).isSameAs(record.getHbarTransfers());
+  }
+
+  @Test
+  void shouldParseBytesOnFirstAccess() {
+    final var record = TransactionRecord.fromBytes(RECORD.toByteArray());
+
+    assertThat(record.toBytes()).isEqualTo(RECORD.toByteString());
+    assertThat(record.toProto()).isEqualTo(RECORD);
+    assertThat(record.getHbarTransfers()).hasSize(2);
+  }
+
+  @Test
+  void shouldReportInvalidBytesOnAccess() {
+    final var record = TransactionRecord.fromBytes(ByteString.copyFrom(new byte[] {(byte) 0xff}));
+
+    assertThatThrownBy(record::getReceipt).isInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  void shouldWrapChildRecords() {
+    final var child = RECORD.toBuilder().setMemo("child").build();
+    final var record = TransactionRecord.fromProto(RECORD, List.of(child, child), List.of());
+
+    assertThat(record.getChildren()).hasSize(2);
+    assertThat(record.getChildren().get(0).getTransactionMemo()).isEqualTo("child");
+    assertThat(record.getChildren()).isSameAs(record.getChildren());
+    assertThat(record.getDuplicates()).isEmpty();
+  }
+
+  private static AccountAmount amount(final long account, final long amount) {
+    return AccountAmount.newBuilder()
+        .setAccountID(AccountID.newBuilder().setAccountNum(account))
+        .setAmount(amount)
+        .build();
+  }
+}
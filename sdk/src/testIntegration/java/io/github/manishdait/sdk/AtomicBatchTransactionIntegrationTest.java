@@ -0,0 +1,48 @@
+package io.github.manishdait.sdk;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+import io.github.manishdait.sdk.account.AccountCreateTransaction;
+import io.github.manishdait.sdk.account.TransferTransaction;
+import io.github.manishdait.sdk.key.PrivateKey;
+import io.github.manishdait.sdk.transaction.AtomicBatchTransaction;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class AtomicBatchTransactionIntegrationTest {
+  Client client;
+
+  @BeforeEach
+  void setup() {
+    client = Client.fromEnv();
+  }
+
+  @Test
+  void shouldExecuteInnerTransactionsAtomically() {
+    var batchKey = client.getOperatorAccount().publicKey();
+
+    var receipt =
+        new AccountCreateTransaction()
+            .withKey(PrivateKey.generate())
+            .withInitialBalance(Hbar.of(1))
+            .pack(client)
+            .send()
+            .queryReceipt();
+
+    var transfer =
+        new TransferTransaction()
+            .addHbarTransfer(client.getOperatorAccountId(), Hbar.fromTinybar(-100))
+            .addHbarTransfer(receipt.accountId(), Hbar.fromTinybar(100))
+            .withBatchKey(batchKey)
+            .pack(client);
+
+    var batchReceipt =
+        new AtomicBatchTransaction()
+            .addInnerTransaction(transfer)
+            .pack(client)
+            .send()
+            .queryReceipt();
+
+    assertThat(batchReceipt.status()).isEqualTo(Status.SUCCESS);
+  }
+}
@@ -0,0 +1,32 @@
+package io.github.manishdait.sdk;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+import io.github.manishdait.sdk.file.FileCreateTransaction;
+import java.io.ByteArrayInputStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class FileCreateTransactionIntegrationTest {
+  Client client;
+
+  @BeforeEach
+  void setup() {
+    client = Client.fromEnv();
+  }
+
+  @Test
+  void shouldCreateFileFromStream() {
+    var contents = new byte[64 * 1024];
+
+    var receipt =
+        new FileCreateTransaction()
+            .withKeys(client.getOperatorAccount().publicKey())
+            .withContents(new ByteArrayInputStream(contents))
+            .withFileMemo("sdk:integration:test")
+            .send(client);
+
+    assertThat(receipt.status()).isEqualTo(Status.SUCCESS);
+    assertThat(receipt.fileId()).isNotNull();
+  }
+}
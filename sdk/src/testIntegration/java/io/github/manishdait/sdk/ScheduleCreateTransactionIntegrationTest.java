@@ -0,0 +1,37 @@
+package io.github.manishdait.sdk;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+import io.github.manishdait.sdk.account.AccountId;
+import io.github.manishdait.sdk.account.TransferTransaction;
+import io.github.manishdait.sdk.schedule.ScheduleCreateTransaction;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ScheduleCreateTransactionIntegrationTest {
+  Client client;
+
+  @BeforeEach
+  void setup() {
+    client = Client.fromEnv();
+  }
+
+  @Test
+  void shouldScheduleTransfer() {
+    var transfer =
+        new TransferTransaction()
+            .addHbarTransfer(client.getOperatorAccountId(), -1)
+            .addHbarTransfer(new AccountId(0, 0, 3), 1);
+
+    var packed =
+        new ScheduleCreateTransaction()
+            .withScheduledTransaction(transfer)
+            .withScheduleMemo("sdk:integration:test")
+            .pack(client);
+    packed.signWithOperator();
+    var receipt = packed.send().queryReceipt();
+
+    assertThat(receipt.status()).isEqualTo(Status.SUCCESS);
+    assertThat(receipt.scheduleId()).isNotNull();
+  }
+}
@@ -0,0 +1,46 @@
+package io.github.manishdait.sdk;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+import io.github.manishdait.sdk.token.NftMintPlanner;
+import io.github.manishdait.sdk.token.TokenCreateTransaction;
+import io.github.manishdait.sdk.token.TokenType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TokenCreateTransactionIntegrationTest {
+  Client client;
+
+  @BeforeEach
+  void setup() {
+    client = Client.fromEnv();
+  }
+
+  @Test
+  void shouldCreateAndBulkMintNftToken() {
+    var key = client.getOperatorAccount().publicKey();
+
+    var packed =
+        new TokenCreateTransaction()
+            .withTokenName("sdk integration")
+            .withTokenSymbol("SDKI")
+            .withTokenType(TokenType.NON_FUNGIBLE_UNIQUE)
+            .withAdminKey(key)
+            .withSupplyKey(key)
+            .pack(client);
+    packed.signWithOperator();
+    var receipt = packed.send().queryReceipt();
+
+    assertThat(receipt.status()).isEqualTo(Status.SUCCESS);
+    assertThat(receipt.tokenId()).isNotNull();
+
+    var planner = new NftMintPlanner(receipt.tokenId());
+    for (int i = 0; i < 25; i++) {
+      planner.addMetadata(("sdk:integration:" + i).getBytes());
+    }
+
+    var serials =
+        planner.send(client).stream().mapToLong(mint -> mint.serialNumbers().size()).sum();
+    assertThat(serials).isEqualTo(25L);
+  }
+}
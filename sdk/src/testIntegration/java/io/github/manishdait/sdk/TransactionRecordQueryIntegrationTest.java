@@ -0,0 +1,42 @@
+package io.github.manishdait.sdk;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+import io.github.manishdait.sdk.account.AccountId;
+import io.github.manishdait.sdk.account.TransferTransaction;
+import io.github.manishdait.sdk.query.TransactionRecordQuery;
+import io.github.manishdait.sdk.transaction.TransactionId;
+import java.util.ArrayList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TransactionRecordQueryIntegrationTest {
+  Client client;
+
+  @BeforeEach
+  void setup() {
+    client = Client.fromEnv();
+  }
+
+  @Test
+  void shouldFetchRecordsAcrossNodes() {
+    var transactionIds = new ArrayList<TransactionId>();
+    for (int i = 0; i < 5; i++) {
+      var response =
+          new TransferTransaction()
+              .addHbarTransfer(client.getOperatorAccountId(), -1)
+              .addHbarTransfer(new AccountId(0, 0, 3), 1)
+              .pack(client)
+              .send();
+      transactionIds.add(response.transactionId());
+    }
+
+    var records = new TransactionRecordQuery().queryAll(client, transactionIds);
+
+    assertThat(records.size()).isEqualTo(5);
+    for (var record : records) {
+      assertThat(record.getReceipt().status()).isEqualTo(Status.SUCCESS);
+      assertThat(record.getHbarTransfers().get(new AccountId(0, 0, 3)) > 0).isTrue();
+    }
+  }
+}